@@ -0,0 +1,283 @@
+package benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import model.BoardSpec;
+import model.Cell;
+import model.Game;
+import model.GameBoard;
+import model.NeighbourCounter;
+import model.Question;
+import model.RevealResult;
+
+/**
+ * Benchmarks for the board hot paths: generation, cascades, mine counts and the win check.
+ *
+ * @author Team Sloth
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmarks {
+
+    /**
+     * Looks up a board layout by name: a difficulty, or CUSTOM_n for an n x n board
+     * with 15% mines.
+     */
+    static BoardSpec layout(String name) {
+        if (name.startsWith("CUSTOM_")) {
+            int size = Integer.parseInt(name.substring("CUSTOM_".length()));
+            return BoardSpec.withDensity(size, size, 0.15, 6, 2);
+        }
+        return Game.Difficulty.valueOf(name).getBoardSpec();
+    }
+
+    static List<Question> questions() {
+        List<Question> questions = new ArrayList<>();
+        for (int id = 1; id <= 20; id++) {
+            questions.add(new Question(id, "Question " + id, 1 + id % 4, "a", "b", "c", "d", "A"));
+        }
+        return questions;
+    }
+
+    @State(Scope.Thread)
+    public static class AllocateState {
+        @Param({ "EASY", "MEDIUM", "HARD", "CUSTOM_64", "CUSTOM_256", "CUSTOM_1024" })
+        public String layout;
+
+        BoardSpec spec;
+        GameBoard board;
+        List<Question> questions;
+        SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            spec = layout(layout);
+            board = new GameBoard(spec.getRows(), spec.getCols(), spec.getTopology());
+            questions = questions();
+            random = new SplittableRandom(42);
+        }
+    }
+
+    /**
+     * Generates a complete board (mines, special cells, counts, questions) in place.
+     */
+    @Benchmark
+    public GameBoard allocateCells(AllocateState state) {
+        state.board.allocateCells(state.spec, state.questions, state.random.split());
+        return state.board;
+    }
+
+    @State(Scope.Thread)
+    public static class PlayedBoardState {
+        @Param({ "EASY", "HARD", "CUSTOM_256" })
+        public String layout;
+
+        GameBoard board;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            BoardSpec spec = layout(layout);
+            board = new GameBoard(spec.getRows(), spec.getCols(), spec.getTopology());
+            board.allocateCells(spec, questions(), new SplittableRandom(42));
+            board.revealCell(spec.getRows() / 2, spec.getCols() / 2);
+        }
+    }
+
+    /**
+     * Reads the adjacent mine count of every cell on the board.
+     */
+    @Benchmark
+    public int countAdjacentMines(PlayedBoardState state) {
+        GameBoard board = state.board;
+        int sum = 0;
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int col = 0; col < board.getCols(); col++) {
+                sum += board.countAdjacentMines(row, col);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public boolean isGameWon(PlayedBoardState state) {
+        return state.board.isGameWon();
+    }
+
+    // Reveals per timed batch in the single-shot benchmarks below
+    static final int CASCADE_BATCH = 16;
+    static final int FLOOD_FILL_BATCH = 4;
+
+    /**
+     * A batch of fresh boards for every iteration, so each reveal is a first click that
+     * labels the board's zero regions and opens a large one through the index.
+     * <p>
+     * A reveal changes its board, so each one needs a board of its own. Generating it
+     * per invocation would put the set-up's timestamps around a call of a few
+     * microseconds, and measure mostly the harness; instead a batch of boards is made
+     * before each iteration and the whole batch is timed as one shot.
+     */
+    @State(Scope.Thread)
+    public static class CascadeState {
+        @Param({ "64", "256", "1024" })
+        public int size;
+
+        GameBoard[] boards;
+        int next;
+        RevealResult result;
+        SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUpTrial() {
+            result = new RevealResult();
+            random = new SplittableRandom(42);
+        }
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            BoardSpec spec = BoardSpec.withDensity(size, size, 0.08, 0, 0);
+            boards = new GameBoard[CASCADE_BATCH];
+            for (int i = 0; i < boards.length; i++) {
+                boards[i] = new GameBoard(size, size);
+                boards[i].allocateCells(spec, new ArrayList<>(), random.split());
+                boards[i].setFirstClickOpening(true);
+            }
+            next = 0;
+        }
+    }
+
+    /**
+     * Reveals the centre of each board in a batch. The score is the time of the batch.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 20, batchSize = CASCADE_BATCH)
+    @Measurement(iterations = 50, batchSize = CASCADE_BATCH)
+    public int revealCascade(CascadeState state) {
+        return state.boards[state.next++].revealCell(state.size / 2, state.size / 2, state.result).size();
+    }
+
+    /**
+     * A region made unopenable by a flag inside it, so the reveal flood-fills; the
+     * threshold decides between the sequential fill and the parallel frontier fill.
+     * Used to find the board size where the parallel fill starts to pay off. Boards are
+     * made in batches per iteration, as in {@link CascadeState}.
+     */
+    @State(Scope.Thread)
+    public static class FloodFillState {
+        @Param({ "256", "512", "1024", "2048" })
+        public int size;
+
+        @Param({ "SEQUENTIAL", "PARALLEL" })
+        public String fill;
+
+        GameBoard[] boards;
+        int[] rows;
+        int[] cols;
+        int next;
+        RevealResult result;
+        SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUpTrial() {
+            result = new RevealResult();
+            random = new SplittableRandom(42);
+        }
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            BoardSpec spec = BoardSpec.withDensity(size, size, 0.05, 0, 0);
+            boards = new GameBoard[FLOOD_FILL_BATCH];
+            rows = new int[FLOOD_FILL_BATCH];
+            cols = new int[FLOOD_FILL_BATCH];
+            for (int i = 0; i < boards.length; i++) {
+                boards[i] = new GameBoard(size, size);
+                boards[i].allocateCells(spec, new ArrayList<>(), random.split());
+                boards[i].setParallelCascadeThreshold("PARALLEL".equals(fill) ? 0 : Integer.MAX_VALUE);
+                flagInsideRegion(i);
+            }
+            next = 0;
+        }
+
+        /**
+         * Two adjacent empty cells share a region: flag one, and keep the other to reveal.
+         * An empty first click moves no mines, so the layout and its index stay as generated.
+         */
+        private void flagInsideRegion(int i) {
+            GameBoard board = boards[i];
+            for (int r = size / 2; r < size; r++) {
+                for (int c = 0; c + 1 < size; c++) {
+                    if (board.getCell(r, c).getType() == Cell.CellType.EMPTY
+                            && board.getCell(r, c + 1).getType() == Cell.CellType.EMPTY) {
+                        board.flagCell(r, c + 1);
+                        rows[i] = r;
+                        cols[i] = c;
+                        return;
+                    }
+                }
+            }
+            throw new IllegalStateException("No empty pair on the board");
+        }
+    }
+
+    /**
+     * Flood-fills each board in a batch. The score is the time of the batch.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 20, batchSize = FLOOD_FILL_BATCH)
+    @Measurement(iterations = 50, batchSize = FLOOD_FILL_BATCH)
+    public int floodFill(FloodFillState state) {
+        int i = state.next++;
+        return state.boards[i].revealCell(state.rows[i], state.cols[i], state.result).size();
+    }
+
+    @State(Scope.Thread)
+    public static class NeighbourCountState {
+        @Param({ "64", "256", "1024" })
+        public int size;
+
+        long[] plane;
+        byte[] counts;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            plane = NeighbourCounter.newPlane(size, size);
+            counts = new byte[size * size];
+            SplittableRandom random = new SplittableRandom(42);
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    if (random.nextDouble() < 0.2) {
+                        NeighbourCounter.set(plane, size, row, col);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Neighbour counts over a bit plane, 64 cells per word operation.
+     */
+    @Benchmark
+    public void neighbourCountWords(NeighbourCountState state, Blackhole blackhole) {
+        NeighbourCounter.count(state.plane, state.size, state.size, state.counts);
+        blackhole.consume(state.counts);
+    }
+
+    /**
+     * The same counts, one cell at a time.
+     */
+    @Benchmark
+    public void neighbourCountScalar(NeighbourCountState state, Blackhole blackhole) {
+        NeighbourCounter.countScalar(state.plane, state.size, state.size, state.counts);
+        blackhole.consume(state.counts);
+    }
+}
@@ -0,0 +1,159 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import controller.GameEngine;
+import controller.MoveOutcome;
+import controller.QuestionLogic;
+import controller.ScoringService;
+import model.BoardSpec;
+import model.Cell;
+import model.Game;
+import model.GameBoard;
+import model.Question;
+import model.QuestionCell;
+
+/**
+ * Throughput of headless moves through {@link GameEngine}: reveals, flags and question
+ * activations, including turn checks, scoring and the win check. Scores are per move.
+ * <p>
+ * Each invocation plays a batch of moves on a fresh 512x512 game, so no move repeats
+ * one already played. The game is set up per invocation, outside the measured time; a
+ * batch takes milliseconds, so the per-invocation set-up does not distort the timing
+ * the way it would for a single move.
+ *
+ * @author Team Sloth
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EngineBenchmarks {
+
+    static final int SIZE = 512;
+    static final int MOVES = 20_000;
+    static final int QUESTION_MOVES = 1_000;
+
+    @State(Scope.Thread)
+    public static class EngineState {
+        QuestionLogic questionLogic;
+        BoardSpec spec;
+        long seed;
+
+        Game game;
+        GameEngine engine;
+        // Per player (index 1 and 2): hidden number cells and revealed unopened question cells
+        int[][] numbers = new int[3][];
+        int[][] questions = new int[3][];
+
+        @Setup(Level.Trial)
+        public void setUpTrial() {
+            questionLogic = new QuestionLogic();
+            for (Question question : BoardBenchmarks.questions()) {
+                questionLogic.addQuestion(question);
+            }
+            spec = BoardSpec.withDensity(SIZE, SIZE, 0.15, QUESTION_MOVES, 0);
+        }
+
+        /**
+         * A game after both first clicks, with every question cell revealed so it can be
+         * activated, and the hidden number cells listed for reveals.
+         */
+        @Setup(Level.Invocation)
+        public void setUp() {
+            seed++;
+            game = new Game("Player 1", "Player 2", Game.Difficulty.HARD, spec, questionLogic, seed);
+            engine = new GameEngine(game, new ScoringService(null, new Random(seed)));
+            engine.reveal(1, SIZE / 2, SIZE / 2);
+            engine.reveal(2, SIZE / 2, SIZE / 2);
+            for (int player = 1; player <= 2; player++) {
+                GameBoard board = game.getBoard(player);
+                // Question cells cascade, so they are opened before the numbers are listed
+                questions[player] = cells(board, Cell.CellType.QUESTION, false);
+                for (int index : questions[player]) {
+                    board.revealCell(index / SIZE, index % SIZE);
+                }
+                questions[player] = cells(board, Cell.CellType.QUESTION, true);
+                numbers[player] = cells(board, Cell.CellType.NUMBER, false);
+            }
+        }
+
+        private static int[] cells(GameBoard board, Cell.CellType type, boolean revealed) {
+            int[] found = new int[SIZE * SIZE];
+            int count = 0;
+            for (int index = 0; index < SIZE * SIZE; index++) {
+                Cell cell = board.getCell(index / SIZE, index % SIZE);
+                if (cell.getType() == type && cell.isRevealed() == revealed) {
+                    found[count++] = index;
+                }
+            }
+            return Arrays.copyOf(found, count);
+        }
+    }
+
+    /**
+     * Reveals number cells, which open only themselves, alternating between the players.
+     */
+    @Benchmark
+    @OperationsPerInvocation(MOVES)
+    public int reveal(EngineState state) {
+        GameEngine engine = state.engine;
+        Game game = state.game;
+        int[] next = new int[3];
+        int played = 0;
+        for (int move = 0; move < MOVES; move++) {
+            int player = game.getCurrentPlayer();
+            int index = state.numbers[player][next[player]++];
+            if (engine.reveal(player, index / SIZE, index % SIZE).isPlayed()) {
+                played++;
+            }
+        }
+        return played;
+    }
+
+    /**
+     * Toggles flags on hidden cells; a flag keeps the turn, so all moves are player 1's.
+     */
+    @Benchmark
+    @OperationsPerInvocation(MOVES)
+    public int flag(EngineState state) {
+        GameEngine engine = state.engine;
+        int[] cells = state.numbers[1];
+        int flagged = 0;
+        for (int move = 0; move < MOVES; move++) {
+            int index = cells[move % cells.length];
+            if (engine.flag(1, index / SIZE, index % SIZE).getType() == MoveOutcome.Type.FLAGGED) {
+                flagged++;
+            }
+        }
+        return flagged;
+    }
+
+    /**
+     * Activates revealed question cells with the correct answer, alternating between the players.
+     */
+    @Benchmark
+    @OperationsPerInvocation(QUESTION_MOVES)
+    public int activateQuestion(EngineState state) {
+        GameEngine engine = state.engine;
+        Game game = state.game;
+        int[] next = new int[3];
+        int played = 0;
+        for (int move = 0; move < QUESTION_MOVES; move++) {
+            int player = game.getCurrentPlayer();
+            int index = state.questions[player][next[player]++];
+            int row = index / SIZE;
+            int col = index % SIZE;
+            Question question = ((QuestionCell) game.getBoard(player).getCell(row, col)).getQuestion();
+            if (engine.activateQuestion(player, row, col, question.getCorrectAnswer()).isPlayed()) {
+                played++;
+            }
+        }
+        return played;
+    }
+}
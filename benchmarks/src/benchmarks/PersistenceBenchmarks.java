@@ -0,0 +1,84 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import controller.HistoryManager;
+import controller.QuestionLogic;
+import model.Game;
+import model.GameHistory;
+
+/**
+ * Benchmarks for the CSV files: the question bank and the game history at 10^3 to 10^6 rows.
+ * History files are written to a temporary directory, never to the real GameHistory.csv.
+ *
+ * @author Team Sloth
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceBenchmarks {
+
+    @State(Scope.Thread)
+    public static class HistoryState {
+        @Param({ "1000", "10000", "100000", "1000000" })
+        public int rows;
+
+        File directory;
+        HistoryManager manager;
+        List<GameHistory> history;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("sloth-history").toFile();
+            manager = new HistoryManager(new File(directory, "GameHistory.csv"));
+            Game.Difficulty[] difficulties = Game.Difficulty.values();
+            LocalDate date = LocalDate.of(2026, 1, 1);
+            history = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                Game.Difficulty difficulty = difficulties[i % difficulties.length];
+                history.add(new GameHistory(difficulty, date.plusDays(i % 365), 60 + i % 900,
+                        "Player " + i, "Partner " + i, i % 200 - 50, i % 10,
+                        difficulty.getBoardSpec(), (long) i * 7919));
+            }
+            manager.saveGameHistoryToCSV(history);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            new File(directory, "GameHistory.csv").delete();
+            directory.delete();
+        }
+    }
+
+    @Benchmark
+    public List<GameHistory> loadGameHistory(HistoryState state) {
+        return state.manager.loadGameHistoryFromCSV();
+    }
+
+    @Benchmark
+    public HistoryManager saveGameHistory(HistoryState state) {
+        state.manager.saveGameHistoryToCSV(state.history);
+        return state.manager;
+    }
+
+    /**
+     * Loads the question bank the game itself loads (Questions.csv in the working directory).
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public QuestionLogic loadQuestions() {
+        QuestionLogic questionLogic = new QuestionLogic();
+        questionLogic.loadQuestionsFromCSV("resources/Questions.csv");
+        return questionLogic;
+    }
+}
@@ -0,0 +1,251 @@
+package controller;
+
+import model.BoardSpec;
+import model.GeneratedBoards;
+import model.NoGuessGenerator;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps a small, bounded stock of pre-generated boards per board spec so that starting a
+ * game does not have to generate boards on the Event Dispatch Thread.
+ * <p>
+ * A single background worker refills each spec's queue up to its capacity. Taking boards
+ * is a queue poll; if the queue is empty (a miss), the boards are generated synchronously
+ * instead, so a game can always start. Hits and misses are counted to tune the capacity.
+ * <p>
+ * Ordinary boards and no-guess boards (see {@link NoGuessGenerator}) are kept in separate
+ * queues, and a queue is only filled once its spec and mode were asked for. No-guess
+ * boards can take seconds to generate, so a caller on the Event Dispatch Thread should
+ * {@link #poll(BoardSpec, boolean)} for them and take them off that thread on a miss.
+ */
+public class BoardPool {
+
+    // Longest a no-guess search may take per board before it settles for an ordinary one
+    private static final long NO_GUESS_BUDGET_MILLIS = 1000;
+
+    private final int capacity;
+    private final Map<PoolKey, BlockingQueue<GeneratedBoards>> pools;
+    private final NoGuessGenerator noGuessGenerator;
+    private final ExecutorService worker;
+    private final SplittableRandom seeds;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+
+    /**
+     * Creates a pool that keeps up to {@code capacity} ready boards per spec.
+     *
+     * @param capacity Maximum number of pre-generated games per spec (at least 1)
+     */
+    public BoardPool(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Pool capacity must be at least 1: " + capacity);
+        }
+        this.capacity = capacity;
+        this.pools = new ConcurrentHashMap<>();
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "board-pool");
+            thread.setDaemon(true); // Never keeps the application alive
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        this.noGuessGenerator = new NoGuessGenerator(ForkJoinPool.commonPool(), NO_GUESS_BUDGET_MILLIS);
+        this.seeds = new SplittableRandom();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+    }
+
+    /**
+     * Starts filling the pool for a spec in the background.
+     *
+     * @param spec The board spec to keep ready
+     */
+    public void prefill(BoardSpec spec) {
+        prefill(spec, false);
+    }
+
+    /**
+     * Starts filling the pool for a spec and generation mode in the background.
+     *
+     * @param spec The board spec to keep ready
+     * @param noGuess true to keep boards that can be solved without guessing
+     */
+    public void prefill(BoardSpec spec, boolean noGuess) {
+        scheduleRefill(new PoolKey(spec, noGuess));
+    }
+
+    /**
+     * Takes ready boards for a spec, or generates them on the calling thread if none are ready.
+     * Either way a background refill is scheduled.
+     *
+     * @param spec The board spec of the new game
+     * @return Boards that no other caller has received
+     */
+    public GeneratedBoards take(BoardSpec spec) {
+        return take(spec, false);
+    }
+
+    /**
+     * Takes ready boards for a spec and generation mode if there are any. Unlike
+     * {@link #take(BoardSpec, boolean)}, an empty queue is not counted as a miss and
+     * nothing is generated, so the caller can generate off its own thread instead.
+     *
+     * @param spec The board spec of the new game
+     * @param noGuess true for boards that can be solved without guessing
+     * @return Boards that no other caller has received, or null if none are ready
+     */
+    public GeneratedBoards poll(BoardSpec spec, boolean noGuess) {
+        PoolKey key = new PoolKey(spec, noGuess);
+        GeneratedBoards boards = queueFor(key).poll();
+        if (boards != null) {
+            hits.incrementAndGet();
+            scheduleRefill(key);
+        }
+        return boards;
+    }
+
+    /**
+     * Takes ready boards for a spec and generation mode, or generates them on the calling
+     * thread if none are ready. Either way a background refill is scheduled. A no-guess
+     * miss searches for up to a second per board, so it must not run on the Event
+     * Dispatch Thread.
+     *
+     * @param spec The board spec of the new game
+     * @param noGuess true for boards that can be solved without guessing
+     * @return Boards that no other caller has received
+     */
+    public GeneratedBoards take(BoardSpec spec, boolean noGuess) {
+        PoolKey key = new PoolKey(spec, noGuess);
+        GeneratedBoards boards = queueFor(key).poll();
+        if (boards != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            boards = generate(key);
+        }
+        scheduleRefill(key);
+        return boards;
+    }
+
+    /**
+     * Queues a task on the worker that generates boards until the queue is full.
+     */
+    private void scheduleRefill(PoolKey key) {
+        BlockingQueue<GeneratedBoards> queue = queueFor(key);
+        if (queue.remainingCapacity() == 0 || worker.isShutdown()) {
+            return;
+        }
+        worker.execute(() -> {
+            // Only this worker adds to the queue, so checking before generating never overfills it
+            while (queue.remainingCapacity() > 0 && !worker.isShutdown()) {
+                queue.offer(generate(key));
+            }
+        });
+    }
+
+    private GeneratedBoards generate(PoolKey key) {
+        return key.noGuess
+                ? GeneratedBoards.generateNoGuess(key.spec, nextSeed(), noGuessGenerator)
+                : GeneratedBoards.generate(key.spec, nextSeed());
+    }
+
+    private BlockingQueue<GeneratedBoards> queueFor(PoolKey key) {
+        return pools.computeIfAbsent(key, k -> new ArrayBlockingQueue<>(capacity));
+    }
+
+    /**
+     * Identifies a queue: a board spec and whether its boards are no-guess boards.
+     */
+    private static final class PoolKey {
+        private final BoardSpec spec;
+        private final boolean noGuess;
+
+        PoolKey(BoardSpec spec, boolean noGuess) {
+            this.spec = spec;
+            this.noGuess = noGuess;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof PoolKey && spec.equals(((PoolKey) other).spec)
+                    && noGuess == ((PoolKey) other).noGuess;
+        }
+
+        @Override
+        public int hashCode() {
+            return spec.hashCode() * 31 + (noGuess ? 1 : 0);
+        }
+    }
+
+    /**
+     * Draws a fresh seed. SplittableRandom is not thread-safe, so the draw is synchronized.
+     */
+    private synchronized long nextSeed() {
+        return seeds.nextLong();
+    }
+
+    /**
+     * Gets the number of ready ordinary boards for a spec.
+     *
+     * @param spec The board spec
+     * @return The number of games that can start without generating boards
+     */
+    public int getReadyCount(BoardSpec spec) {
+        return getReadyCount(spec, false);
+    }
+
+    /**
+     * Gets the number of ready boards for a spec and generation mode.
+     *
+     * @param spec The board spec
+     * @param noGuess true for no-guess boards
+     * @return The number of games that can start without generating boards
+     */
+    public int getReadyCount(BoardSpec spec, boolean noGuess) {
+        BlockingQueue<GeneratedBoards> queue = pools.get(new PoolKey(spec, noGuess));
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * Gets the number of takes served from the pool.
+     *
+     * @return The hit count
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of takes that had to generate boards synchronously.
+     *
+     * @return The miss count
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the fraction of takes served from the pool.
+     *
+     * @return The hit rate (0.0 to 1.0), or 0.0 if nothing was taken yet
+     */
+    public double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+
+    /**
+     * Stops the background worker. Boards can still be taken, but are no longer refilled.
+     */
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+}
@@ -0,0 +1,128 @@
+package controller;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.swing.SwingUtilities;
+import model.Game;
+
+/**
+ * Runs a {@link BotPlayer} in a {@link GameController}. The bot decides on a thread of
+ * its own, within a time budget per move, and its move is played on the event dispatch
+ * thread through the controller, as a click would be.
+ * <p>
+ * Every decision carries a token; pausing or stopping the driver changes the token and
+ * interrupts the decision, so a move decided before a pause is dropped instead of
+ * played. If deciding fails, the failure is reported through the controller and the bot
+ * reveals a random cell instead, so its seat never stalls. All methods are called on
+ * the event dispatch thread.
+ *
+ * @author Team Sloth
+ */
+final class BotDriver {
+
+    private final GameController controller;
+    private final BotPlayer bot;
+    private final long moveBudgetNanos;
+    private final ExecutorService thinker;
+    private Future<?> thinking;
+    private int token;
+    private boolean paused;
+    private boolean stopped;
+
+    /**
+     * Constructs a new BotDriver.
+     *
+     * @param controller The controller to play the bot's moves through
+     * @param bot The bot to run
+     * @param moveBudgetMillis The longest the bot may think about a move, in milliseconds
+     */
+    BotDriver(GameController controller, BotPlayer bot, long moveBudgetMillis) {
+        this.controller = controller;
+        this.bot = bot;
+        this.moveBudgetNanos = TimeUnit.MILLISECONDS.toNanos(moveBudgetMillis);
+        this.thinker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Bot player " + bot.getPlayer());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts deciding a move if it is the bot's turn and the bot is not already deciding one.
+     */
+    void moveIfDue() {
+        Game game = controller.getGame();
+        if (paused || stopped || thinking != null || game.isGameOver()
+                || game.getCurrentPlayer() != bot.getPlayer()) {
+            return;
+        }
+        int moveToken = ++token;
+        long deadline = System.nanoTime() + moveBudgetNanos;
+        thinking = thinker.submit(() -> {
+            BotPlayer.Move move = null;
+            RuntimeException failure = null;
+            try {
+                move = bot.decide(game, deadline);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            BotPlayer.Move decided = move;
+            RuntimeException failed = failure;
+            SwingUtilities.invokeLater(() -> play(moveToken, decided, failed));
+        });
+    }
+
+    /**
+     * Plays a decided move, unless the driver was paused or stopped since it was started.
+     * A failed decision is reported and replaced by a random reveal.
+     */
+    private void play(int moveToken, BotPlayer.Move move, RuntimeException failure) {
+        if (moveToken != token) {
+            return;
+        }
+        thinking = null;
+        if (failure != null) {
+            controller.reportBotFailure(bot.getPlayer(), failure);
+            move = bot.guess(controller.getGame());
+        }
+        if (move != null) {
+            // The controller asks for the next move once this one is handled
+            controller.playBotMove(bot.getPlayer(), move);
+        }
+    }
+
+    /**
+     * Pauses the bot, abandoning the move it is deciding.
+     */
+    void pause() {
+        paused = true;
+        cancel();
+    }
+
+    /**
+     * Resumes a paused bot, which moves again if it is its turn.
+     */
+    void resume() {
+        paused = false;
+        moveIfDue();
+    }
+
+    /**
+     * Stops the bot for good and ends its thread.
+     */
+    void stop() {
+        stopped = true;
+        cancel();
+        thinker.shutdownNow();
+    }
+
+    private void cancel() {
+        token++;
+        if (thinking != null) {
+            thinking.cancel(true);
+            thinking = null;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package controller;
+
+import java.util.SplittableRandom;
+import model.*;
+
+/**
+ * A computer player for one seat of a {@link Game}. It decides its moves from what it
+ * can see of its own board, as a human would: it activates the question and surprise
+ * cells it has found, flags the cells a {@link BoardSolver} proves to be mines, and
+ * otherwise reveals the hidden cell least likely to be a mine. Questions are answered
+ * correctly with a configurable probability.
+ * <p>
+ * Deciding is separate from playing, so a user interface can decide off the event
+ * thread and play the move through its own handlers ({@link BotDriver}), while
+ * {@link #play(GameEngine)} plays headlessly. A bot is deterministic for a seed as long
+ * as it is given no deadline: with one, a timed-out analysis falls back to a random
+ * hidden cell, and when that happens depends on the machine.
+ *
+ * @author Team Sloth
+ */
+public class BotPlayer {
+
+    private static final String[] ANSWERS = { "A", "B", "C", "D" };
+
+    /**
+     * A move chosen by a bot.
+     */
+    public static final class Move {
+
+        /**
+         * What a move does.
+         */
+        public enum Kind {
+            REVEAL,
+            FLAG,
+            ACTIVATE_QUESTION,
+            ACTIVATE_SURPRISE
+        }
+
+        private final Kind kind;
+        private final int row;
+        private final int col;
+        private final String answer;
+
+        Move(Kind kind, int row, int col, String answer) {
+            this.kind = kind;
+            this.row = row;
+            this.col = col;
+            this.answer = answer;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public int getRow() {
+            return row;
+        }
+
+        public int getCol() {
+            return col;
+        }
+
+        /**
+         * Gets the answer letter of an ACTIVATE_QUESTION move.
+         *
+         * @return The answer ("A" to "D"), or null for other moves
+         */
+        public String getAnswer() {
+            return answer;
+        }
+
+        @Override
+        public String toString() {
+            return kind + " " + row + "," + col + (answer != null ? " " + answer : "");
+        }
+    }
+
+    private final int player;
+    private final double questionAccuracy;
+    private final SplittableRandom random;
+    // Kept across moves, so each analysis reuses the components the last move did not touch
+    private final BoardSolver solver = new BoardSolver();
+
+    /**
+     * Constructs a new BotPlayer.
+     *
+     * @param player The player number (1 or 2) the bot plays as
+     * @param questionAccuracy The probability that the bot answers a question correctly
+     * @param seed The seed of the bot's random choices
+     */
+    public BotPlayer(int player, double questionAccuracy, long seed) {
+        if (player != 1 && player != 2) {
+            throw new IllegalArgumentException("Player must be 1 or 2: " + player);
+        }
+        if (questionAccuracy < 0.0 || questionAccuracy > 1.0) {
+            throw new IllegalArgumentException("Question accuracy must be between 0 and 1: " + questionAccuracy);
+        }
+        this.player = player;
+        this.questionAccuracy = questionAccuracy;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Gets the player number the bot plays as.
+     *
+     * @return 1 or 2
+     */
+    public int getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the probability that the bot answers a question correctly.
+     *
+     * @return The question accuracy (0.0 to 1.0)
+     */
+    public double getQuestionAccuracy() {
+        return questionAccuracy;
+    }
+
+    /**
+     * Chooses the bot's next move. Reads the bot's board only, so the board must not
+     * change while the bot decides; in a game that holds while it is the bot's turn.
+     *
+     * @param game The game the bot plays in
+     * @param deadlineNanos The {@link System#nanoTime()} by which to stop analysing the
+     *                      board, or {@link Long#MAX_VALUE} for no deadline
+     * @return The move, or null if the game is over, it is not the bot's turn, every
+     *         hidden cell is flagged, or the thread was interrupted while deciding
+     */
+    public Move decide(Game game, long deadlineNanos) {
+        if (game.isGameOver() || game.getCurrentPlayer() != player) {
+            return null;
+        }
+        GameBoard board = game.getBoard(player);
+        int rows = board.getRows();
+        int cols = board.getCols();
+
+        // Cells found on earlier turns are activated first
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                Cell cell = board.getCell(row, col);
+                if (!cell.isRevealed()) {
+                    continue;
+                }
+                if (cell instanceof QuestionCell) {
+                    QuestionCell questionCell = (QuestionCell) cell;
+                    if (!questionCell.isQuestionOpened() && questionCell.getQuestion() != null) {
+                        return new Move(Move.Kind.ACTIVATE_QUESTION, row, col,
+                                answer(questionCell.getQuestion(), questionAccuracy, random));
+                    }
+                } else if (cell instanceof SurpriseCell && !((SurpriseCell) cell).isSurpriseActivated()) {
+                    return new Move(Move.Kind.ACTIVATE_SURPRISE, row, col, null);
+                }
+            }
+        }
+
+        BoardAnalysis analysis = deadlineNanos == Long.MAX_VALUE
+                ? solver.analyze(board) : solver.analyze(board, deadlineNanos);
+        if (analysis == null) {
+            // Out of time: guess
+            return Thread.currentThread().isInterrupted() ? null : guess(game);
+        }
+
+        // Flags keep the turn, so proven mines are marked before the reveal
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (board.getCell(row, col).isHidden()
+                        && analysis.getCertainty(row, col) == BoardAnalysis.Certainty.MINE) {
+                    return new Move(Move.Kind.FLAG, row, col, null);
+                }
+            }
+        }
+        int index = analysis.getSafestCell(board);
+        if (index < 0) {
+            return null; // Every hidden cell is flagged
+        }
+        return new Move(Move.Kind.REVEAL, index / cols, index % cols, null);
+    }
+
+    /**
+     * Chooses a random reveal, without analysing the board. Used when there is no time to
+     * analyse, or when deciding failed.
+     *
+     * @param game The game the bot plays in
+     * @return A reveal of a random unflagged hidden cell, or null if the game is over, it
+     *         is not the bot's turn, or every hidden cell is flagged
+     */
+    Move guess(Game game) {
+        if (game.isGameOver() || game.getCurrentPlayer() != player) {
+            return null;
+        }
+        GameBoard board = game.getBoard(player);
+        int index = randomHiddenCell(board, random);
+        if (index < 0) {
+            return null;
+        }
+        return new Move(Move.Kind.REVEAL, index / board.getCols(), index % board.getCols(), null);
+    }
+
+    /**
+     * Decides and plays one move on an engine, without a deadline.
+     *
+     * @param engine The engine running the bot's game
+     * @return The outcome of the move, or {@link MoveOutcome#IGNORED} if the bot has no move
+     */
+    public MoveOutcome play(GameEngine engine) {
+        Move move = decide(engine.getGame(), Long.MAX_VALUE);
+        if (move == null) {
+            return MoveOutcome.IGNORED;
+        }
+        switch (move.getKind()) {
+            case FLAG:
+                return engine.flag(player, move.getRow(), move.getCol());
+            case ACTIVATE_QUESTION:
+                return engine.activateQuestion(player, move.getRow(), move.getCol(), move.getAnswer());
+            case ACTIVATE_SURPRISE:
+                return engine.activateSurprise(player, move.getRow(), move.getCol());
+            default:
+                return engine.reveal(player, move.getRow(), move.getCol());
+        }
+    }
+
+    /**
+     * Picks the answer of a player who is right with the given probability.
+     *
+     * @param question The question to answer
+     * @param questionAccuracy The probability of answering correctly
+     * @param random The source of the player's choices
+     * @return The answer letter ("A" to "D")
+     */
+    static String answer(Question question, double questionAccuracy, SplittableRandom random) {
+        int correct = Math.max(0, "ABCD".indexOf(Character.toUpperCase(question.getCorrectAnswer().charAt(0))));
+        if (random.nextDouble() < questionAccuracy) {
+            return ANSWERS[correct];
+        }
+        return ANSWERS[(correct + 1 + random.nextInt(3)) % 4];
+    }
+
+    /**
+     * Picks an unflagged hidden cell uniformly at random.
+     *
+     * @param board The board to pick from
+     * @param random The source of the choice
+     * @return The row-major index of the cell, or -1 if no cell is hidden and unflagged
+     */
+    static int randomHiddenCell(GameBoard board, SplittableRandom random) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        // Most of a board is hidden for most of a game, so a few blind tries usually hit
+        for (int attempt = 0; attempt < 16; attempt++) {
+            int index = random.nextInt(rows * cols);
+            if (board.getCell(index / cols, index % cols).isHidden()) {
+                return index;
+            }
+        }
+        int hidden = 0;
+        for (int index = 0; index < rows * cols; index++) {
+            if (board.getCell(index / cols, index % cols).isHidden()) {
+                hidden++;
+            }
+        }
+        if (hidden == 0) {
+            return -1;
+        }
+        int pick = random.nextInt(hidden);
+        for (int index = 0; ; index++) {
+            if (board.getCell(index / cols, index % cols).isHidden() && pick-- == 0) {
+                return index;
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package controller;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import javax.swing.*;
 import model.*;
 import view.GamePanel;
@@ -10,17 +11,24 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 
 /**
- * Controller for managing game logic and interactions between the Game model
- * and GamePanel view. Handles cell reveals, flagging, turn switching, and
- * question cell interactions.
+ * Controller for managing interactions between the Game model and GamePanel view.
+ * The game rules (cell reveals, flagging, turn switching, question and surprise
+ * cells) are applied by a {@link GameEngine}; this controller turns the engine's
+ * outcomes into dialogs, sounds and view updates.
  * 
  * @author Team Sloth
  */
 public class GameController {
     
+    /** Points a hint costs unless changed with {@link #setHintCost(int)} */
+    public static final int DEFAULT_HINT_COST = 3;
+    /** Longest a hint may analyse the board, so a hard board cannot freeze the UI */
+    private static final long HINT_BUDGET_MILLIS = 250;
+    
     private final Game game;
     private final GamePanel gamePanel;
     private final ScoringService scoringService;
+    private final GameEngine engine;
     @SuppressWarnings("unused")
     private final Runnable onReturnToMainMenu;
     private final SoundManager soundManager;
@@ -30,6 +38,12 @@ public class GameController {
     private LocalDateTime pauseStartTime; // When the game was paused
     private long totalPausedDurationSeconds = 0; // Total time paused
     private boolean isPaused = false;
+    // One solver per board, so each keeps the frontier components of its own board cached
+    private final BoardSolver player1Solver = new BoardSolver();
+    private final BoardSolver player2Solver = new BoardSolver();
+    private int hintCost = DEFAULT_HINT_COST;
+    // Indexed by player number; null for a human seat
+    private final BotDriver[] bots = new BotDriver[3];
     
     /**
      * Constructs a new GameController.
@@ -43,6 +57,7 @@ public class GameController {
         this.game = game;
         this.gamePanel = gamePanel;
         this.scoringService = new ScoringService(SysData.getInstance());
+        this.engine = new GameEngine(game, scoringService);
         this.onReturnToMainMenu = onReturnToMainMenu;
         this.soundManager = SoundManager.getInstance();
         this.gameStartTime = LocalDateTime.now(); // Record game start time
@@ -125,6 +140,11 @@ public class GameController {
             if (gameTimer != null) {
                 gameTimer.stop();
             }
+            for (BotDriver bot : bots) {
+                if (bot != null) {
+                    bot.pause();
+                }
+            }
         }
     }
     
@@ -140,6 +160,11 @@ public class GameController {
             if (gameTimer != null) {
                 gameTimer.start();
             }
+            for (BotDriver bot : bots) {
+                if (bot != null) {
+                    bot.resume();
+                }
+            }
         }
     }
     
@@ -159,211 +184,304 @@ public class GameController {
      */
     public void stopTimerForCleanup() {
         stopGameTimer();
+        stopBots();
     }
     
     /**
-     * Handles a cell reveal action initiated by the user.
+     * Hands a seat to a computer player. The bot plays through the same handlers as
+     * clicks, thinks off the event dispatch thread for at most the given time per move,
+     * and is paused with {@link #pauseTimer()}. If it is the bot's turn, it moves at once.
      * 
-     * @param row The row index of the cell
-     * @param col The column index of the cell
-     * @param player The player number (1 or 2) attempting the action
+     * @param player The player number (1 or 2) the bot takes over
+     * @param questionAccuracy The probability that the bot answers a question correctly
+     * @param moveBudgetMillis The longest the bot may think about a move, in milliseconds
+     * @param seed The seed of the bot's random choices
      */
-    public void handleCellReveal(int row, int col, int player) {
-        // Don't allow actions if game is over
-        if (gameOver) {
-            return;
+    public void setBotPlayer(int player, double questionAccuracy, long moveBudgetMillis, long seed) {
+        if (moveBudgetMillis <= 0) {
+            throw new IllegalArgumentException("Move budget must be positive: " + moveBudgetMillis);
         }
-        
-        // Validate that it's the current player's turn
-        if (!game.canRevealCell(row, col, player)) {
-            showMessage("It's not your turn!", "Invalid Move", JOptionPane.WARNING_MESSAGE);
-            return;
+        BotDriver bot = new BotDriver(this, new BotPlayer(player, questionAccuracy, seed), moveBudgetMillis);
+        if (bots[player] != null) {
+            bots[player].stop();
         }
-        
-        // Check if it's a question cell that needs special handling (already revealed)
-        Cell cell = game.getBoard(player).getCell(row, col);
-        if (cell != null && cell.isRevealed() && 
-            cell instanceof QuestionCell && !((QuestionCell) cell).isQuestionOpened()) {
-            // Question cell already revealed - offer to open question
-            handleQuestionCellClick(row, col, player);
+        bots[player] = bot;
+        if (isPaused) {
+            bot.pause();
+        }
+        bot.moveIfDue();
+    }
+    
+    /**
+     * Checks whether a seat is played by a computer player.
+     * 
+     * @param player The player number (1 or 2)
+     * @return true if a bot plays this seat, false for a human
+     */
+    public boolean isBotPlayer(int player) {
+        return player >= 1 && player <= 2 && bots[player] != null;
+    }
+    
+    /**
+     * Plays a move a bot decided, through the handler a click would use. Moves for a
+     * game that ended or is no longer on screen are dropped.
+     * 
+     * @param player The player number the bot plays as
+     * @param move The move to play
+     */
+    void playBotMove(int player, BotPlayer.Move move) {
+        if (gameOver || gamePanel.getGameController() != this || !gamePanel.isShowing()) {
             return;
         }
-        
-        // Don't process if cell is already revealed (except question cells handled above)
-        if (cell != null && cell.isRevealed()) {
+        switch (move.getKind()) {
+            case FLAG:
+                handleCellFlag(move.getRow(), move.getCol(), player);
+                break;
+            case ACTIVATE_QUESTION:
+                openQuestion(engine.prepareQuestion(player, move.getRow(), move.getCol()),
+                        move.getRow(), move.getCol(), player, move.getAnswer());
+                break;
+            case ACTIVATE_SURPRISE:
+                handleSurpriseCellClick(move.getRow(), move.getCol(), player);
+                break;
+            default:
+                handleCellReveal(move.getRow(), move.getCol(), player);
+                break;
+        }
+    }
+    
+    /**
+     * Tells the players that a bot could not decide its move. The bot plays a random
+     * reveal instead, once the message is closed.
+     *
+     * @param player The player number the bot plays as
+     * @param failure What went wrong while deciding
+     */
+    void reportBotFailure(int player, RuntimeException failure) {
+        if (gameOver || gamePanel.getGameController() != this || !gamePanel.isShowing()) {
             return;
         }
-        
-        // Reveal the cell (will unflag if needed)
-        boolean mineHit = game.revealCell(row, col);
-        
-        // Observer pattern will automatically update UI when cell is revealed
-        
-        // Get the revealed cell to check its type
-        Cell revealedCell = game.getBoard(player).getCell(row, col);
-        String playerName = game.getCurrentPlayerName();
-        int gameDifficulty = convertDifficultyToInt(game.getDifficulty());
-        
-        if (mineHit) {
-            // Mine hit - play bomb sound and score the mine hit
-            soundManager.playSound("bomb");
-            scoringService.scoreMineHit(game, playerName);
-            showMessage(
-                playerName + " hit a mine!",
-                "Mine Hit!",
-                JOptionPane.WARNING_MESSAGE
-            );
-            
-            // Check if game is over due to lives running out
-            if (game.getSharedLives() <= 0) {
-                handleGameOver(false);
-                return;
+        showMessage("The computer player (Player " + player + ") could not decide its move ("
+                + failure + ") and will reveal a random cell instead.",
+                "Computer Player", JOptionPane.WARNING_MESSAGE);
+    }
+
+    /**
+     * Lets the bot whose turn it is start deciding its move. Called once a move has been
+     * handled, so a bot never moves while the previous move's messages are still shown.
+     */
+    private void moveBots() {
+        for (BotDriver bot : bots) {
+            if (bot != null) {
+                bot.moveIfDue();
             }
-            
-            // Switch turn after mine hit
-            game.switchTurn();
-        } else {
-            // Score the revealed cell (only for the initially clicked cell, not cascade reveals)
-            if (revealedCell != null) {
-                scoreCellReveal(revealedCell, playerName, gameDifficulty);
+        }
+    }
+    
+    private void stopBots() {
+        for (BotDriver bot : bots) {
+            if (bot != null) {
+                bot.stop();
             }
-            
-            // Check if current player won (BEFORE switching turn for non-mine cells)
-            // Only check if ALL non-mine cells are revealed
-            GameBoard currentBoard = game.getCurrentBoard();
-            if (currentBoard.isGameWon()) {
-                // Set game over in the model
-                game.setGameOver(true);
+        }
+    }
+    
+    /**
+     * Handles a cell reveal action initiated by the user.
+     * 
+     * @param row The row index of the cell
+     * @param col The column index of the cell
+     * @param player The player number (1 or 2) attempting the action
+     */
+    public void handleCellReveal(int row, int col, int player) {
+        MoveOutcome outcome = engine.reveal(player, row, col);
+        String playerName = player == 1 ? game.getPlayer1Name() : game.getPlayer2Name();
+        
+        switch (outcome.getType()) {
+            case NOT_YOUR_TURN:
+                showMessage("It's not your turn!", "Invalid Move", JOptionPane.WARNING_MESSAGE);
+                return;
+            case QUESTION_READY:
+                // Question cell already revealed - open its question
+                openQuestion(outcome, row, col, player, null);
+                return;
+            case MINE_HIT:
+                soundManager.playSound("bomb");
                 showMessage(
-                    "Congratulations! Both players won!\n" +
-                    game.getPlayer1Name() + " and " + game.getPlayer2Name() + 
-                    " successfully revealed all cells on their boards!",
-                    "Game Won!",
-                    JOptionPane.INFORMATION_MESSAGE
+                    playerName + " hit a mine!",
+                    "Mine Hit!",
+                    JOptionPane.WARNING_MESSAGE
                 );
-                handleGameOver(true);
-                return; // Don't continue with turn switching
-            }
-            
-            // Handle non-mine cells
-            if (revealedCell != null) {
-                // Check if it's a question or surprise cell
-                if (revealedCell instanceof QuestionCell) {
-                    // Question cell revealed - player must wait until next turn to activate
+                break;
+            case QUESTION_FOUND:
+                if (!outcome.isGameOver()) {
+                    // Player must wait until next turn to activate
                     showMessage(
                         "Question cell revealed! You can activate it on your next turn.",
                         "Question Cell Found",
                         JOptionPane.INFORMATION_MESSAGE
                     );
-                    // Switch turn - player cannot activate in same turn
-                    game.switchTurn();
-                } else if (revealedCell instanceof SurpriseCell) {
-                    // Surprise cell revealed - player must wait until next turn to activate
+                }
+                break;
+            case SURPRISE_FOUND:
+                if (!outcome.isGameOver()) {
+                    // Player must wait until next turn to activate
                     showMessage(
                         "Surprise cell revealed! You can activate it on your next turn.",
                         "Surprise Cell Found",
                         JOptionPane.INFORMATION_MESSAGE
                     );
-                    // Switch turn - player cannot activate in same turn
-                    game.switchTurn();
-                } else {
-                    // Regular cell (number, empty) - switch turn
-                    game.switchTurn();
                 }
-            } else {
-                // No cell revealed (shouldn't happen, but just in case)
-                game.switchTurn();
-            }
+                break;
+            default:
+                break;
         }
         
-        // Observer pattern will automatically update UI when turn changes
+        handleGameOverIfEnded(outcome);
+        moveBots();
+        
+        // Observer pattern will automatically update UI when cells are revealed and turns change
     }
     
     /**
-     * Handles a cell flag action initiated by the user.
+     * Handles a chord action initiated by the user: on a revealed number whose flags and
+     * revealed mines match its count, reveals all other hidden neighbours at once. The whole chord is scored
+     * once and shows at most one message, however many cells it opens.
      * 
-     * @param row The row index of the cell
-     * @param col The column index of the cell
+     * @param row The row index of the number cell
+     * @param col The column index of the number cell
      * @param player The player number (1 or 2) attempting the action
      */
-    public void handleCellFlag(int row, int col, int player) {
-        // Don't allow actions if game is over
-        if (gameOver) {
-            return;
-        }
+    public void handleCellChord(int row, int col, int player) {
+        MoveOutcome outcome = engine.chord(player, row, col);
         
-        // Check if it's the current player's turn
-        if (player != game.getCurrentPlayer()) {
+        if (outcome.getType() == MoveOutcome.Type.NOT_YOUR_TURN) {
             showMessage("It's not your turn!", "Invalid Move", JOptionPane.WARNING_MESSAGE);
             return;
         }
         
-        // Get the cell to check if it can be flagged
-        Cell cell = game.getBoard(player).getCell(row, col);
-        if (cell == null) {
-            return;
-        }
-        
-        // Check if the cell is revealed (cannot flag revealed cells)
-        if (cell.isRevealed()) {
-            showMessage("Cannot flag revealed cells!", "Invalid Move", JOptionPane.WARNING_MESSAGE);
-            return;
+        int minesHit = outcome.getMinesHit();
+        if (minesHit > 0) {
+            String playerName = player == 1 ? game.getPlayer1Name() : game.getPlayer2Name();
+            soundManager.playSound("bomb");
+            showMessage(
+                playerName + " hit " + (minesHit == 1 ? "a mine" : minesHit + " mines") + " while chording!",
+                "Mine Hit!",
+                JOptionPane.WARNING_MESSAGE
+            );
         }
         
-        // Get the flag state before toggling
-        boolean wasFlagged = cell.isFlagged();
-        
-        // Toggle flag
-        game.flagCell(row, col);
-        
-        // Play flag sound only when placing a flag (not removing)
-        if (!wasFlagged && cell.isFlagged()) {
-            soundManager.playSound("flag");
+        handleGameOverIfEnded(outcome);
+        moveBots();
+    }
+    
+    /**
+     * Handles a cell flag action initiated by the user.
+     * 
+     * @param row The row index of the cell
+     * @param col The column index of the cell
+     * @param player The player number (1 or 2) attempting the action
+     */
+    public void handleCellFlag(int row, int col, int player) {
+        switch (engine.flag(player, row, col).getType()) {
+            case NOT_YOUR_TURN:
+                showMessage("It's not your turn!", "Invalid Move", JOptionPane.WARNING_MESSAGE);
+                return;
+            case CANNOT_FLAG_REVEALED:
+                showMessage("Cannot flag revealed cells!", "Invalid Move", JOptionPane.WARNING_MESSAGE);
+                return;
+            case FLAGGED:
+                // Play flag sound only when placing a flag (not removing)
+                soundManager.playSound("flag");
+                break;
+            case UNFLAGGED:
+                break;
+            default:
+                return;
         }
         
         // Flags should not affect scoring - no scoring logic for flags
         
         // Update UI
         gamePanel.updateUI();
+        // A bot keeps its turn after a flag
+        moveBots();
     }
     
     /**
-     * Handles clicking on a revealed question cell.
-     * Can be called from GamePanel when user clicks on an already-revealed question cell.
+     * Handles a hint request: highlights the current player's hidden cell least likely to
+     * be a mine and charges the hint cost to the shared score.
+     * <p>
+     * The board is analysed by that player's {@link BoardSolver}, which reuses every
+     * frontier component the moves since the last hint did not touch. The analysis runs
+     * on the event dispatch thread, so it gives up after a short budget; a hint that runs
+     * out of time is not charged.
      * 
-     * @param row The row index of the question cell
-     * @param col The column index of the question cell
-     * @param player The player number (1 or 2)
+     * @param player The player number (1 or 2) asking for the hint
      */
-    public void handleQuestionCellClick(int row, int col, int player) {
+    public void handleHintRequest(int player) {
         // Don't allow actions if game is over
         if (gameOver) {
             return;
         }
         
-        // Validate that it's the current player's turn
+        // Check if it's the current player's turn
         if (player != game.getCurrentPlayer()) {
             showMessage("It's not your turn!", "Invalid Move", JOptionPane.WARNING_MESSAGE);
             return;
         }
         
-        Cell cell = game.getBoard(player).getCell(row, col);
-        
-        if (cell == null || !(cell instanceof QuestionCell)) {
+        GameBoard board = game.getBoard(player);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(HINT_BUDGET_MILLIS);
+        BoardAnalysis analysis = (player == 1 ? player1Solver : player2Solver).analyze(board, deadline);
+        if (analysis == null) {
+            showMessage("This board is too complex for a hint right now. No points were charged.",
+                       "No Hint", JOptionPane.INFORMATION_MESSAGE);
             return;
         }
-        
-        QuestionCell questionCell = (QuestionCell) cell;
-        
-        // Check if question already opened
-        if (questionCell.isQuestionOpened()) {
-            showMessage("This question has already been opened.", "Question Already Used", 
-                       JOptionPane.INFORMATION_MESSAGE);
+        int cell = analysis.getSafestCell(board);
+        if (cell < 0) {
             return;
         }
+        int row = cell / board.getCols();
+        int col = cell % board.getCols();
         
+        scoringService.scoreHintUsed(game, game.getCurrentPlayerName(), hintCost);
+        gamePanel.showHint(player, row, col, analysis.getMineProbability(row, col));
+    }
+    
+    /**
+     * Sets how many points a hint costs.
+     * 
+     * @param hintCost The hint cost in points (0 for free hints)
+     */
+    public void setHintCost(int hintCost) {
+        if (hintCost < 0) {
+            throw new IllegalArgumentException("Hint cost cannot be negative: " + hintCost);
+        }
+        this.hintCost = hintCost;
+    }
+    
+    /**
+     * Gets how many points a hint costs.
+     * 
+     * @return The hint cost in points
+     */
+    public int getHintCost() {
+        return hintCost;
+    }
+    
+    /**
+     * Handles clicking on a revealed question cell.
+     * Can be called from GamePanel when user clicks on an already-revealed question cell.
+     * 
+     * @param row The row index of the question cell
+     * @param col The column index of the question cell
+     * @param player The player number (1 or 2)
+     */
+    public void handleQuestionCellClick(int row, int col, int player) {
         // Directly open the question without asking for confirmation
-        openQuestion(questionCell, player);
+        openQuestion(engine.prepareQuestion(player, row, col), row, col, player, null);
     }
     
     /**
@@ -375,56 +493,76 @@ public class GameController {
      * @param player The player number (1 or 2)
      */
     public void handleSurpriseCellClick(int row, int col, int player) {
-        // Don't allow actions if game is over
-        if (gameOver) {
-            return;
-        }
-        
-        // Validate that it's the current player's turn
-        if (player != game.getCurrentPlayer()) {
-            showMessage("It's not your turn!", "Invalid Move", JOptionPane.WARNING_MESSAGE);
-            return;
-        }
-        
-        Cell cell = game.getBoard(player).getCell(row, col);
-        
-        if (cell == null || !(cell instanceof SurpriseCell)) {
-            return;
-        }
-        
-        SurpriseCell surpriseCell = (SurpriseCell) cell;
+        // Directly activate the surprise cell without asking for confirmation
+        MoveOutcome outcome = engine.activateSurprise(player, row, col);
         
-        // Check if surprise already activated
-        if (surpriseCell.isSurpriseActivated()) {
-            showMessage("This surprise cell has already been activated.", "Surprise Already Used", 
-                       JOptionPane.INFORMATION_MESSAGE);
-            return;
+        switch (outcome.getType()) {
+            case NOT_YOUR_TURN:
+                showMessage("It's not your turn!", "Invalid Move", JOptionPane.WARNING_MESSAGE);
+                return;
+            case ALREADY_USED:
+                showMessage("This surprise cell has already been activated.", "Surprise Already Used", 
+                           JOptionPane.INFORMATION_MESSAGE);
+                return;
+            case SURPRISE_ACTIVATED:
+                soundManager.playSound("surprise");
+                // Show result message with surprise details
+                showMessage(outcome.getMessage(), "Surprise!", JOptionPane.INFORMATION_MESSAGE);
+                // A bad surprise can take the last life
+                handleGameOverIfEnded(outcome);
+                moveBots();
+                return;
+            default:
+                return;
         }
-        
-        // Directly activate the surprise cell without asking for confirmation
-        activateSurpriseCell(surpriseCell, player);
     }
     
     /**
-     * Opens a question for the player to answer.
+     * Asks the question of a question cell the engine reported ready, and activates
+     * the cell with the player's answer.
      * 
-     * @param questionCell The question cell
+     * @param ready The outcome of preparing the question
+     * @param row The row index of the question cell
+     * @param col The column index of the question cell
      * @param player The player number
+     * @param answer A bot's answer letter, or null to ask the player in a dialog
      */
-    private void openQuestion(QuestionCell questionCell, int player) {
-        Question question = questionCell.getQuestion();
+    private void openQuestion(MoveOutcome ready, int row, int col, int player, String answer) {
+        switch (ready.getType()) {
+            case NOT_YOUR_TURN:
+                showMessage("It's not your turn!", "Invalid Move", JOptionPane.WARNING_MESSAGE);
+                return;
+            case ALREADY_USED:
+                showMessage("This question has already been opened.", "Question Already Used", 
+                           JOptionPane.INFORMATION_MESSAGE);
+                return;
+            case NO_QUESTION:
+                showMessage("No question available.", "Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            case QUESTION_READY:
+                break;
+            default:
+                return;
+        }
         
-        if (question == null) {
-            showMessage("No question available.", "Error", JOptionPane.ERROR_MESSAGE);
-            return;
+        Question question = ready.getQuestion();
+        if (answer == null) {
+            answer = showQuestionDialog(question, player);
         }
+        MoveOutcome outcome = engine.activateQuestion(player, row, col, answer);
         
-        // Show question dialog and only mark opened after an answer is provided
-        boolean answered = showQuestionDialog(question, player);
-        if (answered) {
-            questionCell.markQuestionOpened();
-            gamePanel.updateUI();
+        if (outcome.getType() == MoveOutcome.Type.QUESTION_CORRECT) {
+            soundManager.playSound("correct-answer");
+            showMessage("Correct! Well done!", "Correct Answer", JOptionPane.INFORMATION_MESSAGE);
+        } else if (outcome.getType() == MoveOutcome.Type.QUESTION_WRONG) {
+            showMessage("Incorrect. The correct answer was " + question.getCorrectAnswer() + ".", 
+                       "Wrong Answer", JOptionPane.INFORMATION_MESSAGE);
         }
+        gamePanel.updateUI();
+        
+        // A costly wrong answer can take the last life
+        handleGameOverIfEnded(outcome);
+        moveBots();
     }
     
     /**
@@ -432,8 +570,9 @@ public class GameController {
      * 
      * @param question The Question object
      * @param player The player number
+     * @return The chosen answer letter ("A" to "D")
      */
-    private boolean showQuestionDialog(Question question, int player) {
+    private String showQuestionDialog(Question question, int player) {
         final String playerName = player == 1 ? game.getPlayer1Name() : game.getPlayer2Name();
 
         String[] options = {
@@ -472,53 +611,44 @@ public class GameController {
             }
         }
 
-        String selectedAnswer = "";
-        if (choice == 0) selectedAnswer = "A";
-        else if (choice == 1) selectedAnswer = "B";
-        else if (choice == 2) selectedAnswer = "C";
-        else if (choice == 3) selectedAnswer = "D";
-        
-        // Check if correct
-        boolean isCorrect = question.getCorrectAnswer().equalsIgnoreCase(selectedAnswer);
-        
-        // Score the question activation
-        String scoringPlayerName = playerName;
-        int gameDifficulty = convertDifficultyToInt(game.getDifficulty());
-        int questionType = question.getDifficulty(); // Question difficulty maps to question type (1-4)
-        
-        scoringService.scoreQuestionCellActivated(game, scoringPlayerName, gameDifficulty, questionType, isCorrect);
-        
-        if (isCorrect) {
-            soundManager.playSound("correct-answer");
-            showMessage("Correct! Well done!", "Correct Answer", JOptionPane.INFORMATION_MESSAGE);
-        } else {
-            showMessage("Incorrect. The correct answer was " + question.getCorrectAnswer() + ".", 
-                       "Wrong Answer", JOptionPane.INFORMATION_MESSAGE);
+        return String.valueOf((char) ('A' + choice));
+    }
+    
+    /**
+     * Shows the end of the game if the move that produced this outcome ended it.
+     * 
+     * @param outcome The outcome of the last move
+     */
+    private void handleGameOverIfEnded(MoveOutcome outcome) {
+        if (!outcome.isGameOver()) {
+            return;
         }
-        
-        // Switch turn after answering question
-        game.switchTurn();
-        
-        // Observer pattern will automatically update UI when turn changes
-
-        return true;
+        if (outcome.isWon()) {
+            showMessage(
+                "Congratulations! Both players won!\n" +
+                game.getPlayer1Name() + " and " + game.getPlayer2Name() + 
+                " successfully revealed all cells on their boards!",
+                "Game Won!",
+                JOptionPane.INFORMATION_MESSAGE
+            );
+        }
+        handleGameOver(outcome.isWon(), outcome.getPointsFromLives());
     }
     
     /**
      * Handles game over scenarios (win or lose).
      * 
      * @param won true if the game was won, false if lives ran out
+     * @param pointsAdded The points the remaining lives were converted to
      */
-    private void handleGameOver(boolean won) {
+    private void handleGameOver(boolean won, int pointsAdded) {
         // Mark game as over to prevent further actions
         gameOver = true;
+        stopBots();
         
         // Disable all game interactions
         gamePanel.setGameOver(true);
         
-        // Convert remaining lives to points
-        int pointsAdded = scoringService.convertRemainingLivesToPoints(game);
-        
         String message;
         String title;
         
@@ -589,7 +719,10 @@ public class GameController {
                 player1Name,
                 player2Name,
                 combinedScore,
-                remainingHearts
+                remainingHearts,
+                game.getBoardSpec(),
+                game.getSeed(),
+                game.getNoGuessLayout()
             );
             
             System.out.println("Saving game history: " + player1Name + " vs " + player2Name + 
@@ -631,89 +764,4 @@ public class GameController {
     public Game getGame() {
         return game;
     }
-    
-    /**
-     * Scores a cell reveal based on the cell type.
-     * 
-     * @param cell The cell that was revealed
-     * @param playerName The name of the player who revealed it
-     * @param gameDifficulty The game difficulty (1=Easy, 2=Medium, 3=Hard)
-     */
-    private void scoreCellReveal(Cell cell, String playerName, int gameDifficulty) {
-        if (cell == null) return;
-        
-        if (cell instanceof MineCell) {
-            // Mine hit is handled separately in handleCellReveal
-        } else if (cell instanceof NumberCell) {
-            scoringService.scoreNumberedCellRevealedCorrectly(game, playerName, ((NumberCell) cell).getAdjacentMines());
-        } else if (cell instanceof EmptyCell) {
-            scoringService.scoreEmptyCellRevealedCorrectly(game, playerName);
-        } else if (cell instanceof QuestionCell) {
-            scoringService.scoreQuestionCellRevealedCorrectly(game, playerName);
-        } else if (cell instanceof SurpriseCell) {
-            scoringService.scoreSurpriseCellRevealedCorrectly(game, playerName);
-        }
-    }
-    
-    /**
-     * Activates a surprise cell and applies its effects.
-     * 
-     * @param surpriseCell The surprise cell to activate
-     * @param player The player number
-     */
-    private void activateSurpriseCell(SurpriseCell surpriseCell, int player) {
-        if (surpriseCell == null) {
-            return;
-        }
-        
-        // Mark surprise as activated
-        surpriseCell.markSurpriseActivated();
-        
-        // Play surprise sound
-        soundManager.playSound("surprise");
-        
-        String playerName = player == 1 ? game.getPlayer1Name() : game.getPlayer2Name();
-        int gameDifficulty = convertDifficultyToInt(game.getDifficulty());
-        
-        // Score the surprise cell activation and get the surprise details
-        String surpriseMessage = scoringService.scoreSurpriseCellActivated(game, playerName, gameDifficulty);
-        
-        // Show result message with surprise details
-        showMessage(
-            surpriseMessage,
-            "Surprise!",
-            JOptionPane.INFORMATION_MESSAGE
-        );
-        
-        // Check if game is over due to lives running out (bad surprise can decrease lives)
-        if (game.getSharedLives() <= 0) {
-            handleGameOver(false);
-            return;
-        }
-        
-        // Switch turn after activating surprise
-        game.switchTurn();
-        
-        // Observer pattern will automatically update UI when turn changes
-    }
-    
-    /**
-     * Converts Game.Difficulty enum to integer (1=Easy, 2=Medium, 3=Hard).
-     * 
-     * @param difficulty The Game.Difficulty enum value
-     * @return Integer representation (1, 2, or 3)
-     */
-    private int convertDifficultyToInt(Game.Difficulty difficulty) {
-        switch (difficulty) {
-            case EASY:
-                return 1;
-            case MEDIUM:
-                return 2;
-            case HARD:
-                return 3;
-            default:
-                return 1;
-        }
-    }
 }
-
@@ -0,0 +1,342 @@
+package controller;
+
+import model.*;
+
+/**
+ * The rules of a two-player game without any user interface: takes reveal, chord, flag,
+ * question and surprise commands for a {@link Game}, applies turn order and scoring
+ * through a {@link ScoringService}, and answers each command with a {@link MoveOutcome}.
+ * <p>
+ * The engine never shows dialogs or plays sounds, so the same rules drive the Swing
+ * {@link GameController}, simulations and bots. It is not thread-safe; one engine
+ * belongs to one game on one thread.
+ *
+ * @author Team Sloth
+ */
+public class GameEngine {
+
+    private final Game game;
+    private final ScoringService scoringService;
+    private final int gameDifficulty;
+
+    /**
+     * Creates an engine for a game.
+     *
+     * @param game The game to play
+     * @param scoringService The scoring rules to apply to the game
+     */
+    public GameEngine(Game game, ScoringService scoringService) {
+        if (game == null || scoringService == null) {
+            throw new IllegalArgumentException("Game and scoring service are required");
+        }
+        this.game = game;
+        this.scoringService = scoringService;
+        this.gameDifficulty = convertDifficultyToInt(game.getDifficulty());
+    }
+
+    /**
+     * Gets the game this engine plays.
+     *
+     * @return The Game instance
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * Gets the scoring rules this engine applies.
+     *
+     * @return The ScoringService instance
+     */
+    public ScoringService getScoringService() {
+        return scoringService;
+    }
+
+    /**
+     * Reveals a cell for a player. A mine costs a shared life; any other cell scores
+     * once, however far it cascades. The turn passes unless the game ended. Clicking a
+     * revealed question cell that is still unopened reports QUESTION_READY instead.
+     *
+     * @param player The player number (1 or 2) attempting the action
+     * @param row The row index of the cell
+     * @param col The column index of the cell
+     * @return The outcome of the reveal
+     */
+    public MoveOutcome reveal(int player, int row, int col) {
+        if (game.isGameOver()) {
+            return MoveOutcome.IGNORED;
+        }
+        if (!game.canRevealCell(row, col, player)) {
+            return MoveOutcome.NOT_YOUR_TURN;
+        }
+
+        Cell cell = game.getBoard(player).getCell(row, col);
+        if (cell.isRevealed()) {
+            if (cell instanceof QuestionCell && !((QuestionCell) cell).isQuestionOpened()) {
+                return prepareQuestion(player, row, col);
+            }
+            return MoveOutcome.IGNORED;
+        }
+
+        int scoreBefore = game.getCombinedScore();
+        int livesBefore = game.getSharedLives();
+        String playerName = game.getCurrentPlayerName();
+        RevealResult changes = game.revealCellChanges(row, col);
+        Cell revealedCell = game.getBoard(player).getCell(row, col);
+
+        MoveOutcome outcome;
+        if (changes.isMineHit()) {
+            scoringService.scoreMineHit(game, playerName);
+            outcome = new MoveOutcome(MoveOutcome.Type.MINE_HIT);
+        } else {
+            // Only the clicked cell scores, not the cells its cascade opens
+            scoreCellReveal(revealedCell, playerName);
+            if (revealedCell instanceof QuestionCell) {
+                outcome = new MoveOutcome(MoveOutcome.Type.QUESTION_FOUND);
+            } else if (revealedCell instanceof SurpriseCell) {
+                outcome = new MoveOutcome(MoveOutcome.Type.SURPRISE_FOUND);
+            } else {
+                outcome = new MoveOutcome(MoveOutcome.Type.REVEALED);
+            }
+        }
+        return finishMove(outcome.withChanges(changes), player, scoreBefore, livesBefore);
+    }
+
+    /**
+     * Chords a revealed number for a player: reveals all its unflagged hidden neighbours
+     * when its flags and revealed mines match its count. The whole chord scores once. A number that cannot
+     * be chorded is IGNORED and the turn is kept.
+     *
+     * @param player The player number (1 or 2) attempting the action
+     * @param row The row index of the number cell
+     * @param col The column index of the number cell
+     * @return The outcome of the chord
+     */
+    public MoveOutcome chord(int player, int row, int col) {
+        if (game.isGameOver()) {
+            return MoveOutcome.IGNORED;
+        }
+        if (!game.canRevealCell(row, col, player)) {
+            return MoveOutcome.NOT_YOUR_TURN;
+        }
+
+        // Count the neighbours the chord opens directly: hidden, so neither flagged nor an
+        // already revealed mine, the cells that count toward the number. Cascades are not
+        // scored, as for clicks
+        GameBoard board = game.getBoard(player);
+        int cols = board.getCols();
+        int index = row * cols + col;
+        int targets = 0;
+        for (int delta : board.getNeighbourTable().deltas(index)) {
+            int neighbour = index + delta;
+            if (board.getCell(neighbour / cols, neighbour % cols).isHidden()) {
+                targets++;
+            }
+        }
+
+        int scoreBefore = game.getCombinedScore();
+        int livesBefore = game.getSharedLives();
+        RevealResult changes = game.chordCell(row, col);
+        if (changes.isEmpty()) {
+            return MoveOutcome.IGNORED;
+        }
+
+        int minesHit = changes.getMinesHit();
+        scoringService.scoreChord(game, game.getCurrentPlayerName(), targets - minesHit, minesHit);
+        MoveOutcome outcome = new MoveOutcome(MoveOutcome.Type.CHORDED).withChanges(changes);
+        return finishMove(outcome, player, scoreBefore, livesBefore);
+    }
+
+    /**
+     * Toggles the flag on a hidden cell for a player. Flags are not scored and do not
+     * pass the turn.
+     *
+     * @param player The player number (1 or 2) attempting the action
+     * @param row The row index of the cell
+     * @param col The column index of the cell
+     * @return FLAGGED or UNFLAGGED, or why the flag was refused
+     */
+    public MoveOutcome flag(int player, int row, int col) {
+        if (game.isGameOver()) {
+            return MoveOutcome.IGNORED;
+        }
+        if (player != game.getCurrentPlayer()) {
+            return MoveOutcome.NOT_YOUR_TURN;
+        }
+
+        Cell cell = game.getBoard(player).getCell(row, col);
+        if (cell == null) {
+            return MoveOutcome.IGNORED;
+        }
+        if (cell.isRevealed()) {
+            return MoveOutcome.CANNOT_FLAG_REVEALED;
+        }
+
+        boolean wasFlagged = cell.isFlagged();
+        game.flagCell(row, col);
+        return wasFlagged ? MoveOutcome.UNFLAGGED : MoveOutcome.FLAGGED;
+    }
+
+    /**
+     * Checks whether a player can activate a question cell now, without activating it.
+     * A user interface calls this before asking the question.
+     *
+     * @param player The player number (1 or 2)
+     * @param row The row index of the question cell
+     * @param col The column index of the question cell
+     * @return QUESTION_READY with the question to ask, or why it cannot be asked
+     */
+    public MoveOutcome prepareQuestion(int player, int row, int col) {
+        if (game.isGameOver()) {
+            return MoveOutcome.IGNORED;
+        }
+        if (player != game.getCurrentPlayer()) {
+            return MoveOutcome.NOT_YOUR_TURN;
+        }
+
+        Cell cell = game.getBoard(player).getCell(row, col);
+        if (!(cell instanceof QuestionCell) || !cell.isRevealed()) {
+            return MoveOutcome.IGNORED;
+        }
+        QuestionCell questionCell = (QuestionCell) cell;
+        if (questionCell.isQuestionOpened()) {
+            return MoveOutcome.ALREADY_USED;
+        }
+        if (questionCell.getQuestion() == null) {
+            return MoveOutcome.NO_QUESTION;
+        }
+        return new MoveOutcome(MoveOutcome.Type.QUESTION_READY).withQuestion(questionCell.getQuestion());
+    }
+
+    /**
+     * Activates a revealed question cell with the player's answer. The activation cost
+     * and the reward or penalty for the answer are scored, the question is used up and
+     * the turn passes unless the game ended.
+     *
+     * @param player The player number (1 or 2)
+     * @param row The row index of the question cell
+     * @param col The column index of the question cell
+     * @param answer The chosen answer letter ("A" to "D")
+     * @return QUESTION_CORRECT or QUESTION_WRONG, or why the question could not be activated
+     */
+    public MoveOutcome activateQuestion(int player, int row, int col, String answer) {
+        MoveOutcome ready = prepareQuestion(player, row, col);
+        if (ready.getType() != MoveOutcome.Type.QUESTION_READY) {
+            return ready;
+        }
+
+        Question question = ready.getQuestion();
+        boolean isCorrect = question.getCorrectAnswer().equalsIgnoreCase(answer);
+        int scoreBefore = game.getCombinedScore();
+        int livesBefore = game.getSharedLives();
+
+        // Question difficulty maps to question type (1-4)
+        scoringService.scoreQuestionCellActivated(game, game.getCurrentPlayerName(), gameDifficulty,
+                question.getDifficulty(), isCorrect);
+        ((QuestionCell) game.getBoard(player).getCell(row, col)).markQuestionOpened();
+
+        MoveOutcome outcome = new MoveOutcome(isCorrect
+                ? MoveOutcome.Type.QUESTION_CORRECT : MoveOutcome.Type.QUESTION_WRONG).withQuestion(question);
+        return finishMove(outcome, player, scoreBefore, livesBefore);
+    }
+
+    /**
+     * Activates a revealed surprise cell. The activation cost and the good or bad
+     * surprise are scored, the surprise is used up and the turn passes unless the game ended.
+     *
+     * @param player The player number (1 or 2)
+     * @param row The row index of the surprise cell
+     * @param col The column index of the surprise cell
+     * @return SURPRISE_ACTIVATED with the surprise message, or why it could not be activated
+     */
+    public MoveOutcome activateSurprise(int player, int row, int col) {
+        if (game.isGameOver()) {
+            return MoveOutcome.IGNORED;
+        }
+        if (player != game.getCurrentPlayer()) {
+            return MoveOutcome.NOT_YOUR_TURN;
+        }
+
+        Cell cell = game.getBoard(player).getCell(row, col);
+        if (!(cell instanceof SurpriseCell) || !cell.isRevealed()) {
+            return MoveOutcome.IGNORED;
+        }
+        SurpriseCell surpriseCell = (SurpriseCell) cell;
+        if (surpriseCell.isSurpriseActivated()) {
+            return MoveOutcome.ALREADY_USED;
+        }
+
+        int scoreBefore = game.getCombinedScore();
+        int livesBefore = game.getSharedLives();
+        surpriseCell.markSurpriseActivated();
+        String message = scoringService.scoreSurpriseCellActivated(game, game.getCurrentPlayerName(), gameDifficulty);
+
+        MoveOutcome outcome = new MoveOutcome(MoveOutcome.Type.SURPRISE_ACTIVATED).withMessage(message);
+        return finishMove(outcome, player, scoreBefore, livesBefore);
+    }
+
+    /**
+     * Records the score and lives changes of a played move, then ends the game if the
+     * lives ran out or the board was cleared, and passes the turn otherwise.
+     */
+    private MoveOutcome finishMove(MoveOutcome outcome, int player, int scoreBefore, int livesBefore) {
+        outcome.setDeltas(game.getCombinedScore() - scoreBefore, game.getSharedLives() - livesBefore);
+
+        if (game.getSharedLives() <= 0) {
+            outcome.setGameOver(false, endGame());
+        } else if (game.getBoard(player).isGameWon()) {
+            // Also after a mine hit: a board with no safe cells left is cleared
+            game.setGameOver(true);
+            outcome.setGameOver(true, endGame());
+        } else {
+            game.switchTurn();
+        }
+        return outcome;
+    }
+
+    /**
+     * Converts the remaining shared lives to points at the end of the game.
+     *
+     * @return The points added
+     */
+    private int endGame() {
+        return scoringService.convertRemainingLivesToPoints(game);
+    }
+
+    /**
+     * Scores a cell reveal based on the cell type.
+     *
+     * @param cell The cell that was revealed
+     * @param playerName The name of the player who revealed it
+     */
+    private void scoreCellReveal(Cell cell, String playerName) {
+        if (cell instanceof NumberCell) {
+            scoringService.scoreNumberedCellRevealedCorrectly(game, playerName, ((NumberCell) cell).getAdjacentMines());
+        } else if (cell instanceof EmptyCell) {
+            scoringService.scoreEmptyCellRevealedCorrectly(game, playerName);
+        } else if (cell instanceof QuestionCell) {
+            scoringService.scoreQuestionCellRevealedCorrectly(game, playerName);
+        } else if (cell instanceof SurpriseCell) {
+            scoringService.scoreSurpriseCellRevealedCorrectly(game, playerName);
+        }
+    }
+
+    /**
+     * Converts Game.Difficulty enum to integer (1=Easy, 2=Medium, 3=Hard).
+     *
+     * @param difficulty The Game.Difficulty enum value
+     * @return Integer representation (1, 2, or 3)
+     */
+    static int convertDifficultyToInt(Game.Difficulty difficulty) {
+        switch (difficulty) {
+            case EASY:
+                return 1;
+            case MEDIUM:
+                return 2;
+            case HARD:
+                return 3;
+            default:
+                return 1;
+        }
+    }
+}
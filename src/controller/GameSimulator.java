@@ -0,0 +1,196 @@
+package controller;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import model.*;
+
+/**
+ * Plays large numbers of complete games headlessly on a {@link GameEngine} to measure
+ * how the scoring rules play out: win rates and the distributions of final score,
+ * remaining lives and game length, per difficulty and player policy.
+ * <p>
+ * Simulated players reveal cells by a {@link MovePolicy}, activate every question and
+ * surprise cell they find on their next turn, and answer questions correctly with a
+ * fixed probability. Games are split into fork-join tasks; each task tallies its games
+ * into its own result and results are merged as the tasks join, so no thread ever
+ * waits on another. Game {@code i} of a seed is always the same game, so a seed gives
+ * the same result on any number of threads.
+ *
+ * @author Team Sloth
+ */
+public class GameSimulator {
+
+    /**
+     * How simulated players choose which cell to reveal.
+     */
+    public enum MovePolicy {
+        /** Any hidden cell, uniformly at random */
+        RANDOM,
+        /** The hidden cell a {@link BoardSolver} finds least likely to be a mine */
+        SOLVER
+    }
+
+    // Spreads game numbers over the seed space; SplittableRandom mixes the sum further
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    // Games a task plays itself instead of splitting further
+    private static final int GAMES_PER_TASK = 64;
+
+    private final ForkJoinPool pool;
+    private final QuestionLogic questionLogic;
+
+    /**
+     * Constructs a new GameSimulator.
+     *
+     * @param pool The pool to play games on
+     * @param questionLogic The questions to put on the simulated boards
+     */
+    public GameSimulator(ForkJoinPool pool, QuestionLogic questionLogic) {
+        this.pool = pool;
+        this.questionLogic = questionLogic;
+    }
+
+    /**
+     * Plays a number of games and aggregates their outcomes.
+     *
+     * @param difficulty The difficulty of every game
+     * @param games The number of games to play
+     * @param policy How the players choose cells to reveal
+     * @param questionAccuracy The probability that a player answers a question correctly
+     * @param seed The 64-bit seed all games are derived from
+     * @return The aggregated result
+     */
+    public SimulationResult simulate(Game.Difficulty difficulty, int games, MovePolicy policy,
+                                     double questionAccuracy, long seed) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Game count cannot be negative: " + games);
+        }
+        if (questionAccuracy < 0.0 || questionAccuracy > 1.0) {
+            throw new IllegalArgumentException("Question accuracy must be between 0 and 1: " + questionAccuracy);
+        }
+        return pool.invoke(new SimulationTask(difficulty, policy, questionAccuracy, seed, 0, games));
+    }
+
+    /**
+     * Plays a range of games, splitting it in halves until it is small enough.
+     */
+    private final class SimulationTask extends RecursiveTask<SimulationResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final Game.Difficulty difficulty;
+        private final MovePolicy policy;
+        private final double questionAccuracy;
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        SimulationTask(Game.Difficulty difficulty, MovePolicy policy, double questionAccuracy,
+                       long seed, int from, int to) {
+            this.difficulty = difficulty;
+            this.policy = policy;
+            this.questionAccuracy = questionAccuracy;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                SimulationResult result = new SimulationResult(difficulty, policy, questionAccuracy);
+                for (int i = from; i < to; i++) {
+                    playGame(difficulty, policy, questionAccuracy, seed + i * GOLDEN_GAMMA, result);
+                }
+                return result;
+            }
+            int middle = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(difficulty, policy, questionAccuracy, seed, from, middle);
+            left.fork();
+            SimulationResult result = new SimulationTask(difficulty, policy, questionAccuracy, seed, middle, to).compute();
+            SimulationResult leftResult = left.join();
+            leftResult.merge(result);
+            return leftResult;
+        }
+    }
+
+    /**
+     * Plays one game to the end and adds its outcome to a result.
+     */
+    private void playGame(Game.Difficulty difficulty, MovePolicy policy, double questionAccuracy,
+                          long gameSeed, SimulationResult result) {
+        SplittableRandom random = new SplittableRandom(gameSeed);
+        Game game = new Game("Player 1", "Player 2", difficulty, difficulty.getBoardSpec(),
+                questionLogic, random.nextLong());
+        GameEngine engine = new GameEngine(game, new ScoringService(null, new Random(random.nextLong())));
+
+        int cellCount = game.getPlayer1Board().getRows() * game.getPlayer1Board().getCols();
+        // Revealed question and surprise cells each player still has to activate
+        int[][] pending = { null, new int[cellCount], new int[cellCount] };
+        int[] pendingCount = new int[3];
+        BoardSolver[] solvers = policy == MovePolicy.SOLVER
+                ? new BoardSolver[] { null, new BoardSolver(), new BoardSolver() } : null;
+
+        // Every game ends on its own; the cap only guards against a rule change that loops
+        int moveLimit = 4 * cellCount + 16;
+        int moves = 0;
+        while (!game.isGameOver() && moves < moveLimit) {
+            int player = game.getCurrentPlayer();
+            GameBoard board = game.getBoard(player);
+            int cols = board.getCols();
+            MoveOutcome outcome;
+            if (pendingCount[player] > 0) {
+                int index = pending[player][--pendingCount[player]];
+                Cell cell = board.getCell(index / cols, index % cols);
+                if (cell instanceof QuestionCell) {
+                    Question question = ((QuestionCell) cell).getQuestion();
+                    // The engine rejects question cells without a question
+                    outcome = engine.activateQuestion(player, index / cols, index % cols,
+                            question == null ? "A" : BotPlayer.answer(question, questionAccuracy, random));
+                } else {
+                    outcome = engine.activateSurprise(player, index / cols, index % cols);
+                }
+            } else {
+                int index = policy == MovePolicy.SOLVER
+                        ? solvers[player].analyze(board).getSafestCell(board)
+                        : BotPlayer.randomHiddenCell(board, random);
+                outcome = engine.reveal(player, index / cols, index % cols);
+                RevealResult changes = outcome.getChanges();
+                for (int i = 0; changes != null && i < changes.size(); i++) {
+                    Cell cell = board.getCell(changes.getRow(i), changes.getCol(i));
+                    if (cell instanceof QuestionCell || cell instanceof SurpriseCell) {
+                        pending[player][pendingCount[player]++] = changes.getIndex(i);
+                    }
+                }
+            }
+            if (outcome.isPlayed()) {
+                moves++;
+            }
+        }
+
+        result.addGame(game.isGameWon(), !game.isGameOver(), game.getCombinedScore(), game.getSharedLives(), moves);
+    }
+
+    /**
+     * Runs a simulation for every difficulty and prints the results.
+     * Arguments: game count (default 100000), policy (RANDOM or SOLVER, default RANDOM),
+     * question accuracy (default 0.5) and questions CSV path (default resources/Questions.csv).
+     *
+     * @param args The command line arguments
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        MovePolicy policy = args.length > 1 ? MovePolicy.valueOf(args[1].toUpperCase()) : MovePolicy.RANDOM;
+        double accuracy = args.length > 2 ? Double.parseDouble(args[2]) : 0.5;
+        QuestionLogic questionLogic = new QuestionLogic();
+        questionLogic.loadQuestionsFromCSV(args.length > 3 ? args[3] : "resources/Questions.csv");
+
+        GameSimulator simulator = new GameSimulator(ForkJoinPool.commonPool(), questionLogic);
+        for (Game.Difficulty difficulty : Game.Difficulty.values()) {
+            long started = System.nanoTime();
+            SimulationResult result = simulator.simulate(difficulty, games, policy, accuracy, 1L);
+            System.out.println(result);
+            System.out.printf("  (%.1f s)%n", (System.nanoTime() - started) / 1e9);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package controller;
 
+import model.BoardSpec;
 import model.Game;
 import model.GameHistory;
+import model.NoGuessLayout;
+import model.Topology;
 
 import java.io.*;
 import java.net.URI;
@@ -17,12 +20,25 @@ import java.util.List;
  */
 public class HistoryManager {
     private static final String HISTORY_CSV_FILE = "GameHistory.csv";
+    // Values of the Mode column
+    private static final String MODE_STANDARD = "standard";
+    private static final String MODE_NO_GUESS = "no-guess";
     private File historyCsvFile;
     
     public HistoryManager() {
         this.historyCsvFile = getHistoryCsvFile();
     }
     
+    /**
+     * Creates a history manager that reads and writes the given file instead of the
+     * default GameHistory.csv location.
+     * 
+     * @param historyCsvFile The history CSV file
+     */
+    public HistoryManager(File historyCsvFile) {
+        this.historyCsvFile = historyCsvFile;
+    }
+    
     /**
      * Gets the history CSV file path. When running from JAR, uses a file in the same directory as the JAR.
      * When running from IDE, uses GameHistory.csv in the project root.
@@ -77,7 +93,7 @@ public class HistoryManager {
                     continue; // Skip empty lines
                 }
                 
-                // Parse CSV line: Difficulty,Date,DurationSeconds,Player1Name,Player2Name,CombinedScore,RemainingHearts
+                // Parse CSV line: Difficulty,Date,DurationSeconds,Player1Name,Player2Name,CombinedScore,RemainingHearts[,Board,Seed[,Mode,BoardSeeds]]
                 String[] parts = line.split(",");
                 if (parts.length >= 7) {
                     try {
@@ -88,9 +104,18 @@ public class HistoryManager {
                         String player2Name = unescapeCsv(parts[4].trim());
                         int combinedScore = Integer.parseInt(parts[5].trim());
                         int remainingHearts = Integer.parseInt(parts[6].trim());
+                        // Board and seed columns are missing from files written before they were recorded
+                        BoardSpec boardSpec = parts.length >= 8 ? parseBoardSpec(parts[7].trim(), difficulty)
+                                                                : difficulty.getBoardSpec();
+                        Long seed = parts.length >= 9 && !parts[8].trim().isEmpty()
+                                ? Long.valueOf(parts[8].trim()) : null;
+                        // Mode and board seed columns are missing from files written before no-guess games
+                        NoGuessLayout noGuessLayout = parts.length >= 11 && MODE_NO_GUESS.equals(parts[9].trim())
+                                ? parseNoGuessLayout(parts[10].trim()) : null;
                         
                         GameHistory gameHistory = new GameHistory(difficulty, date, durationSeconds, 
-                                                                 player1Name, player2Name, combinedScore, remainingHearts);
+                                                                 player1Name, player2Name, combinedScore, remainingHearts,
+                                                                 boardSpec, seed, noGuessLayout);
                         history.add(gameHistory);
                     } catch (Exception e) {
                         System.err.println("Error parsing history line: " + line);
@@ -121,18 +146,22 @@ public class HistoryManager {
             
             try (PrintWriter writer = new PrintWriter(new FileWriter(historyCsvFile))) {
                 // Write header
-                writer.println("Difficulty,Date,DurationSeconds,Player1Name,Player2Name,CombinedScore,RemainingHearts");
+                writer.println("Difficulty,Date,DurationSeconds,Player1Name,Player2Name,CombinedScore,RemainingHearts,Board,Seed,Mode,BoardSeeds");
                 
                 // Write each game history entry
                 for (GameHistory gameHistory : history) {
-                    writer.printf("%s,%s,%d,%s,%s,%d,%d%n",
+                    writer.printf("%s,%s,%d,%s,%s,%d,%d,%s,%s,%s,%s%n",
                         gameHistory.getDifficulty().name(),
                         gameHistory.getFormattedDate(),
                         gameHistory.getDurationSeconds(),
                         escapeCsv(gameHistory.getPlayer1Name()),
                         escapeCsv(gameHistory.getPlayer2Name()),
                         gameHistory.getCombinedScore(),
-                        gameHistory.getRemainingHearts()
+                        gameHistory.getRemainingHearts(),
+                        formatBoardSpec(gameHistory.getBoardSpec()),
+                        gameHistory.hasSeed() ? gameHistory.getSeed().toString() : "",
+                        gameHistory.isNoGuess() ? MODE_NO_GUESS : MODE_STANDARD,
+                        gameHistory.isNoGuess() ? formatNoGuessLayout(gameHistory.getNoGuessLayout()) : ""
                     );
                 }
             }
@@ -181,6 +210,67 @@ public class HistoryManager {
         }
     }
     
+    /**
+     * Formats a board spec as rows x cols / mines / questions / surprises, e.g. "16x16/44/11/4",
+     * followed by "/topology" for boards that are not the standard grid.
+     */
+    private String formatBoardSpec(BoardSpec spec) {
+        String formatted = spec.getRows() + "x" + spec.getCols() + "/" + spec.getMineCount() + "/"
+                + spec.getQuestionCount() + "/" + spec.getSurpriseCount();
+        if (spec.getTopology() != Topology.GRID) {
+            formatted += "/" + spec.getTopology().getName();
+        }
+        return formatted;
+    }
+    
+    /**
+     * Parses a board spec written by formatBoardSpec, falling back to the difficulty's spec.
+     */
+    private BoardSpec parseBoardSpec(String specStr, Game.Difficulty difficulty) {
+        try {
+            String[] parts = specStr.split("/");
+            String[] size = parts[0].split("x");
+            Topology topology = parts.length > 4 ? Topology.forName(parts[4]) : Topology.GRID;
+            return new BoardSpec(Integer.parseInt(size[0]), Integer.parseInt(size[1]),
+                                 Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+                                 Integer.parseInt(parts[3]), topology);
+        } catch (RuntimeException e) {
+            return difficulty.getBoardSpec(); // Default
+        }
+    }
+    
+    /**
+     * Formats the picked no-guess boards as "seed:state;seed:state" for player 1 and 2,
+     * where state is "certified" or "fallback", e.g. "-4211:certified;9087:fallback".
+     */
+    private String formatNoGuessLayout(NoGuessLayout layout) {
+        return formatNoGuessBoard(layout, 1) + ";" + formatNoGuessBoard(layout, 2);
+    }
+    
+    private String formatNoGuessBoard(NoGuessLayout layout, int player) {
+        return layout.getCandidateSeed(player) + ":" + (layout.isCertified(player) ? "certified" : "fallback");
+    }
+    
+    /**
+     * Parses the picked no-guess boards written by formatNoGuessLayout.
+     * 
+     * @throws IllegalArgumentException if the value is malformed, so the line is skipped
+     *         rather than replayed on the wrong boards
+     */
+    private NoGuessLayout parseNoGuessLayout(String layoutStr) {
+        String[] boards = layoutStr.split(";");
+        if (boards.length != 2) {
+            throw new IllegalArgumentException("Expected two no-guess boards: " + layoutStr);
+        }
+        String[] player1 = boards[0].split(":");
+        String[] player2 = boards[1].split(":");
+        if (player1.length != 2 || player2.length != 2) {
+            throw new IllegalArgumentException("Malformed no-guess boards: " + layoutStr);
+        }
+        return new NoGuessLayout(Long.parseLong(player1[0]), "certified".equals(player1[1]),
+                                 Long.parseLong(player2[0]), "certified".equals(player2[1]));
+    }
+    
     /**
      * Creates demo games for testing/display purposes.
      * 
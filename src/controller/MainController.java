@@ -1,27 +1,42 @@
 package controller;
 
+import model.BoardSpec;
 import model.Game;
+import model.GeneratedBoards;
 import model.SysData;
 import view.GameSetupDialog;
 import view.MainView;
 
 import javax.swing.*;
 import java.awt.event.ActionListener;
+import java.util.concurrent.ExecutionException;
 
 public class MainController {
 
     private static final String QUESTION_MANAGER_PIN = "2580";
+    // Ready games kept per difficulty; one covers "play again", two cover quick restarts
+    private static final int BOARD_POOL_CAPACITY = 2;
+    // The computer partner gets most questions right and answers within half a second
+    private static final double BOT_QUESTION_ACCURACY = 0.7;
+    private static final long BOT_MOVE_BUDGET_MILLIS = 500;
 
     @SuppressWarnings("unused")
     private final SysData model;
     private final MainView view;
+    private final BoardPool boardPool;
 
     public MainController(SysData model, MainView view) {
         this.model = model;
         this.view = view;
+        this.boardPool = new BoardPool(BOARD_POOL_CAPACITY);
     }
 
     public void init() {
+        // Generate boards for every difficulty in the background while the menu is shown
+        for (Game.Difficulty difficulty : Game.Difficulty.values()) {
+            boardPool.prefill(difficulty.getBoardSpec());
+        }
+
         view.setButtonListeners(
                 createStartGameListener(),
                 createHistoryListener(),
@@ -36,26 +51,79 @@ public class MainController {
             GameSetupDialog setupDialog = new GameSetupDialog(view);
             setupDialog.setVisible(true);
             if (setupDialog.isConfirmed()) {
-                String player1Name = setupDialog.getPlayer1Name();
-                String player2Name = setupDialog.getPlayer2Name();
                 Game.Difficulty difficulty = mapDifficulty(setupDialog.getDifficulty());
+                BoardSpec spec = difficulty.getBoardSpec();
+                if (!setupDialog.isNoGuess()) {
+                    // Pre-generated boards; an ordinary board is quick to generate here if none are ready
+                    startGame(setupDialog, difficulty, boardPool.take(spec));
+                    return;
+                }
+                GeneratedBoards ready = boardPool.poll(spec, true);
+                if (ready != null) {
+                    startGame(setupDialog, difficulty, ready);
+                    return;
+                }
+                takeNoGuessBoards(setupDialog, difficulty, spec);
+            }
+        };
+    }
 
-                // Load questions
-                QuestionLogic questionLogic = new QuestionLogic();
-                questionLogic.loadQuestionsFromCSV("resources/Questions.csv");
-
-                // Create game
-                Game game = new Game(player1Name, player2Name, difficulty, questionLogic);
-
-                // Create game controller with callback to return to main menu
-                new GameController(game, view.getGamePanel(), questionLogic, () -> {
-                    view.showMainMenu();
-                });
+    /**
+     * Generates no-guess boards off the Event Dispatch Thread, which can take a few
+     * seconds, and starts the game once they are ready. A progress dialog is shown
+     * meanwhile.
+     */
+    private void takeNoGuessBoards(GameSetupDialog setupDialog, Game.Difficulty difficulty, BoardSpec spec) {
+        JDialog progress = view.createProgressDialog("Preparing Boards",
+                "Finding boards that can be solved without guessing...");
+        SwingWorker<GeneratedBoards, Void> worker = new SwingWorker<>() {
+            @Override
+            protected GeneratedBoards doInBackground() {
+                return boardPool.take(spec, true);
+            }
 
-                // Show game panel
-                view.showGamePanel(null);
+            @Override
+            protected void done() {
+                progress.dispose();
+                try {
+                    startGame(setupDialog, difficulty, get());
+                } catch (InterruptedException | ExecutionException ex) {
+                    JOptionPane.showMessageDialog(
+                            view,
+                            "Could not prepare the boards: " + ex.getMessage(),
+                            "Error",
+                            JOptionPane.ERROR_MESSAGE);
+                }
             }
         };
+        worker.execute();
+        // Modal: returns once done() has disposed it
+        progress.setVisible(true);
+    }
+
+    /**
+     * Starts a game on the given boards with the players chosen in the setup dialog.
+     */
+    private void startGame(GameSetupDialog setupDialog, Game.Difficulty difficulty, GeneratedBoards boards) {
+        String player1Name = setupDialog.getPlayer1Name();
+        String player2Name = setupDialog.getPlayer2Name();
+
+        // Load questions
+        QuestionLogic questionLogic = new QuestionLogic();
+        questionLogic.loadQuestionsFromCSV("resources/Questions.csv");
+
+        Game game = new Game(player1Name, player2Name, difficulty, boards, questionLogic);
+
+        // Create game controller with callback to return to main menu
+        GameController gameController = new GameController(game, view.getGamePanel(), questionLogic, () -> {
+            view.showMainMenu();
+        });
+        if (setupDialog.isPlayer2Bot()) {
+            gameController.setBotPlayer(2, BOT_QUESTION_ACCURACY, BOT_MOVE_BUDGET_MILLIS, System.nanoTime());
+        }
+
+        // Show game panel
+        view.showGamePanel(null);
     }
 
     private Game.Difficulty mapDifficulty(int difficultySelection) {
@@ -93,6 +161,7 @@ public class MainController {
     private ActionListener createExitListener() {
         return e -> {
             if (view.confirmExit()) {
+                boardPool.shutdown();
                 view.dispose();
                 System.exit(0);
             }
@@ -0,0 +1,216 @@
+package controller;
+
+import model.Question;
+import model.RevealResult;
+
+/**
+ * The typed result of one command sent to a {@link GameEngine}: what happened, how the
+ * shared score and lives changed, and whether the move ended the game.
+ * <p>
+ * Outcomes carry no presentation. The Swing controller turns them into dialogs and
+ * sounds; headless callers (simulations, bots, tests) just read them.
+ *
+ * @author Team Sloth
+ */
+public final class MoveOutcome {
+
+    /**
+     * What a command did.
+     */
+    public enum Type {
+        /** The game is over, the cell does not exist, or the command had nothing to act on */
+        IGNORED,
+        /** The command came from the player whose turn it is not */
+        NOT_YOUR_TURN,
+        /** A flag was attempted on a revealed cell */
+        CANNOT_FLAG_REVEALED,
+        /** The question or surprise of this cell was already used */
+        ALREADY_USED,
+        /** The question cell has no question attached */
+        NO_QUESTION,
+        /** The question cell is revealed and unopened; answer it with an activate-question command */
+        QUESTION_READY,
+        /** A number or empty cell was revealed (with any cascade) */
+        REVEALED,
+        /** A question cell was revealed; it can be activated on a later turn */
+        QUESTION_FOUND,
+        /** A surprise cell was revealed; it can be activated on a later turn */
+        SURPRISE_FOUND,
+        /** A mine was revealed */
+        MINE_HIT,
+        /** A chord revealed the hidden neighbours of a satisfied number */
+        CHORDED,
+        /** A flag was placed */
+        FLAGGED,
+        /** A flag was removed */
+        UNFLAGGED,
+        /** A question was answered correctly */
+        QUESTION_CORRECT,
+        /** A question was answered incorrectly */
+        QUESTION_WRONG,
+        /** A surprise was activated */
+        SURPRISE_ACTIVATED
+    }
+
+    static final MoveOutcome IGNORED = new MoveOutcome(Type.IGNORED);
+    static final MoveOutcome NOT_YOUR_TURN = new MoveOutcome(Type.NOT_YOUR_TURN);
+    static final MoveOutcome CANNOT_FLAG_REVEALED = new MoveOutcome(Type.CANNOT_FLAG_REVEALED);
+    static final MoveOutcome ALREADY_USED = new MoveOutcome(Type.ALREADY_USED);
+    static final MoveOutcome NO_QUESTION = new MoveOutcome(Type.NO_QUESTION);
+    static final MoveOutcome FLAGGED = new MoveOutcome(Type.FLAGGED);
+    static final MoveOutcome UNFLAGGED = new MoveOutcome(Type.UNFLAGGED);
+
+    private final Type type;
+    private RevealResult changes;
+    private Question question;
+    private String message;
+    private int scoreChange;
+    private int livesChange;
+    private int minesHit;
+    private boolean gameOver;
+    private boolean won;
+    private int pointsFromLives;
+
+    MoveOutcome(Type type) {
+        this.type = type;
+    }
+
+    /**
+     * Gets what the command did.
+     *
+     * @return The outcome type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Checks whether the command changed the game. Rejected and ignored commands
+     * leave the board, the score, the lives and the turn untouched.
+     *
+     * @return true if the move was played
+     */
+    public boolean isPlayed() {
+        switch (type) {
+            case IGNORED:
+            case NOT_YOUR_TURN:
+            case CANNOT_FLAG_REVEALED:
+            case ALREADY_USED:
+            case NO_QUESTION:
+            case QUESTION_READY:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Gets every cell a reveal or chord changed.
+     *
+     * @return The changed cells, or null for moves that reveal nothing
+     */
+    public RevealResult getChanges() {
+        return changes;
+    }
+
+    /**
+     * Gets the question of a QUESTION_READY, QUESTION_CORRECT or QUESTION_WRONG outcome.
+     *
+     * @return The question, or null for other outcomes
+     */
+    public Question getQuestion() {
+        return question;
+    }
+
+    /**
+     * Gets the description of a surprise, for SURPRISE_ACTIVATED outcomes.
+     *
+     * @return The surprise message, or null for other outcomes
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Gets how much the move changed the shared score, including any points
+     * the remaining lives were converted to when the move ended the game.
+     *
+     * @return The score change in points
+     */
+    public int getScoreChange() {
+        return scoreChange;
+    }
+
+    /**
+     * Gets how much the move changed the shared lives.
+     *
+     * @return The lives change
+     */
+    public int getLivesChange() {
+        return livesChange;
+    }
+
+    /**
+     * Gets how many mines the move revealed (0 or 1, or more for a chord over wrong flags).
+     *
+     * @return The number of mines hit
+     */
+    public int getMinesHit() {
+        return minesHit;
+    }
+
+    /**
+     * Checks whether this move ended the game.
+     *
+     * @return true if the game is over after this move
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Checks whether this move won the game.
+     *
+     * @return true if the game ended with the board cleared
+     */
+    public boolean isWon() {
+        return won;
+    }
+
+    /**
+     * Gets the points the remaining shared lives were converted to when this move ended the game.
+     *
+     * @return The converted points, or 0 if the game goes on
+     */
+    public int getPointsFromLives() {
+        return pointsFromLives;
+    }
+
+    MoveOutcome withChanges(RevealResult changes) {
+        this.changes = changes;
+        this.minesHit = changes.getMinesHit();
+        return this;
+    }
+
+    MoveOutcome withQuestion(Question question) {
+        this.question = question;
+        return this;
+    }
+
+    MoveOutcome withMessage(String message) {
+        this.message = message;
+        return this;
+    }
+
+    void setDeltas(int scoreChange, int livesChange) {
+        this.scoreChange = scoreChange;
+        this.livesChange = livesChange;
+    }
+
+    void setGameOver(boolean won, int pointsFromLives) {
+        this.gameOver = true;
+        this.won = won;
+        this.pointsFromLives = pointsFromLives;
+        this.scoreChange += pointsFromLives;
+    }
+}
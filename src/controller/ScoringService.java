@@ -16,12 +16,24 @@ import java.util.Random;
  * - Surprise cells: +1pt if revealed correctly, -3pts if flagged incorrectly, activation with 50-50 chance (cost and rewards vary by difficulty)
  */
 public class ScoringService {
+    // Null in headless play; checked before formatting, so no entry's arguments are boxed
     private final SysData sysData;
     private final Random random;
 
     public ScoringService(SysData sysData) {
+        this(sysData, new Random());
+    }
+
+    /**
+     * Creates a scoring service with its own source of randomness for surprise outcomes,
+     * so that a seeded service scores a replayed game the same way every time.
+     *
+     * @param sysData Where history entries are recorded, or null to record none (headless play)
+     * @param random The random source for surprise outcomes
+     */
+    public ScoringService(SysData sysData, Random random) {
         this.sysData = sysData;
-        this.random = new Random();
+        this.random = random;
     }
 
     /**
@@ -33,7 +45,9 @@ public class ScoringService {
      */
     public void scoreMineFlaggedCorrectly(Game game, String playerName) {
         game.addSharedScore(1);
-        sysData.addHistoryEntry(String.format("%s flagged a mine correctly (+1pt)", playerName));
+        if (sysData != null) {
+            sysData.addHistoryEntry(String.format("%s flagged a mine correctly (+1pt)", playerName));
+        }
     }
 
     /**
@@ -46,7 +60,9 @@ public class ScoringService {
      */
     public void scoreMineFlaggedIncorrectly(Game game, String playerName) {
         game.addSharedScore(-1);
-        sysData.addHistoryEntry(String.format("%s flagged a non-mine cell incorrectly (-1pt)", playerName));
+        if (sysData != null) {
+            sysData.addHistoryEntry(String.format("%s flagged a non-mine cell incorrectly (-1pt)", playerName));
+        }
     }
 
     /**
@@ -58,8 +74,10 @@ public class ScoringService {
      */
     public void scoreMineHit(Game game, String playerName) {
         game.decreaseSharedLives();
-        sysData.addHistoryEntry(String.format("%s hit a mine! Lost 1 shared life (Lives: %d)", 
-                playerName, game.getSharedLives()));
+        if (sysData != null) {
+            sysData.addHistoryEntry(String.format("%s hit a mine! Lost 1 shared life (Lives: %d)", 
+                    playerName, game.getSharedLives()));
+        }
     }
 
     /**
@@ -72,8 +90,10 @@ public class ScoringService {
      */
     public void scoreNumberedCellRevealedCorrectly(Game game, String playerName, int cellValue) {
         game.addSharedScore(1);
-        sysData.addHistoryEntry(String.format("%s revealed numbered cell %d correctly (+1pt)", 
-                playerName, cellValue));
+        if (sysData != null) {
+            sysData.addHistoryEntry(String.format("%s revealed numbered cell %d correctly (+1pt)", 
+                    playerName, cellValue));
+        }
     }
 
     /**
@@ -86,8 +106,55 @@ public class ScoringService {
      */
     public void scoreNumberedCellFlaggedIncorrectly(Game game, String playerName, int cellValue) {
         game.addSharedScore(-3);
-        sysData.addHistoryEntry(String.format("%s flagged numbered cell %d incorrectly (-3pts)", 
-                playerName, cellValue));
+        if (sysData != null) {
+            sysData.addHistoryEntry(String.format("%s flagged numbered cell %d incorrectly (-3pts)", 
+                    playerName, cellValue));
+        }
+    }
+
+    /**
+     * Handles scoring for a whole chord in one step.
+     * Awards +1 point per safe neighbour the chord revealed (as if each had been clicked)
+     * and takes 1 shared life per mine it revealed, with a single history entry.
+     *
+     * @param game The game instance
+     * @param playerName The name of the player who chorded
+     * @param safeCells Number of safe neighbours the chord revealed
+     * @param minesHit Number of mines the chord revealed (wrong flags)
+     */
+    public void scoreChord(Game game, String playerName, int safeCells, int minesHit) {
+        if (safeCells > 0) {
+            game.addSharedScore(safeCells);
+        }
+        for (int i = 0; i < minesHit; i++) {
+            if (game.decreaseSharedLives()) {
+                break; // Lives ran out; the game is already over
+            }
+        }
+        if (sysData == null) {
+            return;
+        }
+        if (minesHit > 0) {
+            sysData.addHistoryEntry(String.format("%s chorded %d cells (+%dpts) and hit %d mine(s)! (Lives: %d)",
+                    playerName, safeCells + minesHit, safeCells, minesHit, game.getSharedLives()));
+        } else {
+            sysData.addHistoryEntry(String.format("%s chorded %d cells (+%dpts)", playerName, safeCells, safeCells));
+        }
+    }
+
+    /**
+     * Handles scoring when a player asks for a hint.
+     * Deducts the hint cost from the shared score.
+     *
+     * @param game The game instance
+     * @param playerName The name of the player who asked for the hint
+     * @param cost The cost of the hint in points
+     */
+    public void scoreHintUsed(Game game, String playerName, int cost) {
+        game.addSharedScore(-cost);
+        if (sysData != null) {
+            sysData.addHistoryEntry(String.format("%s used a hint (-%dpts)", playerName, cost));
+        }
     }
 
     /**
@@ -120,18 +187,25 @@ public class ScoringService {
                 }
             } else {
                 for (int i = 0; i < -scoreChange[1]; i++) {
-                    game.decreaseSharedLives();
+                    if (game.decreaseSharedLives()) {
+                        break; // Lives ran out; the game is already over
+                    }
                 }
             }
         }
         
+        if (sysData == null) {
+            return; // No history to describe the activation for
+        }
         String difficultyName = difficulty == 1 ? "Easy" : difficulty == 2 ? "Medium" : "Hard";
         String questionTypeName = getQuestionTypeName(questionType);
         String answerResult = isCorrect ? "correctly" : "incorrectly";
         String lifeChange = scoreChange[1] != 0 ? String.format(", %s%d shared life", scoreChange[1] > 0 ? "+" : "", scoreChange[1]) : "";
-        sysData.addHistoryEntry(String.format("%s activated question cell (%s: -%dpts cost, %s answered %s %s%dpts%s)", 
-                playerName, difficultyName, cost, questionTypeName, answerResult, 
-                scoreChange[0] >= 0 ? "+" : "", scoreChange[0], lifeChange));
+        if (sysData != null) {
+            sysData.addHistoryEntry(String.format("%s activated question cell (%s: -%dpts cost, %s answered %s %s%dpts%s)", 
+                    playerName, difficultyName, cost, questionTypeName, answerResult, 
+                    scoreChange[0] >= 0 ? "+" : "", scoreChange[0], lifeChange));
+        }
     }
 
     /**
@@ -155,7 +229,9 @@ public class ScoringService {
      */
     public void scoreEmptyCellRevealedCorrectly(Game game, String playerName) {
         game.addSharedScore(1);
-        sysData.addHistoryEntry(String.format("%s revealed empty cell correctly (+1pt)", playerName));
+        if (sysData != null) {
+            sysData.addHistoryEntry(String.format("%s revealed empty cell correctly (+1pt)", playerName));
+        }
     }
 
     /**
@@ -167,7 +243,9 @@ public class ScoringService {
      */
     public void scoreEmptyCellFlaggedIncorrectly(Game game, String playerName) {
         game.addSharedScore(-3);
-        sysData.addHistoryEntry(String.format("%s flagged empty cell incorrectly (-3pts)", playerName));
+        if (sysData != null) {
+            sysData.addHistoryEntry(String.format("%s flagged empty cell incorrectly (-3pts)", playerName));
+        }
     }
 
     /**
@@ -180,7 +258,9 @@ public class ScoringService {
      */
     public void scoreQuestionCellRevealedCorrectly(Game game, String playerName) {
         game.addSharedScore(1);
-        sysData.addHistoryEntry(String.format("%s revealed question cell correctly (+1pt)", playerName));
+        if (sysData != null) {
+            sysData.addHistoryEntry(String.format("%s revealed question cell correctly (+1pt)", playerName));
+        }
     }
 
     /**
@@ -192,7 +272,9 @@ public class ScoringService {
      */
     public void scoreQuestionCellFlaggedIncorrectly(Game game, String playerName) {
         game.addSharedScore(-3);
-        sysData.addHistoryEntry(String.format("%s flagged question cell incorrectly (-3pts)", playerName));
+        if (sysData != null) {
+            sysData.addHistoryEntry(String.format("%s flagged question cell incorrectly (-3pts)", playerName));
+        }
     }
 
     /**
@@ -204,7 +286,9 @@ public class ScoringService {
      */
     public void scoreSurpriseCellRevealedCorrectly(Game game, String playerName) {
         game.addSharedScore(1);
-        sysData.addHistoryEntry(String.format("%s revealed surprise cell correctly (+1pt)", playerName));
+        if (sysData != null) {
+            sysData.addHistoryEntry(String.format("%s revealed surprise cell correctly (+1pt)", playerName));
+        }
     }
 
     /**
@@ -216,7 +300,9 @@ public class ScoringService {
      */
     public void scoreSurpriseCellFlaggedIncorrectly(Game game, String playerName) {
         game.addSharedScore(-3);
-        sysData.addHistoryEntry(String.format("%s flagged surprise cell incorrectly (-3pts)", playerName));
+        if (sysData != null) {
+            sysData.addHistoryEntry(String.format("%s flagged surprise cell incorrectly (-3pts)", playerName));
+        }
     }
 
     /**
@@ -253,8 +339,10 @@ public class ScoringService {
         String pointsChange = reward[0] >= 0 ? String.format("+%dpts", reward[0]) : 
                              String.format("%dpts", reward[0]);
         
-        sysData.addHistoryEntry(String.format("%s activated surprise cell (%s: -%dpts cost, %s, %s)", 
-                playerName, outcome, cost, pointsChange, lifeChange));
+        if (sysData != null) {
+            sysData.addHistoryEntry(String.format("%s activated surprise cell (%s: -%dpts cost, %s, %s)", 
+                    playerName, outcome, cost, pointsChange, lifeChange));
+        }
         
         // Build and return the surprise message
         String surpriseType = goodSurprise ? "Good Surprise!" : "Bad Surprise!";
@@ -521,8 +609,10 @@ public class ScoringService {
         int pointsToAdd = remainingLives * activationCost;
         
         game.addSharedScore(pointsToAdd);
-        sysData.addHistoryEntry(String.format("Game ended: %d remaining shared lives converted to %d points (%d lives × %d activation cost)", 
-                remainingLives, pointsToAdd, remainingLives, activationCost));
+        if (sysData != null) {
+            sysData.addHistoryEntry(String.format("Game ended: %d remaining shared lives converted to %d points (%d lives × %d activation cost)", 
+                    remainingLives, pointsToAdd, remainingLives, activationCost));
+        }
         
         return pointsToAdd;
     }
@@ -0,0 +1,264 @@
+package controller;
+
+import model.Game;
+
+/**
+ * The aggregated outcome of many simulated games (see {@link GameSimulator}): win rate
+ * and the distributions of final score, remaining lives and game length.
+ *
+ * @author Team Sloth
+ */
+public class SimulationResult {
+
+    /**
+     * A histogram of integer values over a fixed range. Values outside the range are
+     * counted at the nearest bound for percentiles, while the minimum, maximum and mean
+     * stay exact.
+     */
+    public static final class Distribution {
+        private final int lowest;
+        private final long[] counts;
+        private long count;
+        private long sum;
+        private int min = Integer.MAX_VALUE;
+        private int max = Integer.MIN_VALUE;
+
+        Distribution(int lowest, int highest) {
+            this.lowest = lowest;
+            this.counts = new long[highest - lowest + 1];
+        }
+
+        void add(int value) {
+            int bucket = Math.max(0, Math.min(counts.length - 1, value - lowest));
+            counts[bucket]++;
+            count++;
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        void merge(Distribution other) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.counts[i];
+            }
+            count += other.count;
+            sum += other.sum;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+
+        /**
+         * Gets the number of recorded values.
+         *
+         * @return The value count
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Gets how many times a value was recorded.
+         *
+         * @param value The value
+         * @return The number of occurrences (values outside the range count at its bounds)
+         */
+        public long getCount(int value) {
+            int bucket = value - lowest;
+            return bucket < 0 || bucket >= counts.length ? 0 : counts[bucket];
+        }
+
+        /**
+         * Gets the mean of the recorded values.
+         *
+         * @return The mean, or 0.0 if nothing was recorded
+         */
+        public double getMean() {
+            return count == 0 ? 0.0 : (double) sum / count;
+        }
+
+        /**
+         * Gets the smallest recorded value.
+         *
+         * @return The minimum, or 0 if nothing was recorded
+         */
+        public int getMin() {
+            return count == 0 ? 0 : min;
+        }
+
+        /**
+         * Gets the largest recorded value.
+         *
+         * @return The maximum, or 0 if nothing was recorded
+         */
+        public int getMax() {
+            return count == 0 ? 0 : max;
+        }
+
+        /**
+         * Gets a percentile of the recorded values (nearest-rank method).
+         *
+         * @param percentile The percentile (0 to 100)
+         * @return The value at that percentile, or 0 if nothing was recorded
+         */
+        public int getPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return i + lowest;
+                }
+            }
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("mean %.1f, min %d, p10 %d, p50 %d, p90 %d, p99 %d, max %d",
+                    getMean(), getMin(), getPercentile(10), getPercentile(50), getPercentile(90),
+                    getPercentile(99), getMax());
+        }
+    }
+
+    private final Game.Difficulty difficulty;
+    private final GameSimulator.MovePolicy policy;
+    private final double questionAccuracy;
+    private long games;
+    private long wins;
+    private long movesCapped;
+    private final Distribution scores = new Distribution(-2000, 2000);
+    private final Distribution lives = new Distribution(0, 10);
+    private final Distribution lengths = new Distribution(0, 4096);
+
+    SimulationResult(Game.Difficulty difficulty, GameSimulator.MovePolicy policy, double questionAccuracy) {
+        this.difficulty = difficulty;
+        this.policy = policy;
+        this.questionAccuracy = questionAccuracy;
+    }
+
+    void addGame(boolean won, boolean capped, int score, int remainingLives, int moves) {
+        games++;
+        if (won) {
+            wins++;
+        }
+        if (capped) {
+            movesCapped++;
+        }
+        scores.add(score);
+        lives.add(remainingLives);
+        lengths.add(moves);
+    }
+
+    void merge(SimulationResult other) {
+        games += other.games;
+        wins += other.wins;
+        movesCapped += other.movesCapped;
+        scores.merge(other.scores);
+        lives.merge(other.lives);
+        lengths.merge(other.lengths);
+    }
+
+    /**
+     * Gets the simulated difficulty.
+     *
+     * @return The difficulty
+     */
+    public Game.Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * Gets the policy the simulated players followed.
+     *
+     * @return The move policy
+     */
+    public GameSimulator.MovePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Gets the probability with which the simulated players answered questions correctly.
+     *
+     * @return The question accuracy (0.0 to 1.0)
+     */
+    public double getQuestionAccuracy() {
+        return questionAccuracy;
+    }
+
+    /**
+     * Gets the number of simulated games.
+     *
+     * @return The game count
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of games won.
+     *
+     * @return The win count
+     */
+    public long getWins() {
+        return wins;
+    }
+
+    /**
+     * Gets the fraction of games won.
+     *
+     * @return The win rate (0.0 to 1.0)
+     */
+    public double getWinRate() {
+        return games == 0 ? 0.0 : (double) wins / games;
+    }
+
+    /**
+     * Gets the number of games stopped at the move limit before they ended.
+     *
+     * @return The capped game count (0 unless the rules allow endless games)
+     */
+    public long getMovesCapped() {
+        return movesCapped;
+    }
+
+    /**
+     * Gets the distribution of final combined scores, including converted lives.
+     *
+     * @return The score distribution
+     */
+    public Distribution getScores() {
+        return scores;
+    }
+
+    /**
+     * Gets the distribution of shared lives left at the end of a game.
+     *
+     * @return The lives distribution
+     */
+    public Distribution getLives() {
+        return lives;
+    }
+
+    /**
+     * Gets the distribution of game lengths, in moves played by both players.
+     *
+     * @return The game length distribution
+     */
+    public Distribution getLengths() {
+        return lengths;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s, %s policy, %.0f%% accuracy: %d games, win rate %.1f%%%n"
+                + "  score:  %s%n  lives:  %s%n  length: %s",
+                difficulty, policy, questionAccuracy * 100, games, getWinRate() * 100,
+                scores, lives, lengths);
+    }
+}
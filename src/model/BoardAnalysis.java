@@ -0,0 +1,95 @@
+package model;
+
+/**
+ * The result of a {@link BoardSolver} run: for every cell of a board, whether it is
+ * certainly safe, certainly a mine, or a mine with an exact probability, given only what
+ * a player can see.
+ * <p>
+ * Revealed cells are reported as certain (safe, or a mine if a mine was revealed). Flags
+ * are ignored: a flag is a player's claim, not information from the board.
+ *
+ * @author Team Sloth
+ */
+public class BoardAnalysis {
+
+    /**
+     * What is known about a cell.
+     */
+    public enum Certainty {
+        SAFE,
+        MINE,
+        UNKNOWN
+    }
+
+    private final int rows;
+    private final int cols;
+    private final double[] probabilities;
+    private final Certainty[] certainties;
+    private final int componentCount;
+
+    BoardAnalysis(int rows, int cols, double[] probabilities, Certainty[] certainties, int componentCount) {
+        this.rows = rows;
+        this.cols = cols;
+        this.probabilities = probabilities;
+        this.certainties = certainties;
+        this.componentCount = componentCount;
+    }
+
+    private int index(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IllegalArgumentException("Cell out of bounds: " + row + "," + col);
+        }
+        return row * cols + col;
+    }
+
+    /**
+     * Gets the probability that a cell is a mine.
+     *
+     * @param row The row index
+     * @param col The column index
+     * @return The probability (0.0 to 1.0); exactly 0.0 or 1.0 for certain cells
+     */
+    public double getMineProbability(int row, int col) {
+        return probabilities[index(row, col)];
+    }
+
+    /**
+     * Gets what is known about a cell.
+     *
+     * @param row The row index
+     * @param col The column index
+     * @return SAFE or MINE if the visible board decides the cell, UNKNOWN otherwise
+     */
+    public Certainty getCertainty(int row, int col) {
+        return certainties[index(row, col)];
+    }
+
+    /**
+     * Finds the hidden cell least likely to be a mine. Certainly safe cells come first;
+     * ties go to the lowest row-major index. Flagged cells are skipped: the player has
+     * already marked them, and they cannot be revealed until unflagged.
+     *
+     * @param board The analysed board, to tell hidden cells from revealed and flagged ones
+     * @return The row-major index of the safest unflagged hidden cell, or -1 if there is none
+     */
+    public int getSafestCell(GameBoard board) {
+        short[] cells = board.packedCells();
+        int safest = -1;
+        for (int index = 0; index < cells.length; index++) {
+            if (PackedCell.state(cells[index]) == PackedCell.HIDDEN
+                    && (safest < 0 || probabilities[index] < probabilities[safest])) {
+                safest = index;
+            }
+        }
+        return safest;
+    }
+
+    /**
+     * Gets the number of independent frontier components the solver enumerated.
+     *
+     * @return The component count
+     */
+    public int getComponentCount() {
+        return componentCount;
+    }
+}
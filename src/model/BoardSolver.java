@@ -0,0 +1,657 @@
+package model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Computes, from the visible state of a {@link GameBoard} only, which hidden cells are
+ * certainly safe, which are certainly mines, and the exact mine probability of the rest.
+ * Hints, bots and board grading all read its {@link BoardAnalysis}.
+ * <p>
+ * Every revealed cell constrains its hidden neighbours: a NUMBER cell to its count, any
+ * other safe cell to zero (cascading cells never border a mine). Hidden cells next to a
+ * revealed cell form the frontier. The frontier is split into independent components
+ * (cells linked through shared constraints), and each component is enumerated separately
+ * by backtracking with forward checking, recording for every mine total how many
+ * solutions there are and how many of them put a mine on each cell. The components and
+ * the cells off the frontier are then combined under the global mine count: a solution
+ * with {@code M} frontier mines leaves {@code C(others, remaining - M)} ways to place the
+ * rest, so the cost is one enumeration per component plus a few small convolutions,
+ * instead of an enumeration of the whole frontier.
+ * <p>
+ * Flags are treated as hidden cells: a flag is a player's claim, not information.
+ * <p>
+ * A solver remembers the components of its last analysis, keyed by their constraints.
+ * A reveal only changes the components next to it, so analysing the same board again
+ * enumerates just those and reuses the rest; a flag changes none. Use one solver per board.
+ * <p>
+ * {@link #analyze(GameBoard, long)} gives up at a deadline or when its thread is interrupted,
+ * for callers that must answer in time; an abandoned analysis leaves the cache as it was.
+ *
+ * @author Team Sloth
+ */
+public class BoardSolver {
+
+    // Checks the clock and the interrupt flag once per this many search nodes
+    private static final int CHECK_INTERVAL = 1024;
+    // No deadline
+    private static final long NONE = Long.MAX_VALUE;
+
+    private Map<ComponentKey, Component> cache = new HashMap<>();
+    private long componentsEnumerated;
+    private long componentsReused;
+
+    /**
+     * Analyses the visible state of a board.
+     *
+     * @param board The board to analyse
+     * @return The certainty and mine probability of every cell
+     */
+    public BoardAnalysis analyze(GameBoard board) {
+        return analyze(board, NONE, false);
+    }
+
+    /**
+     * Analyses the visible state of a board unless that takes past a deadline. The search
+     * also stops when the calling thread is interrupted; the interrupt flag is left set.
+     *
+     * @param board The board to analyse
+     * @param deadlineNanos The {@link System#nanoTime()} by which to give up
+     * @return The certainty and mine probability of every cell, or null if the deadline
+     *         passed or the thread was interrupted first
+     */
+    public BoardAnalysis analyze(GameBoard board, long deadlineNanos) {
+        try {
+            return analyze(board, deadlineNanos, true);
+        } catch (Abandoned e) {
+            return null;
+        }
+    }
+
+    private BoardAnalysis analyze(GameBoard board, long deadlineNanos, boolean interruptible) {
+        short[] cells = board.packedCells();
+        NeighbourTable neighbours = board.getNeighbourTable();
+        int size = cells.length;
+
+        int revealedMines = 0;
+        int hidden = 0;
+        for (short bits : cells) {
+            if (PackedCell.state(bits) != PackedCell.REVEALED) {
+                hidden++;
+            } else if (PackedCell.type(bits) == PackedCell.MINE) {
+                revealedMines++;
+            }
+        }
+        int remaining = board.getTotalMines() - revealedMines;
+
+        // One constraint per revealed safe cell with hidden neighbours, stored CSR-style
+        int[] varOf = new int[size];
+        Arrays.fill(varOf, -1);
+        int[] varCells = new int[16];
+        int vars = 0;
+        int[] need = new int[16];
+        int[] constraintCell = new int[16];
+        int[] constraintStart = new int[17];
+        int[] members = new int[64];
+        int constraints = 0;
+        int memberCount = 0;
+        for (int index = 0; index < size; index++) {
+            short bits = cells[index];
+            if (PackedCell.state(bits) != PackedCell.REVEALED || PackedCell.type(bits) == PackedCell.MINE) {
+                continue;
+            }
+            int value = PackedCell.type(bits) == PackedCell.NUMBER ? PackedCell.count(bits) : 0;
+            int start = memberCount;
+            for (int delta : neighbours.deltas(index)) {
+                int neighbour = index + delta;
+                short other = cells[neighbour];
+                if (PackedCell.state(other) == PackedCell.REVEALED) {
+                    if (PackedCell.type(other) == PackedCell.MINE) {
+                        value--;
+                    }
+                    continue;
+                }
+                if (varOf[neighbour] < 0) {
+                    if (vars == varCells.length) {
+                        varCells = Arrays.copyOf(varCells, vars * 2);
+                    }
+                    varOf[neighbour] = vars;
+                    varCells[vars++] = neighbour;
+                }
+                if (memberCount == members.length) {
+                    members = Arrays.copyOf(members, memberCount * 2);
+                }
+                members[memberCount++] = varOf[neighbour];
+            }
+            if (memberCount == start) {
+                continue;
+            }
+            if (constraints == need.length) {
+                need = Arrays.copyOf(need, constraints * 2);
+                constraintCell = Arrays.copyOf(constraintCell, constraints * 2);
+                constraintStart = Arrays.copyOf(constraintStart, constraints * 2 + 1);
+            }
+            need[constraints] = value;
+            constraintCell[constraints] = index;
+            constraintStart[constraints++] = start;
+            constraintStart[constraints] = memberCount;
+        }
+
+        Component[] components = components(vars, varCells, constraints, need, constraintCell, constraintStart,
+                members, remaining, deadlineNanos, interruptible);
+        return combine(board, cells, components, hidden - vars, remaining);
+    }
+
+    /**
+     * Gets the number of components enumerated since this solver was created.
+     *
+     * @return The count of components solved from scratch
+     */
+    public long getComponentsEnumerated() {
+        return componentsEnumerated;
+    }
+
+    /**
+     * Gets the number of components taken from the previous analysis since this solver was created.
+     *
+     * @return The count of components reused unchanged
+     */
+    public long getComponentsReused() {
+        return componentsReused;
+    }
+
+    /**
+     * Thrown from deep in a search to abandon an analysis. Carries no stack trace, so one
+     * instance serves every abandoned search.
+     */
+    private static final class Abandoned extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        static final Abandoned INSTANCE = new Abandoned();
+
+        private Abandoned() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * The solutions of one frontier component: per mine total, the number of solutions and
+     * the number of solutions with a mine on each cell.
+     */
+    private static final class Component {
+        int[] cells;       // Board cell indices, in enumeration order
+        double[] ways;     // ways[m]: solutions with m mines
+        double[][] mines;  // mines[v][m]: solutions with m mines and a mine on cells[v]
+    }
+
+    /**
+     * Identifies a component by everything its solutions depend on: each constraint's cell,
+     * value and hidden cells, and the mine cap when fewer mines remain than it has cells.
+     */
+    private static final class ComponentKey {
+        private final int[] data;
+        private final int hash;
+
+        ComponentKey(int[] data) {
+            this.data = data;
+            this.hash = Arrays.hashCode(data);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ComponentKey && Arrays.equals(data, ((ComponentKey) other).data);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Splits the frontier into components with a union-find over shared constraints, and
+     * enumerates each one that the previous analysis did not already solve.
+     */
+    private Component[] components(int vars, int[] varCells, int constraints, int[] need, int[] constraintCell,
+                                   int[] constraintStart, int[] members, int remaining,
+                                   long deadlineNanos, boolean interruptible) {
+        int[] parent = new int[vars];
+        for (int v = 0; v < vars; v++) {
+            parent[v] = v;
+        }
+        for (int c = 0; c < constraints; c++) {
+            int root = find(parent, members[constraintStart[c]]);
+            for (int k = constraintStart[c] + 1; k < constraintStart[c + 1]; k++) {
+                int other = find(parent, members[k]);
+                if (other != root) {
+                    parent[other] = root;
+                }
+            }
+        }
+
+        // Number the components and list their constraints
+        int[] componentOf = new int[vars];
+        Arrays.fill(componentOf, -1);
+        int count = 0;
+        for (int v = 0; v < vars; v++) {
+            int root = find(parent, v);
+            if (componentOf[root] < 0) {
+                componentOf[root] = count++;
+            }
+            componentOf[v] = componentOf[root];
+        }
+        int[] constraintCount = new int[count];
+        int[] keyLength = new int[count];
+        int[] cellCount = new int[count];
+        for (int c = 0; c < constraints; c++) {
+            int component = componentOf[members[constraintStart[c]]];
+            constraintCount[component]++;
+            keyLength[component] += 3 + constraintStart[c + 1] - constraintStart[c];
+        }
+        for (int v = 0; v < vars; v++) {
+            cellCount[componentOf[v]]++;
+        }
+        int[][] byComponent = new int[count][];
+        for (int i = 0; i < count; i++) {
+            byComponent[i] = new int[constraintCount[i]];
+            constraintCount[i] = 0;
+        }
+        for (int c = 0; c < constraints; c++) {
+            int component = componentOf[members[constraintStart[c]]];
+            byComponent[component][constraintCount[component]++] = c;
+        }
+
+        Component[] result = new Component[count];
+        Map<ComponentKey, Component> next = new HashMap<>();
+        int[] localOf = new int[vars];
+        Arrays.fill(localOf, -1);
+        int[][] varConstraints = new int[vars][];
+        for (int i = 0; i < count; i++) {
+            // Constraints are listed in board order, so equal components give equal keys
+            int[] data = new int[keyLength[i] + 1];
+            int position = 0;
+            for (int c : byComponent[i]) {
+                data[position++] = constraintCell[c];
+                data[position++] = need[c];
+                data[position++] = constraintStart[c + 1] - constraintStart[c];
+                for (int k = constraintStart[c]; k < constraintStart[c + 1]; k++) {
+                    data[position++] = varCells[members[k]];
+                }
+            }
+            data[position] = Math.min(remaining, cellCount[i]);
+            ComponentKey key = new ComponentKey(data);
+
+            Component component = cache.get(key);
+            if (component != null) {
+                componentsReused++;
+            } else {
+                checkDeadline(deadlineNanos, interruptible);
+                component = new Enumerator(byComponent[i], need, constraintStart, members, localOf, varConstraints,
+                        remaining, deadlineNanos, interruptible).run(varCells);
+                componentsEnumerated++;
+            }
+            next.put(key, component);
+            result[i] = component;
+        }
+        cache = next; // Only the latest components can match the next analysis; not reached if abandoned
+        return result;
+    }
+
+    /**
+     * Abandons an interruptible analysis once its deadline has passed or its thread is interrupted.
+     */
+    private static void checkDeadline(long deadlineNanos, boolean interruptible) {
+        if (interruptible && (Thread.currentThread().isInterrupted()
+                || deadlineNanos != NONE && System.nanoTime() - deadlineNanos >= 0)) {
+            throw Abandoned.INSTANCE;
+        }
+    }
+
+    private static int find(int[] parent, int v) {
+        while (parent[v] != v) {
+            parent[v] = parent[parent[v]];
+            v = parent[v];
+        }
+        return v;
+    }
+
+    /**
+     * Backtracking over one component. Cells are numbered in breadth-first order through
+     * their constraints, so each constraint is decided soon after its first cell is
+     * assigned. Every constraint tracks its assigned mines and unassigned cells, and an
+     * assignment is abandoned as soon as a constraint can no longer be met. The current
+     * assignment's mines are kept in a bitset, so a solution is tallied by visiting only
+     * its set bits.
+     */
+    private static final class Enumerator {
+        private final int[] cellOf;       // Local cell -> frontier variable
+        private final int[][] constraintsOf;
+        private final int[] need;
+        private final int[] mines;
+        private final int[] open;
+        private final long[] bits;
+        private final int maxMines;
+        private final double[] ways;
+        private final double[][] varMines;
+        private final long deadlineNanos;
+        private final boolean interruptible;
+        private int untilCheck = CHECK_INTERVAL;
+
+        /**
+         * @param localOf Scratch map from frontier variable to local cell, -1 when unset;
+         *                shared by all components, which never share a variable
+         * @param varConstraints Scratch lists of each variable's constraints, shared the same way
+         */
+        Enumerator(int[] constraints, int[] globalNeed, int[] constraintStart, int[] members,
+                   int[] localOf, int[][] varConstraints, int remaining, long deadlineNanos, boolean interruptible) {
+            this.deadlineNanos = deadlineNanos;
+            this.interruptible = interruptible;
+            int[][] membersOf = new int[constraints.length][];
+            int total = 0;
+            for (int c = 0; c < constraints.length; c++) {
+                int global = constraints[c];
+                membersOf[c] = Arrays.copyOfRange(members, constraintStart[global], constraintStart[global + 1]);
+                total += membersOf[c].length;
+            }
+            // Constraints of each variable, for the breadth-first walk
+            for (int[] list : membersOf) {
+                for (int v : list) {
+                    localOf[v]--; // Counts the variable's constraints (as -1 - count) until numbered
+                }
+            }
+            for (int c = 0; c < constraints.length; c++) {
+                for (int v : membersOf[c]) {
+                    if (varConstraints[v] == null) {
+                        varConstraints[v] = new int[-1 - localOf[v]];
+                        localOf[v] = -1;
+                    }
+                    int[] list = varConstraints[v];
+                    list[-1 - localOf[v]] = c;
+                    localOf[v]--;
+                }
+            }
+            for (int[] list : membersOf) {
+                for (int v : list) {
+                    localOf[v] = -1;
+                }
+            }
+            int[] order = new int[total];
+            int n = 0;
+            boolean[] constraintSeen = new boolean[constraints.length];
+            int[] queue = new int[constraints.length];
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = 0;
+            constraintSeen[0] = true;
+            while (head < tail) {
+                int c = queue[head++];
+                for (int v : membersOf[c]) {
+                    if (localOf[v] >= 0) {
+                        continue;
+                    }
+                    localOf[v] = n;
+                    order[n++] = v;
+                    for (int next : varConstraints[v]) {
+                        if (!constraintSeen[next]) {
+                            constraintSeen[next] = true;
+                            queue[tail++] = next;
+                        }
+                    }
+                }
+            }
+
+            this.cellOf = Arrays.copyOf(order, n);
+            this.constraintsOf = new int[n][];
+            for (int local = 0; local < n; local++) {
+                constraintsOf[local] = varConstraints[cellOf[local]];
+            }
+            this.need = new int[constraints.length];
+            this.open = new int[constraints.length];
+            for (int c = 0; c < constraints.length; c++) {
+                need[c] = globalNeed[constraints[c]];
+                open[c] = membersOf[c].length;
+            }
+            this.mines = new int[constraints.length];
+            this.bits = new long[(n + 63) >>> 6];
+            this.maxMines = Math.max(0, Math.min(n, remaining));
+            this.ways = new double[maxMines + 1];
+            this.varMines = new double[n][maxMines + 1];
+        }
+
+        Component run(int[] varCells) {
+            boolean feasible = true;
+            for (int c = 0; c < need.length; c++) {
+                feasible &= need[c] >= 0 && need[c] <= open[c];
+            }
+            if (feasible) {
+                search(0, 0);
+            }
+            Component component = new Component();
+            component.cells = new int[cellOf.length];
+            for (int local = 0; local < cellOf.length; local++) {
+                component.cells[local] = varCells[cellOf[local]];
+            }
+            component.ways = ways;
+            component.mines = varMines;
+            return component;
+        }
+
+        private void search(int depth, int placed) {
+            if (--untilCheck == 0) {
+                untilCheck = CHECK_INTERVAL;
+                checkDeadline(deadlineNanos, interruptible);
+            }
+            if (depth == cellOf.length) {
+                ways[placed]++;
+                for (int w = 0; w < bits.length; w++) {
+                    for (long word = bits[w]; word != 0; word &= word - 1) {
+                        varMines[(w << 6) + Long.numberOfTrailingZeros(word)][placed]++;
+                    }
+                }
+                return;
+            }
+            for (int value = 0; value <= 1; value++) {
+                if (value == 1 && placed == maxMines) {
+                    break;
+                }
+                if (assign(depth, value)) {
+                    if (value == 1) {
+                        bits[depth >>> 6] |= 1L << depth;
+                    }
+                    search(depth + 1, placed + value);
+                    bits[depth >>> 6] &= ~(1L << depth);
+                }
+                unassign(depth, value);
+            }
+        }
+
+        /**
+         * Assigns a cell and checks its constraints; always apply {@link #unassign} afterwards.
+         */
+        private boolean assign(int local, int value) {
+            boolean ok = true;
+            for (int c : constraintsOf[local]) {
+                open[c]--;
+                mines[c] += value;
+                ok &= mines[c] <= need[c] && mines[c] + open[c] >= need[c];
+            }
+            return ok;
+        }
+
+        private void unassign(int local, int value) {
+            for (int c : constraintsOf[local]) {
+                open[c]++;
+                mines[c] -= value;
+            }
+        }
+    }
+
+    /**
+     * Combines the components and the cells off the frontier under the global mine count.
+     */
+    private static BoardAnalysis combine(GameBoard board, short[] cells, Component[] components,
+                                         int others, int remaining) {
+        int size = cells.length;
+        double[] probabilities = new double[size];
+        BoardAnalysis.Certainty[] certainties = new BoardAnalysis.Certainty[size];
+        for (int index = 0; index < size; index++) {
+            short bits = cells[index];
+            if (PackedCell.state(bits) == PackedCell.REVEALED) {
+                boolean mine = PackedCell.type(bits) == PackedCell.MINE;
+                probabilities[index] = mine ? 1.0 : 0.0;
+                certainties[index] = mine ? BoardAnalysis.Certainty.MINE : BoardAnalysis.Certainty.SAFE;
+            }
+        }
+
+        // Scale every component to a maximum of 1 so products stay in range; components
+        // may be cached, so they are read but never modified
+        int k = components.length;
+        double[][] dist = new double[k][];
+        double[] scale = new double[k];
+        int frontier = 0;
+        for (int i = 0; i < k; i++) {
+            double max = 0;
+            for (double w : components[i].ways) {
+                max = Math.max(max, w);
+            }
+            scale[i] = max > 0 ? max : 1;
+            dist[i] = components[i].ways.clone();
+            for (int m = 0; m < dist[i].length; m++) {
+                dist[i][m] /= scale[i];
+            }
+            frontier += components[i].cells.length;
+        }
+
+        // prefix[i] combines components 0..i-1, suffix[i] components i..k-1
+        double[][] prefix = new double[k + 1][];
+        double[][] suffix = new double[k + 1][];
+        prefix[0] = new double[] { 1.0 };
+        for (int i = 0; i < k; i++) {
+            prefix[i + 1] = convolve(prefix[i], dist[i]);
+        }
+        suffix[k] = new double[] { 1.0 };
+        for (int i = k - 1; i >= 0; i--) {
+            suffix[i] = convolve(dist[i], suffix[i + 1]);
+        }
+        double[] all = prefix[k];
+        double[] weight = restWeights(all.length, others, remaining);
+
+        double total = 0;
+        for (int m = 0; m < all.length; m++) {
+            total += all[m] * weight[m];
+        }
+        if (total <= 0) {
+            // Not consistent with the mine count (e.g. edited layout); report a uniform guess
+            double uniform = (double) Math.max(0, remaining) / Math.max(1, others + frontier);
+            for (int index = 0; index < size; index++) {
+                if (certainties[index] == null) {
+                    probabilities[index] = Math.min(1.0, uniform);
+                    certainties[index] = BoardAnalysis.Certainty.UNKNOWN;
+                }
+            }
+            return new BoardAnalysis(board.getRows(), board.getCols(), probabilities, certainties, k);
+        }
+
+        for (int i = 0; i < k; i++) {
+            // g[m]: weight of every completion of a solution of this component with m mines
+            double[] rest = convolve(prefix[i], suffix[i + 1]);
+            double[] g = new double[dist[i].length];
+            for (int m = 0; m < g.length; m++) {
+                for (int r = 0; r < rest.length && m + r < weight.length; r++) {
+                    g[m] += rest[r] * weight[m + r];
+                }
+            }
+            Component component = components[i];
+            for (int v = 0; v < component.cells.length; v++) {
+                double p = 0;
+                boolean safe = true;
+                boolean mine = true;
+                for (int m = 0; m < g.length; m++) {
+                    if (dist[i][m] * g[m] <= 0) {
+                        continue;
+                    }
+                    p += component.mines[v][m] / scale[i] * g[m];
+                    safe &= component.mines[v][m] == 0;
+                    mine &= component.mines[v][m] == component.ways[m];
+                }
+                setCell(probabilities, certainties, component.cells[v], safe, mine, p / total);
+            }
+        }
+
+        if (others > 0) {
+            double p = 0;
+            boolean safe = true;
+            boolean mine = true;
+            for (int m = 0; m < all.length; m++) {
+                if (all[m] * weight[m] <= 0) {
+                    continue;
+                }
+                p += all[m] * weight[m] * (remaining - m);
+                safe &= remaining - m == 0;
+                mine &= remaining - m == others;
+            }
+            p /= total * others;
+            for (int index = 0; index < size; index++) {
+                if (certainties[index] == null) {
+                    setCell(probabilities, certainties, index, safe, mine, p);
+                }
+            }
+        }
+        return new BoardAnalysis(board.getRows(), board.getCols(), probabilities, certainties, k);
+    }
+
+    private static void setCell(double[] probabilities, BoardAnalysis.Certainty[] certainties, int index,
+                                boolean safe, boolean mine, double p) {
+        if (safe) {
+            probabilities[index] = 0.0;
+            certainties[index] = BoardAnalysis.Certainty.SAFE;
+        } else if (mine) {
+            probabilities[index] = 1.0;
+            certainties[index] = BoardAnalysis.Certainty.MINE;
+        } else {
+            probabilities[index] = Math.min(1.0, Math.max(0.0, p));
+            certainties[index] = BoardAnalysis.Certainty.UNKNOWN;
+        }
+    }
+
+    private static double[] convolve(double[] a, double[] b) {
+        double[] result = new double[a.length + b.length - 1];
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == 0) {
+                continue;
+            }
+            for (int j = 0; j < b.length; j++) {
+                result[i + j] += a[i] * b[j];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Weights {@code C(others, remaining - m)} for every frontier mine total m, scaled so
+     * the largest is 1. Computed from log factorials, since the raw binomials overflow a
+     * double on large boards.
+     */
+    private static double[] restWeights(int length, int others, int remaining) {
+        double[] logFactorial = new double[others + 1];
+        for (int i = 1; i <= others; i++) {
+            logFactorial[i] = logFactorial[i - 1] + Math.log(i);
+        }
+        double[] logWeight = new double[length];
+        double max = Double.NEGATIVE_INFINITY;
+        for (int m = 0; m < length; m++) {
+            int rest = remaining - m;
+            if (rest < 0 || rest > others) {
+                logWeight[m] = Double.NEGATIVE_INFINITY;
+                continue;
+            }
+            logWeight[m] = logFactorial[others] - logFactorial[rest] - logFactorial[others - rest];
+            max = Math.max(max, logWeight[m]);
+        }
+        double[] weight = new double[length];
+        for (int m = 0; m < length; m++) {
+            weight[m] = logWeight[m] == Double.NEGATIVE_INFINITY ? 0.0 : Math.exp(logWeight[m] - max);
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,252 @@
+package model;
+
+/**
+ * Describes the layout of a gameboard: its size and how many mine, question and
+ * surprise cells it holds. The three standard difficulties each have a spec (see
+ * {@link Game.Difficulty#getBoardSpec()}), and custom specs allow boards far larger
+ * than HARD.
+ * <p>
+ * A spec is validated when it is created, so an infeasible board is rejected up front
+ * instead of being generated with missing cells.
+ *
+ * @author Team Sloth
+ */
+public class BoardSpec {
+
+    /** Smallest supported number of rows or columns */
+    public static final int MIN_SIZE = 3;
+    /** Largest supported number of rows or columns */
+    public static final int MAX_SIZE = 4096;
+
+    private final int rows;
+    private final int cols;
+    private final int mineCount;
+    private final int questionCount;
+    private final int surpriseCount;
+    private final Topology topology;
+
+    /**
+     * Constructs a new BoardSpec with exact cell counts on the standard grid.
+     *
+     * @param rows Number of rows
+     * @param cols Number of columns
+     * @param mineCount Exact number of mine cells
+     * @param questionCount Exact number of question cells
+     * @param surpriseCount Exact number of surprise cells
+     * @throws IllegalArgumentException if the spec is not feasible
+     */
+    public BoardSpec(int rows, int cols, int mineCount, int questionCount, int surpriseCount) {
+        this(rows, cols, mineCount, questionCount, surpriseCount, Topology.GRID);
+    }
+
+    /**
+     * Constructs a new BoardSpec with exact cell counts and the given neighbourhood rules.
+     *
+     * @param rows Number of rows
+     * @param cols Number of columns
+     * @param mineCount Exact number of mine cells
+     * @param questionCount Exact number of question cells
+     * @param surpriseCount Exact number of surprise cells
+     * @param topology Which cells count as neighbours
+     * @throws IllegalArgumentException if the spec is not feasible
+     */
+    public BoardSpec(int rows, int cols, int mineCount, int questionCount, int surpriseCount,
+                     Topology topology) {
+        if (topology == null) {
+            throw new IllegalArgumentException("Topology cannot be null");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.mineCount = mineCount;
+        this.questionCount = questionCount;
+        this.surpriseCount = surpriseCount;
+        this.topology = topology;
+        validate();
+    }
+
+    /**
+     * Creates a BoardSpec whose mine count is derived from a mine density.
+     *
+     * @param rows Number of rows
+     * @param cols Number of columns
+     * @param mineDensity Fraction of cells that are mines (0.0 to 1.0)
+     * @param questionCount Exact number of question cells
+     * @param surpriseCount Exact number of surprise cells
+     * @return The new BoardSpec
+     * @throws IllegalArgumentException if the spec is not feasible
+     */
+    public static BoardSpec withDensity(int rows, int cols, double mineDensity,
+                                        int questionCount, int surpriseCount) {
+        if (Double.isNaN(mineDensity) || mineDensity < 0.0 || mineDensity > 1.0) {
+            throw new IllegalArgumentException("Mine density must be between 0 and 1: " + mineDensity);
+        }
+        int mineCount = (int) Math.round((double) rows * cols * mineDensity);
+        return new BoardSpec(rows, cols, mineCount, questionCount, surpriseCount);
+    }
+
+    /**
+     * Creates a copy of this spec that uses the given topology.
+     *
+     * @param topology Which cells count as neighbours
+     * @return The new BoardSpec
+     */
+    public BoardSpec withTopology(Topology topology) {
+        return new BoardSpec(rows, cols, mineCount, questionCount, surpriseCount, topology);
+    }
+
+    /**
+     * Checks that a board with this spec can actually be generated.
+     */
+    private void validate() {
+        if (rows < MIN_SIZE || rows > MAX_SIZE || cols < MIN_SIZE || cols > MAX_SIZE) {
+            throw new IllegalArgumentException("Board size must be between " + MIN_SIZE + "x" + MIN_SIZE
+                    + " and " + MAX_SIZE + "x" + MAX_SIZE + ": " + rows + "x" + cols);
+        }
+        if (mineCount < 0 || questionCount < 0 || surpriseCount < 0) {
+            throw new IllegalArgumentException("Cell counts cannot be negative");
+        }
+        if (mineCount > getCellCount() - getFirstClickSafeCells()) {
+            throw new IllegalArgumentException("Too many mines for a " + rows + "x" + cols
+                    + " board (max " + (getCellCount() - getFirstClickSafeCells()) + "): " + mineCount);
+        }
+        // Question and surprise cells need zero adjacent mines. Require twice as many such
+        // cells as needed on an average layout, so generation (which retries short layouts)
+        // practically never runs out of candidates.
+        int specialCells = questionCount + surpriseCount;
+        if (specialCells > 0 && getExpectedZeroAdjacentCells() < 2.0 * specialCells) {
+            throw new IllegalArgumentException("Not enough cells without adjacent mines for "
+                    + specialCells + " question and surprise cells (expected about "
+                    + (int) getExpectedZeroAdjacentCells() + "); lower the mine density");
+        }
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return The number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return The number of columns
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Gets the total number of cells.
+     *
+     * @return rows * cols
+     */
+    public int getCellCount() {
+        return rows * cols;
+    }
+
+    /**
+     * Gets the exact number of mine cells.
+     *
+     * @return The number of mines
+     */
+    public int getMineCount() {
+        return mineCount;
+    }
+
+    /**
+     * Gets the fraction of cells that are mines.
+     *
+     * @return The mine density (0.0 to 1.0)
+     */
+    public double getMineDensity() {
+        return (double) mineCount / getCellCount();
+    }
+
+    /**
+     * Gets the exact number of question cells.
+     *
+     * @return The number of question cells
+     */
+    public int getQuestionCount() {
+        return questionCount;
+    }
+
+    /**
+     * Gets the exact number of surprise cells.
+     *
+     * @return The number of surprise cells
+     */
+    public int getSurpriseCount() {
+        return surpriseCount;
+    }
+
+    /**
+     * Gets the neighbourhood rules of boards with this spec.
+     *
+     * @return The topology
+     */
+    public Topology getTopology() {
+        return topology;
+    }
+
+    /**
+     * Gets the number of cells kept free of mines around the first click: the clicked
+     * cell and, at most, all of its neighbours in this spec's topology.
+     *
+     * @return 9 on the standard grid and the torus, 7 on the hex grid
+     */
+    public int getFirstClickSafeCells() {
+        return topology.getMaxDegree() + 1;
+    }
+
+    /**
+     * Estimates how many non-mine cells with zero adjacent mines a random layout has.
+     * A cell with k neighbours qualifies when it and all k neighbours are free of mines,
+     * which happens with probability about (1 - density)^(k + 1). The neighbour counts
+     * come from the spec's topology (see {@link Topology#expectedZeroAdjacentCells}).
+     *
+     * @return The expected number of zero-adjacent cells
+     */
+    public double getExpectedZeroAdjacentCells() {
+        return topology.expectedZeroAdjacentCells(rows, cols, 1.0 - getMineDensity());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BoardSpec)) {
+            return false;
+        }
+        BoardSpec other = (BoardSpec) o;
+        return rows == other.rows && cols == other.cols && mineCount == other.mineCount
+                && questionCount == other.questionCount && surpriseCount == other.surpriseCount
+                && topology == other.topology;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = rows;
+        result = 31 * result + cols;
+        result = 31 * result + mineCount;
+        result = 31 * result + questionCount;
+        result = 31 * result + surpriseCount;
+        result = 31 * result + topology.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "BoardSpec{" +
+                rows + "x" + cols +
+                ", mines=" + mineCount +
+                ", questions=" + questionCount +
+                ", surprises=" + surpriseCount +
+                ", topology=" + topology +
+                '}';
+    }
+}
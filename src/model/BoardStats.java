@@ -0,0 +1,92 @@
+package model;
+
+/**
+ * Read-only snapshot of the live counters kept by a {@link GameBoard}.
+ * The board updates its counters on every cell state transition, so taking a
+ * snapshot costs O(1) regardless of the board size.
+ *
+ * @author Team Sloth
+ */
+public class BoardStats {
+
+    private final int hiddenSafeCells;
+    private final int flagsPlaced;
+    private final int unflaggedMines;
+    private final int minesLeft;
+    private final int[] revealedByType;
+
+    /**
+     * Constructs a new BoardStats snapshot.
+     *
+     * @param hiddenSafeCells Number of non-mine cells not yet revealed
+     * @param flagsPlaced Number of flagged cells
+     * @param unflaggedMines Number of mines that are neither flagged nor revealed
+     * @param minesLeft Total mines minus flags placed and mines revealed
+     * @param revealedByType Revealed cell counts indexed by {@link Cell.CellType} ordinal
+     */
+    BoardStats(int hiddenSafeCells, int flagsPlaced, int unflaggedMines, int minesLeft,
+               int[] revealedByType) {
+        this.hiddenSafeCells = hiddenSafeCells;
+        this.flagsPlaced = flagsPlaced;
+        this.unflaggedMines = unflaggedMines;
+        this.minesLeft = minesLeft;
+        this.revealedByType = revealedByType.clone();
+    }
+
+    /**
+     * Gets the number of non-mine cells that still have to be revealed to win.
+     *
+     * @return The remaining hidden safe cells (hidden or flagged)
+     */
+    public int getHiddenSafeCells() {
+        return hiddenSafeCells;
+    }
+
+    /**
+     * Gets the number of flags currently placed on the board.
+     *
+     * @return The number of flagged cells
+     */
+    public int getFlagsPlaced() {
+        return flagsPlaced;
+    }
+
+    /**
+     * Gets the number of mines that are neither flagged nor revealed.
+     *
+     * @return The remaining unflagged mines
+     */
+    public int getUnflaggedMines() {
+        return unflaggedMines;
+    }
+
+    /**
+     * Gets the "mines left" value shown to players: total mines minus flags placed
+     * and mines already revealed. May be negative if players over-flag.
+     *
+     * @return The mines left counter
+     */
+    public int getMinesLeft() {
+        return minesLeft;
+    }
+
+    /**
+     * Gets the number of revealed cells of the given type.
+     *
+     * @param type The cell type
+     * @return The number of revealed cells of that type
+     */
+    public int getRevealedCount(Cell.CellType type) {
+        return revealedByType[type.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        return "BoardStats{" +
+                "hiddenSafeCells=" + hiddenSafeCells +
+                ", flagsPlaced=" + flagsPlaced +
+                ", unflaggedMines=" + unflaggedMines +
+                ", minesLeft=" + minesLeft +
+                '}';
+    }
+}
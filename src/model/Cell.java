@@ -3,6 +3,12 @@ package model;
 /**
  * Base class representing a single cell in the minesweeper gameboard.
  * Contains common state management (HIDDEN, REVEALED, FLAGGED).
+ * <p>
+ * A cell is a lightweight view over one packed {@code short} (see {@link PackedCell}).
+ * Cells returned by {@link GameBoard#getCell(int, int)} read the board's backing array
+ * directly and write through the board (so its live counters stay correct), and they
+ * always reflect the live board state. Cells created through {@link CellFactory} own a
+ * private single-element backing array.
  * 
  * @author Team Sloth
  */
@@ -36,15 +42,68 @@ public abstract class Cell {
         FLAGGED
     }
     
-    private CellState state;
-    private boolean hasFlagScoreContributed;
+    private final GameBoard board;
+    private final short[] data;
+    private final int index;
     
     /**
-     * Constructs a new Cell in HIDDEN state.
+     * Constructs a new standalone Cell in HIDDEN state.
      */
     protected Cell() {
-        this.state = CellState.HIDDEN;
-        this.hasFlagScoreContributed = false;
+        this(null, new short[1], 0);
+    }
+    
+    /**
+     * Constructs a Cell view over a packed backing array.
+     * 
+     * @param board The board that owns the backing array, or null for a standalone cell
+     * @param data The packed backing array
+     * @param index The index of this cell in the backing array
+     */
+    Cell(GameBoard board, short[] data, int index) {
+        this.board = board;
+        this.data = data;
+        this.index = index;
+    }
+    
+    /**
+     * Gets the packed bits of this cell.
+     * 
+     * @return The packed cell value
+     */
+    final int bits() {
+        return data[index];
+    }
+    
+    /**
+     * Gets the board that owns this cell.
+     * 
+     * @return The owning board, or null for a standalone cell
+     */
+    final GameBoard board() {
+        return board;
+    }
+    
+    /**
+     * Gets the index of this cell in its backing array.
+     * 
+     * @return The backing array index
+     */
+    final int packedIndex() {
+        return index;
+    }
+    
+    /**
+     * Overwrites the packed bits of this cell.
+     * 
+     * @param bits The new packed cell value
+     */
+    final void setBits(short bits) {
+        if (board != null) {
+            board.writeCell(index, bits);
+        } else {
+            data[index] = bits;
+        }
     }
     
     /**
@@ -60,7 +119,7 @@ public abstract class Cell {
      * @return The cell state (HIDDEN, REVEALED, or FLAGGED)
      */
     public CellState getState() {
-        return state;
+        return PackedCell.stateEnum(bits());
     }
     
     /**
@@ -68,8 +127,8 @@ public abstract class Cell {
      * If the cell is already revealed or flagged, this method does nothing.
      */
     public void reveal() {
-        if (state == CellState.HIDDEN) {
-            state = CellState.REVEALED;
+        if (PackedCell.state(bits()) == PackedCell.HIDDEN) {
+            setBits(PackedCell.withState(bits(), PackedCell.REVEALED));
         }
     }
     
@@ -79,10 +138,11 @@ public abstract class Cell {
      * Revealed cells cannot be flagged.
      */
     public void toggleFlag() {
-        if (state == CellState.HIDDEN) {
-            state = CellState.FLAGGED;
-        } else if (state == CellState.FLAGGED) {
-            state = CellState.HIDDEN;
+        int state = PackedCell.state(bits());
+        if (state == PackedCell.HIDDEN) {
+            setBits(PackedCell.withState(bits(), PackedCell.FLAGGED));
+        } else if (state == PackedCell.FLAGGED) {
+            setBits(PackedCell.withState(bits(), PackedCell.HIDDEN));
         }
     }
     
@@ -92,7 +152,7 @@ public abstract class Cell {
      * @return true if the cell is hidden, false otherwise
      */
     public boolean isHidden() {
-        return state == CellState.HIDDEN;
+        return PackedCell.state(bits()) == PackedCell.HIDDEN;
     }
     
     /**
@@ -101,7 +161,7 @@ public abstract class Cell {
      * @return true if the cell is revealed, false otherwise
      */
     public boolean isRevealed() {
-        return state == CellState.REVEALED;
+        return PackedCell.state(bits()) == PackedCell.REVEALED;
     }
     
     /**
@@ -110,7 +170,7 @@ public abstract class Cell {
      * @return true if the cell is flagged, false otherwise
      */
     public boolean isFlagged() {
-        return state == CellState.FLAGGED;
+        return PackedCell.state(bits()) == PackedCell.FLAGGED;
     }
     
     /**
@@ -153,7 +213,7 @@ public abstract class Cell {
      * @return true if the cell has contributed to score via flagging, false otherwise
      */
     public boolean hasFlagScoreContributed() {
-        return hasFlagScoreContributed;
+        return (bits() & PackedCell.FLAG_SCORE_BIT) != 0;
     }
     
     /**
@@ -162,6 +222,6 @@ public abstract class Cell {
      * @param hasContributed true if the cell has contributed, false otherwise
      */
     public void setFlagScoreContributed(boolean hasContributed) {
-        this.hasFlagScoreContributed = hasContributed;
+        setBits(PackedCell.withBit(bits(), PackedCell.FLAG_SCORE_BIT, hasContributed));
     }
 }
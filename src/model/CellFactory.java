@@ -52,5 +52,28 @@ public class CellFactory {
     public static Cell createSurpriseCell() {
         return new SurpriseCell();
     }
+    /**
+     * Creates a view over a cell stored in a board's packed backing array.
+     * The subclass of the returned view is chosen from the packed cell type,
+     * and the view reads and writes the board's array directly.
+     * @param board The board that owns the backing array
+     * @param data The packed backing array
+     * @param index The index of the cell in the backing array
+     * @return A Cell view of the matching subclass
+     */
+    static Cell createCellView(GameBoard board, short[] data, int index) {
+        switch (PackedCell.type(data[index])) {
+            case PackedCell.MINE:
+                return new MineCell(board, data, index);
+            case PackedCell.NUMBER:
+                return new NumberCell(board, data, index);
+            case PackedCell.QUESTION:
+                return new QuestionCell(board, data, index);
+            case PackedCell.SURPRISE:
+                return new SurpriseCell(board, data, index);
+            default:
+                return new EmptyCell(board, data, index);
+        }
+    }
 }
 
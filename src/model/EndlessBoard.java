@@ -0,0 +1,359 @@
+package model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * An unbounded board for the "endless" mode, generated on demand in square chunks of
+ * {@value #CHUNK_SIZE}x{@value #CHUNK_SIZE} cells.
+ * <p>
+ * A chunk's mines are drawn from a random stream seeded by a hash of the board seed and
+ * the chunk coordinates, so any chunk can be regenerated at any time and the world never
+ * needs to be stored. Only what players changed is kept: the revealed and flagged bits of
+ * every chunk they touched (two bits per cell). Generated chunks (mines and adjacent
+ * counts) are held in a least-recently-used cache of bounded size and simply dropped on
+ * eviction, so memory for generated data stays fixed however far players scroll.
+ * <p>
+ * Coordinates are plain {@code int} x (column) and y (row) and may be negative. Reveals
+ * and cascades cross chunk boundaries transparently. The 3x3 cells around the origin
+ * never hold mines, so a game started there always opens a region.
+ *
+ * @author Team Sloth
+ */
+public class EndlessBoard {
+
+    /** Width and height of a chunk in cells */
+    public static final int CHUNK_SIZE = 32;
+    /** Lowest supported mine density; sparser worlds could open endless cascades */
+    public static final double MIN_DENSITY = 0.12;
+    /** Highest supported mine density */
+    public static final double MAX_DENSITY = 0.5;
+
+    private static final int CHUNK_CELLS = CHUNK_SIZE * CHUNK_SIZE;
+    private static final int CHUNK_WORDS = CHUNK_CELLS / Long.SIZE;
+
+    /**
+     * A generated chunk: mine bits and adjacent mine counts, plus its player state if any.
+     */
+    private static final class Chunk {
+        final long[] mines = new long[CHUNK_WORDS];
+        final byte[] counts = new byte[CHUNK_CELLS];
+        ChunkState state;
+    }
+
+    /**
+     * The player-changed state of a chunk, kept after the chunk itself is evicted.
+     */
+    private static final class ChunkState {
+        final long[] revealed = new long[CHUNK_WORDS];
+        final long[] flagged = new long[CHUNK_WORDS];
+    }
+
+    private final long seed;
+    private final double mineDensity;
+    private final int minesPerChunk;
+    private final Map<Long, Chunk> loaded;
+    private final Map<Long, ChunkState> states;
+    private long[] revealStack = new long[256];
+
+    /**
+     * Constructs a new EndlessBoard.
+     *
+     * @param seed The world seed
+     * @param mineDensity Fraction of cells that are mines ({@value #MIN_DENSITY} to {@value #MAX_DENSITY})
+     * @param maxLoadedChunks Maximum number of generated chunks kept in memory (at least 4)
+     * @throws IllegalArgumentException if the density or cache size is out of range
+     */
+    public EndlessBoard(long seed, double mineDensity, int maxLoadedChunks) {
+        if (Double.isNaN(mineDensity) || mineDensity < MIN_DENSITY || mineDensity > MAX_DENSITY) {
+            throw new IllegalArgumentException("Mine density must be between " + MIN_DENSITY
+                    + " and " + MAX_DENSITY + ": " + mineDensity);
+        }
+        if (maxLoadedChunks < 4) {
+            // A cell's neighbourhood can span four chunks; fewer would regenerate chunks on every step
+            throw new IllegalArgumentException("At least 4 chunks must fit in memory: " + maxLoadedChunks);
+        }
+        this.seed = seed;
+        this.mineDensity = mineDensity;
+        this.minesPerChunk = (int) Math.round(CHUNK_CELLS * mineDensity);
+        this.loaded = new LinkedHashMap<>(maxLoadedChunks * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Chunk> eldest) {
+                return size() > maxLoadedChunks;
+            }
+        };
+        this.states = new HashMap<>();
+    }
+
+    private static long key(int chunkX, int chunkY) {
+        return ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+    }
+
+    /**
+     * SplitMix64 finaliser: spreads every input bit over the whole output.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Gets the generated chunk at the given chunk coordinates, generating it if needed.
+     */
+    private Chunk chunk(int chunkX, int chunkY) {
+        long key = key(chunkX, chunkY);
+        Chunk chunk = loaded.get(key);
+        if (chunk == null) {
+            chunk = generate(chunkX, chunkY);
+            chunk.state = states.get(key);
+            loaded.put(key, chunk);
+        }
+        return chunk;
+    }
+
+    /**
+     * Draws the mines of one chunk. Depends only on the seed and the chunk coordinates.
+     */
+    private long[] mines(int chunkX, int chunkY) {
+        SplittableRandom random = new SplittableRandom(mix(seed + mix(key(chunkX, chunkY))));
+        int[] pool = new int[CHUNK_CELLS];
+        for (int i = 0; i < CHUNK_CELLS; i++) {
+            pool[i] = i;
+        }
+        long[] mines = new long[CHUNK_WORDS];
+        for (int i = 0; i < minesPerChunk; i++) {
+            int j = i + random.nextInt(CHUNK_CELLS - i);
+            int cell = pool[j];
+            pool[j] = pool[i];
+            pool[i] = cell;
+            int x = chunkX * CHUNK_SIZE + cell % CHUNK_SIZE;
+            int y = chunkY * CHUNK_SIZE + cell / CHUNK_SIZE;
+            // Keep the starting area around the origin free of mines
+            if (Math.abs(x) > 1 || Math.abs(y) > 1) {
+                mines[cell >>> 6] |= 1L << cell;
+            }
+        }
+        return mines;
+    }
+
+    /**
+     * Generates a chunk: its mines, and its adjacent counts from a padded mine plane that
+     * includes the bordering rows and columns of the eight surrounding chunks.
+     */
+    private Chunk generate(int chunkX, int chunkY) {
+        Chunk chunk = new Chunk();
+        int size = CHUNK_SIZE + 2;
+        long[] plane = NeighbourCounter.newPlane(size, size);
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                long[] mines = mines(chunkX + dx, chunkY + dy);
+                if (dx == 0 && dy == 0) {
+                    System.arraycopy(mines, 0, chunk.mines, 0, CHUNK_WORDS);
+                }
+                for (int cell = 0; cell < CHUNK_CELLS; cell++) {
+                    if ((mines[cell >>> 6] & (1L << cell)) == 0) {
+                        continue;
+                    }
+                    // Position in the padded plane; only the one-cell ring around the chunk is kept
+                    int px = dx * CHUNK_SIZE + cell % CHUNK_SIZE + 1;
+                    int py = dy * CHUNK_SIZE + cell / CHUNK_SIZE + 1;
+                    if (px >= 0 && px < size && py >= 0 && py < size) {
+                        NeighbourCounter.set(plane, size, py, px);
+                    }
+                }
+            }
+        }
+        byte[] counts = new byte[size * size];
+        NeighbourCounter.count(plane, size, size, counts);
+        for (int y = 0; y < CHUNK_SIZE; y++) {
+            System.arraycopy(counts, (y + 1) * size + 1, chunk.counts, y * CHUNK_SIZE, CHUNK_SIZE);
+        }
+        return chunk;
+    }
+
+    private Chunk chunkAt(int x, int y) {
+        return chunk(Math.floorDiv(x, CHUNK_SIZE), Math.floorDiv(y, CHUNK_SIZE));
+    }
+
+    private static int local(int x, int y) {
+        return Math.floorMod(y, CHUNK_SIZE) * CHUNK_SIZE + Math.floorMod(x, CHUNK_SIZE);
+    }
+
+    private static boolean bit(long[] bits, int cell) {
+        return (bits[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Gets the state of a chunk for writing, creating and registering it on first write.
+     */
+    private ChunkState writableState(int x, int y, Chunk chunk) {
+        if (chunk.state == null) {
+            chunk.state = new ChunkState();
+            states.put(key(Math.floorDiv(x, CHUNK_SIZE), Math.floorDiv(y, CHUNK_SIZE)), chunk.state);
+        }
+        return chunk.state;
+    }
+
+    /**
+     * Checks if a cell holds a mine.
+     *
+     * @param x The column
+     * @param y The row
+     * @return true if the cell is a mine
+     */
+    public boolean isMine(int x, int y) {
+        return bit(chunkAt(x, y).mines, local(x, y));
+    }
+
+    /**
+     * Gets the number of mines adjacent to a cell.
+     *
+     * @param x The column
+     * @param y The row
+     * @return The adjacent mine count (0-8)
+     */
+    public int countAdjacentMines(int x, int y) {
+        return chunkAt(x, y).counts[local(x, y)];
+    }
+
+    /**
+     * Checks if a cell is revealed.
+     *
+     * @param x The column
+     * @param y The row
+     * @return true if the cell is revealed
+     */
+    public boolean isRevealed(int x, int y) {
+        ChunkState state = chunkAt(x, y).state;
+        return state != null && bit(state.revealed, local(x, y));
+    }
+
+    /**
+     * Checks if a cell is flagged.
+     *
+     * @param x The column
+     * @param y The row
+     * @return true if the cell is flagged
+     */
+    public boolean isFlagged(int x, int y) {
+        ChunkState state = chunkAt(x, y).state;
+        return state != null && bit(state.flagged, local(x, y));
+    }
+
+    /**
+     * Toggles the flag on a hidden cell.
+     *
+     * @param x The column
+     * @param y The row
+     */
+    public void flagCell(int x, int y) {
+        if (isRevealed(x, y)) {
+            return;
+        }
+        Chunk chunk = chunkAt(x, y);
+        int cell = local(x, y);
+        writableState(x, y, chunk).flagged[cell >>> 6] ^= 1L << cell;
+    }
+
+    /**
+     * Reveals a cell. A flagged cell is unflagged first. A cell with no adjacent mines opens
+     * the connected region around it, across chunk boundaries.
+     *
+     * @param x The column
+     * @param y The row
+     * @return The cells revealed by this call, in reveal order
+     */
+    public EndlessRevealResult revealCell(int x, int y) {
+        EndlessRevealResult result = new EndlessRevealResult();
+        Chunk chunk = chunkAt(x, y);
+        int cell = local(x, y);
+        ChunkState state = writableState(x, y, chunk);
+        if (bit(state.revealed, cell)) {
+            return result;
+        }
+        state.flagged[cell >>> 6] &= ~(1L << cell);
+        state.revealed[cell >>> 6] |= 1L << cell;
+        result.add(x, y);
+        if (bit(chunk.mines, cell)) {
+            result.setMineHit();
+            return result;
+        }
+        if (chunk.counts[cell] == 0) {
+            cascade(x, y, result);
+        }
+        return result;
+    }
+
+    /**
+     * Opens the zero region around a revealed cell with an iterative flood fill over
+     * packed world coordinates. Each chunk is looked up again per cell, since the fill
+     * may reach more chunks than the cache holds.
+     */
+    private void cascade(int startX, int startY, EndlessRevealResult result) {
+        int top = 0;
+        revealStack[top++] = key(startX, startY);
+        while (top > 0) {
+            long packed = revealStack[--top];
+            int cx = (int) (packed >> 32);
+            int cy = (int) packed;
+            for (int y = cy - 1; y <= cy + 1; y++) {
+                for (int x = cx - 1; x <= cx + 1; x++) {
+                    Chunk chunk = chunkAt(x, y);
+                    int cell = local(x, y);
+                    if (bit(chunk.mines, cell) || (chunk.state != null
+                            && (bit(chunk.state.revealed, cell) || bit(chunk.state.flagged, cell)))) {
+                        continue;
+                    }
+                    writableState(x, y, chunk).revealed[cell >>> 6] |= 1L << cell;
+                    result.add(x, y);
+                    if (chunk.counts[cell] == 0) {
+                        if (top == revealStack.length) {
+                            revealStack = Arrays.copyOf(revealStack, top * 2);
+                        }
+                        revealStack[top++] = key(x, y);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the world seed.
+     *
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the mine density.
+     *
+     * @return The fraction of cells that are mines
+     */
+    public double getMineDensity() {
+        return mineDensity;
+    }
+
+    /**
+     * Gets the number of generated chunks currently held in memory.
+     *
+     * @return The loaded chunk count (never above the cache size)
+     */
+    public int getLoadedChunkCount() {
+        return loaded.size();
+    }
+
+    /**
+     * Gets the number of chunks whose player state is kept.
+     *
+     * @return The number of chunks players have revealed or flagged cells in
+     */
+    public int getStoredChunkCount() {
+        return states.size();
+    }
+}
@@ -0,0 +1,75 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Describes the cells revealed by a single reveal on an {@link EndlessBoard}: the clicked
+ * cell and every cell opened by its cascade, in the order they were revealed. Coordinates
+ * are world coordinates and may be negative.
+ *
+ * @author Team Sloth
+ */
+public class EndlessRevealResult {
+
+    private long[] cells = new long[16]; // x in the high half, y in the low half
+    private int size;
+    private boolean mineHit;
+
+    /**
+     * Records a revealed cell.
+     *
+     * @param x The column
+     * @param y The row
+     */
+    void add(int x, int y) {
+        if (size == cells.length) {
+            cells = Arrays.copyOf(cells, size * 2);
+        }
+        cells[size++] = ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Marks that the reveal hit a mine.
+     */
+    void setMineHit() {
+        this.mineHit = true;
+    }
+
+    /**
+     * Checks if the reveal hit a mine.
+     *
+     * @return true if a mine was revealed, false otherwise
+     */
+    public boolean isMineHit() {
+        return mineHit;
+    }
+
+    /**
+     * Gets the number of revealed cells.
+     *
+     * @return The number of revealed cells (0 if nothing was revealed)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the column of the i-th revealed cell.
+     *
+     * @param i The position in this result (0 to size() - 1)
+     * @return The world column
+     */
+    public int getX(int i) {
+        return (int) (cells[i] >> 32);
+    }
+
+    /**
+     * Gets the row of the i-th revealed cell.
+     *
+     * @param i The position in this result (0 to size() - 1)
+     * @return The world row
+     */
+    public int getY(int i) {
+        return (int) cells[i];
+    }
+}
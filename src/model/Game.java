@@ -3,6 +3,7 @@ package model;
 import controller.QuestionLogic;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Represents the overall game state for a two-player minesweeper game.
@@ -17,19 +18,21 @@ public class Game {
      * Enum representing the difficulty levels of the game.
      */
     public enum Difficulty {
-        /** Easy difficulty: 9x9 board */
-        EASY(9, 9),
-        /** Medium difficulty: 13x13 board */
-        MEDIUM(13, 13),
-        /** Hard difficulty: 16x16 board */
-        HARD(16, 16);
+        /** Easy difficulty: 9x9 board, 10 mines, 6 questions, 2 surprises */
+        EASY(9, 9, 10, 6, 2),
+        /** Medium difficulty: 13x13 board, 26 mines, 7 questions, 3 surprises */
+        MEDIUM(13, 13, 26, 7, 3),
+        /** Hard difficulty: 16x16 board, 44 mines, 11 questions, 4 surprises */
+        HARD(16, 16, 44, 11, 4);
         
         private final int rows;
         private final int cols;
+        private final BoardSpec boardSpec;
         
-        Difficulty(int rows, int cols) {
+        Difficulty(int rows, int cols, int mineCount, int questionCount, int surpriseCount) {
             this.rows = rows;
             this.cols = cols;
+            this.boardSpec = new BoardSpec(rows, cols, mineCount, questionCount, surpriseCount);
         }
         
         /**
@@ -49,12 +52,24 @@ public class Game {
         public int getCols() {
             return cols;
         }
+        
+        /**
+         * Gets the standard board layout for this difficulty level.
+         * 
+         * @return The board spec with this difficulty's size and cell counts
+         */
+        public BoardSpec getBoardSpec() {
+            return boardSpec;
+        }
     }
     
     private GameBoard player1Board;
     private GameBoard player2Board;
     private int currentPlayer; // 1 or 2
     private Difficulty difficulty;
+    private BoardSpec boardSpec;
+    private long seed; // Seed both boards were generated from
+    private NoGuessLayout noGuessLayout; // Which no-guess boards were picked, null for ordinary boards
     private String player1Name;
     private String player2Name;
     private int combinedScore; // Placeholder for now
@@ -74,9 +89,60 @@ public class Game {
      * @param questionLogic The QuestionLogic instance to load questions from
      */
     public Game(String player1Name, String player2Name, Difficulty difficulty, QuestionLogic questionLogic) {
+        this(player1Name, player2Name, difficulty, difficulty.getBoardSpec(), questionLogic);
+    }
+    
+    /**
+     * Constructs a new Game played on custom boards.
+     * The difficulty still decides the shared lives and scoring rules, while the
+     * board spec decides the board size and cell counts.
+     * 
+     * @param player1Name Name of player 1
+     * @param player2Name Name of player 2
+     * @param difficulty The difficulty level used for lives and scoring
+     * @param boardSpec The layout of both players' boards
+     * @param questionLogic The QuestionLogic instance to load questions from
+     */
+    public Game(String player1Name, String player2Name, Difficulty difficulty, BoardSpec boardSpec,
+                QuestionLogic questionLogic) {
+        this(player1Name, player2Name, difficulty, boardSpec, questionLogic, new SplittableRandom().nextLong());
+    }
+    
+    /**
+     * Constructs a new Game whose boards are generated from the given seed.
+     * The same seed, board spec and question list always produce the same boards,
+     * so any recorded game can be regenerated exactly.
+     * 
+     * @param player1Name Name of player 1
+     * @param player2Name Name of player 2
+     * @param difficulty The difficulty level used for lives and scoring
+     * @param boardSpec The layout of both players' boards
+     * @param questionLogic The QuestionLogic instance to load questions from
+     * @param seed The 64-bit generation seed
+     */
+    public Game(String player1Name, String player2Name, Difficulty difficulty, BoardSpec boardSpec,
+                QuestionLogic questionLogic, long seed) {
+        this(player1Name, player2Name, difficulty, GeneratedBoards.generate(boardSpec, seed), questionLogic);
+    }
+    
+    /**
+     * Constructs a new Game on boards generated ahead of time (see {@link GeneratedBoards}).
+     * The boards must not have been used by another game.
+     * 
+     * @param player1Name Name of player 1
+     * @param player2Name Name of player 2
+     * @param difficulty The difficulty level used for lives and scoring
+     * @param boards The pre-generated boards for both players
+     * @param questionLogic The QuestionLogic instance to load questions from
+     */
+    public Game(String player1Name, String player2Name, Difficulty difficulty, GeneratedBoards boards,
+                QuestionLogic questionLogic) {
         this.player1Name = player1Name;
         this.player2Name = player2Name;
         this.difficulty = difficulty;
+        this.boardSpec = boards.getBoardSpec();
+        this.seed = boards.getSeed();
+        this.noGuessLayout = boards.getNoGuessLayout();
         this.currentPlayer = 1;
         this.combinedScore = 0;
         this.gameOver = false;
@@ -99,53 +165,22 @@ public class Game {
         this.sharedLives = totalLives; // Both players share the same lives pool
         
         // Initialize boards
-        initializeBoards(questionLogic);
+        initializeBoards(boards, questionLogic);
     }
     
     /**
-     * Initializes both gameboards with the appropriate dimensions and cell allocation.
+     * Takes over the generated boards and assigns the current questions to them.
      * 
+     * @param boards The generated boards for both players
      * @param questionLogic The QuestionLogic instance to get questions from
      */
-    private void initializeBoards(QuestionLogic questionLogic) {
-        int rows = difficulty.getRows();
-        int cols = difficulty.getCols();
-        
-        // Create boards
-        player1Board = new GameBoard(rows, cols);
-        player2Board = new GameBoard(rows, cols);
+    private void initializeBoards(GeneratedBoards boards, QuestionLogic questionLogic) {
+        player1Board = boards.getPlayer1Board();
+        player2Board = boards.getPlayer2Board();
         
         // Load questions
         List<Question> questions = questionLogic.getQuestions();
-        
-        // Allocate cells based on difficulty with exact counts
-        int mineCount, questionCount, surpriseCount;
-        switch (difficulty) {
-            case EASY:
-                mineCount = 10;
-                questionCount = 6;
-                surpriseCount = 2;
-                break;
-            case MEDIUM:
-                mineCount = 26;
-                questionCount = 7;
-                surpriseCount = 3;
-                break;
-            case HARD:
-                mineCount = 44;
-                questionCount = 11;
-                surpriseCount = 4;
-                break;
-            default:
-                mineCount = 10;
-                questionCount = 6;
-                surpriseCount = 2;
-                break;
-        }
-        
-        // Allocate cells for both boards
-        player1Board.allocateCells(mineCount, questionCount, surpriseCount, questions);
-        player2Board.allocateCells(mineCount, questionCount, surpriseCount, questions);
+        boards.assignQuestions(questions);
     }
     
     /**
@@ -241,6 +276,34 @@ public class Game {
         return difficulty;
     }
     
+    /**
+     * Gets the layout of both players' boards.
+     * 
+     * @return The board spec
+     */
+    public BoardSpec getBoardSpec() {
+        return boardSpec;
+    }
+    
+    /**
+     * Gets the seed both boards were generated from.
+     * 
+     * @return The 64-bit generation seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+    
+    /**
+     * Gets which no-guess boards the game was played on. A no-guess game is regenerated
+     * from its seed and this layout (see {@link GeneratedBoards#rebuildNoGuess}).
+     * 
+     * @return The layout, or null if the game was played on ordinary boards
+     */
+    public NoGuessLayout getNoGuessLayout() {
+        return noGuessLayout;
+    }
+    
     /**
      * Gets the combined score of both players.
      * 
@@ -373,32 +436,70 @@ public class Game {
      * @return true if a mine was hit, false otherwise
      */
     public boolean revealCell(int row, int col) {
+        return revealCellChanges(row, col).isMineHit();
+    }
+    
+    /**
+     * Handles a cell reveal action for the current player and reports every cell it changed.
+     * 
+     * @param row The row index of the cell to reveal
+     * @param col The column index of the cell to reveal
+     * @return Every cell the reveal changed; empty if the game is already over
+     */
+    public RevealResult revealCellChanges(int row, int col) {
         if (gameOver) {
-            return false;
+            return new RevealResult(1);
         }
         
         GameBoard currentBoard = getCurrentBoard();
-        boolean mineHit = currentBoard.revealCell(row, col);
+        RevealResult changes = currentBoard.revealCell(row, col);
         
-        if (mineHit) {
-            // Mine hit - don't end game, just return true so controller can handle it
-            // Game continues, turn will switch
-        } else {
-            // Check if current player won - only set gameWon if ALL non-mine cells are revealed
-            // Don't set gameOver here, let the controller handle it after checking
-            if (currentBoard.isGameWon()) {
-                gameWon = true;
-                winner = currentPlayer;
-                // gameOver will be set by controller after showing message
-            }
+        // Check if current player won - only set gameWon if ALL non-mine cells are revealed.
+        // A mine hit does not rule it out: the board may have no safe cells left to open.
+        // Don't set gameOver here, let the controller handle it after checking
+        if (currentBoard.isGameWon()) {
+            gameWon = true;
+            winner = currentPlayer;
+            // gameOver will be set by controller after showing message
         }
         
-        // Notify observers that a cell was revealed
-        notifyCellRevealed(row, col, currentPlayer);
+        // Notify observers that a cell was revealed, with every cell the reveal changed
+        notifyCellRevealed(row, col, currentPlayer, changes);
         
-        return mineHit;
+        return changes;
     }
     
+    /**
+     * Handles a chord action for the current player: reveals every unflagged hidden
+     * neighbour of a satisfied number cell as one batch, with a single observer
+     * notification for all the cells it changed.
+     *
+     * @param row The row index of the number cell
+     * @param col The column index of the number cell
+     * @return Every cell the chord revealed; empty if the cell could not be chorded
+     */
+    public RevealResult chordCell(int row, int col) {
+        if (gameOver) {
+            return new RevealResult(1);
+        }
+
+        GameBoard currentBoard = getCurrentBoard();
+        RevealResult changes = currentBoard.chordCell(row, col);
+        if (changes.isEmpty()) {
+            return changes;
+        }
+
+        // A chord that hits a mine can still open the board's last safe cells
+        if (currentBoard.isGameWon()) {
+            gameWon = true;
+            winner = currentPlayer;
+            // gameOver will be set by controller after showing message
+        }
+
+        notifyCellRevealed(row, col, currentPlayer, changes);
+        return changes;
+    }
+
     /**
      * Handles a cell flag action for the current player.
      * 
@@ -524,9 +625,9 @@ public class Game {
     /**
      * Notifies all observers that a cell has been revealed.
      */
-    private void notifyCellRevealed(int row, int col, int player) {
+    private void notifyCellRevealed(int row, int col, int player, RevealResult changes) {
         for (GameObserver observer : observers) {
-            observer.onCellRevealed(row, col, player);
+            observer.onCellRevealed(row, col, player, changes);
         }
     }
 }
@@ -1,25 +1,52 @@
 package model;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Represents a gameboard for a single player in the minesweeper game.
  * Manages a 2D grid of cells and handles cell allocation, revealing, and flagging.
+ * <p>
+ * Cells are stored row-major in a single packed {@code short[]} (see {@link PackedCell})
+ * rather than as one object per cell. {@link Cell} objects are lightweight views that
+ * are created on demand by {@link #getCell(int, int)}.
  * 
  * @author Team Sloth
  */
 public class GameBoard {
     
-    private Cell[][] cells;
+    // Layouts with too few zero-adjacent cells for the special cells are regenerated
+    private static final int MAX_ALLOCATION_ATTEMPTS = 16;
+    // Boards with at least this many cells run flood fills in parallel (see ParallelFloodFill)
+    private static final int DEFAULT_PARALLEL_CASCADE_CELLS = 1 << 20;
+    
+    private final short[] cells;
+    private final Topology topology;
+    private final NeighbourTable neighbours; // Precomputed neighbours of every cell, shared per board size
+    private final Map<Integer, Question> questions;
     private int rows;
     private int cols;
     private int totalMines;
     private int totalQuestionCells;
     private int totalSurpriseCells;
+    private int[] questionCells = new int[0]; // Indices of the question cells, in placement order
     private boolean firstClick = true;
+    private boolean firstClickOpening = false; // Also clear the first click's neighbours, not just the cell
+    private SplittableRandom firstClickRandom; // Picks new spots for mines cleared from the first click
+    private int[] revealStack; // Reusable work stack for cascade reveals, allocated on first use
+    private ZeroRegionIndex zeroRegions; // Built on the first cascade, dropped on layout changes, rebuilt on the next
+    private int parallelCascadeCells = DEFAULT_PARALLEL_CASCADE_CELLS;
+    
+    // Live counters, kept in sync with every cell write by writeCell()
+    private int hiddenSafeCells; // Non-mine cells not yet revealed (hidden or flagged)
+    private int flagsPlaced;
+    private int unflaggedMines; // Mines that are neither flagged nor revealed
+    private final int[] revealedByType = new int[Cell.CellType.values().length];
     
     /**
      * Constructs a new GameBoard with the specified dimensions.
@@ -28,23 +55,127 @@ public class GameBoard {
      * @param cols Number of columns in the board
      */
     public GameBoard(int rows, int cols) {
+        this(rows, cols, Topology.GRID);
+    }
+    
+    /**
+     * Constructs a new GameBoard with the specified dimensions and neighbourhood rules.
+     * 
+     * @param rows Number of rows in the board
+     * @param cols Number of columns in the board
+     * @param topology Which cells count as neighbours
+     * @throws IllegalArgumentException if the board is too small for the topology, see
+     *         {@link Topology#getMinSize()}
+     */
+    public GameBoard(int rows, int cols, Topology topology) {
         this.rows = rows;
         this.cols = cols;
-        this.cells = new Cell[rows][cols];
+        this.cells = new short[rows * cols];
+        this.topology = topology;
+        this.neighbours = topology.getTable(rows, cols);
+        this.questions = new HashMap<>();
         initializeBoard();
+        recountStats();
     }
     
     /**
      * Initializes the board with all empty cells in hidden state.
      */
     private void initializeBoard() {
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                cells[i][j] = CellFactory.createEmptyCell();
+        Arrays.fill(cells, PackedCell.of(PackedCell.EMPTY, 0));
+        questions.clear();
+        zeroRegions = null;
+    }
+    
+    /**
+     * Writes a packed cell value and updates the live counters by removing the old
+     * value's contribution and adding the new one. Every state or type change after
+     * allocation goes through here, so the counters are always exact.
+     * 
+     * @param index The row-major cell index
+     * @param bits The new packed cell value
+     */
+    void writeCell(int index, short bits) {
+        short old = cells[index];
+        track(old, -1);
+        cells[index] = bits;
+        track(bits, 1);
+        
+        if (zeroRegions != null) {
+            int type = PackedCell.type(bits);
+            if (type != PackedCell.type(old)) {
+                zeroRegions = null; // Layout changed; relabel before the next cascade
+            } else if (PackedCell.cascades(type)) {
+                boolean wasFlagged = PackedCell.state(old) == PackedCell.FLAGGED;
+                boolean isFlagged = PackedCell.state(bits) == PackedCell.FLAGGED;
+                if (wasFlagged != isFlagged) {
+                    zeroRegions.flagChanged(index, isFlagged ? 1 : -1);
+                }
+                boolean wasRevealed = PackedCell.state(old) == PackedCell.REVEALED;
+                boolean isRevealed = PackedCell.state(bits) == PackedCell.REVEALED;
+                if (wasRevealed != isRevealed) {
+                    zeroRegions.revealedChanged(zeroRegions.regionOf(index), isRevealed ? 1 : -1);
+                }
             }
         }
     }
     
+    /**
+     * Adds (delta = 1) or removes (delta = -1) one cell's contribution to the counters.
+     */
+    private void track(int bits, int delta) {
+        int type = PackedCell.type(bits);
+        int state = PackedCell.state(bits);
+        if (state == PackedCell.REVEALED) {
+            revealedByType[type] += delta;
+        } else if (type != PackedCell.MINE) {
+            hiddenSafeCells += delta;
+        } else if (state == PackedCell.HIDDEN) {
+            unflaggedMines += delta;
+        }
+        if (state == PackedCell.FLAGGED) {
+            flagsPlaced += delta;
+        }
+    }
+    
+    /**
+     * Rebuilds all counters with one pass over the board.
+     * Used after bulk writes that bypass {@link #writeCell(int, short)}, such as allocation.
+     */
+    private void recountStats() {
+        hiddenSafeCells = 0;
+        flagsPlaced = 0;
+        unflaggedMines = 0;
+        Arrays.fill(revealedByType, 0);
+        for (short bits : cells) {
+            track(bits, 1);
+        }
+    }
+    
+    /**
+     * Gets the question stored for a question cell.
+     * 
+     * @param index The row-major cell index
+     * @return The question, or null if none is set
+     */
+    Question getQuestionAt(int index) {
+        return questions.get(index);
+    }
+    
+    /**
+     * Stores the question for a question cell.
+     * 
+     * @param index The row-major cell index
+     * @param question The question, or null to clear it
+     */
+    void setQuestionAt(int index, Question question) {
+        if (question == null) {
+            questions.remove(index);
+        } else {
+            questions.put(index, question);
+        }
+    }
+    
     /**
      * Allocates cells across the board based on exact counts.
      * Distributes mines, question cells, surprise cells, and calculates number cells.
@@ -54,551 +185,879 @@ public class GameBoard {
      * - 6 question cells
      * - 2 surprise cells
      * - Remaining 63 cells are regular cells (empty or number cells)
+     * <p>
+     * Allocation runs in a single pass, linear in the board area:
+     * <ol>
+     *   <li>Mines are drawn with a partial Fisher-Yates shuffle over an {@code int[]} of
+     *       cell indices. Each placed mine increments the count of its neighbours, so
+     *       adjacent mine counts are exact as soon as the last mine is placed.</li>
+     *   <li>The non-mine tail of the same array is compacted in place down to the cells
+     *       with zero adjacent mines, which are the only valid positions for
+     *       QuestionCell and SurpriseCell.</li>
+     *   <li>Question and surprise cells are drawn from those candidates with a second
+     *       partial Fisher-Yates shuffle.</li>
+     * </ol>
+     * If a layout has too few zero-adjacent candidates, the mines are drawn again (up to
+     * {@value #MAX_ALLOCATION_ATTEMPTS} times); after that, allocation fails rather than
+     * place fewer special cells than requested. {@link BoardSpec} validation makes this
+     * very unlikely for a valid spec.
      * 
      * @param mineCount Exact number of mine cells (e.g., 10 for Easy)
      * @param questionCount Exact number of question cells (e.g., 6 for Easy)
      * @param surpriseCount Exact number of surprise cells (e.g., 2 for Easy)
      * @param questions List of questions to assign to question cells
+     * @throws IllegalArgumentException if no layout drawn had enough cells without
+     *         adjacent mines for the question and surprise cells; the board must then be
+     *         allocated again before use
      */
     public void allocateCells(int mineCount, int questionCount, 
                              int surpriseCount, List<Question> questions) {
-        // Use exact counts as specified
-        totalMines = mineCount;
+        allocateCells(mineCount, questionCount, surpriseCount, questions, new SplittableRandom());
+    }
+    
+    /**
+     * Allocates cells using a caller-supplied random stream, so the layout is fully
+     * determined by that stream (and the question list). Independent streams are split
+     * off for mine placement, special cell placement and the question order, so changing
+     * one phase never shifts the random numbers seen by another.
+     * 
+     * @param mineCount Exact number of mine cells
+     * @param questionCount Exact number of question cells
+     * @param surpriseCount Exact number of surprise cells
+     * @param questions List of questions to assign to question cells
+     * @param random The random stream for this board (consumed by splitting)
+     * @throws IllegalArgumentException if the special cells do not fit, see
+     *         {@link #allocateCells(int, int, int, List)}
+     * @see #allocateCells(int, int, int, List)
+     */
+    public void allocateCells(int mineCount, int questionCount, int surpriseCount,
+                              List<Question> questions, SplittableRandom random) {
+        SplittableRandom mineRandom = random.split();
+        SplittableRandom specialRandom = random.split();
+        SplittableRandom questionRandom = random.split();
+        firstClickRandom = random.split();
+
+        int size = cells.length;
+        // Use exact counts as specified (a board cannot hold more mines than cells)
+        totalMines = Math.min(mineCount, size);
         // Always use the requested number of question cells
         // If fewer questions are available, they will be reused (cycled)
         totalQuestionCells = questionCount;
         totalSurpriseCells = surpriseCount;
 
+        int[] pool = new int[size];
+        for (int i = 0; i < size; i++) {
+            pool[i] = i;
+        }
 
-        // Create list of all positions
-        List<int[]> positions = new ArrayList<>();
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                positions.add(new int[]{i, j});
+        int candidateCount;
+        int attempts = 0;
+        do {
+            initializeBoard();
+
+            // Allocate mines: pool[0..totalMines) becomes a uniform random sample
+            // (any starting permutation of the pool works, so retries reuse it as is)
+            for (int i = 0; i < totalMines; i++) {
+                int j = i + mineRandom.nextInt(size - i);
+                int mine = pool[j];
+                pool[j] = pool[i];
+                pool[i] = mine;
+                placeMine(mine);
+            }
+
+            // Count the non-mine cells with zero adjacent mines
+            candidateCount = 0;
+            for (int i = totalMines; i < size; i++) {
+                if (PackedCell.type(cells[pool[i]]) == PackedCell.EMPTY) {
+                    candidateCount++;
+                }
             }
+        } while (candidateCount < totalQuestionCells + totalSurpriseCells
+                && ++attempts < MAX_ALLOCATION_ATTEMPTS);
+        if (candidateCount < totalQuestionCells + totalSurpriseCells) {
+            throw new IllegalArgumentException("Could not place " + (totalQuestionCells + totalSurpriseCells)
+                    + " question and surprise cells on a " + rows + "x" + cols + " board with " + totalMines
+                    + " mines: at most " + candidateCount + " cells without adjacent mines in "
+                    + MAX_ALLOCATION_ATTEMPTS + " layouts; lower the mine density");
         }
-        
-        // Shuffle positions for random distribution
-        Collections.shuffle(positions, new Random());
-        
-        int posIndex = 0;
-        
-        // Allocate mines
-        for (int i = 0; i < totalMines && posIndex < positions.size(); i++) {
-            int[] pos = positions.get(posIndex++);
-            cells[pos[0]][pos[1]] = CellFactory.createMineCell();
+
+        // Keep only those candidates, compacted to the front of the pool
+        int candidate = 0;
+        for (int i = totalMines; i < size; i++) {
+            if (PackedCell.type(cells[pool[i]]) == PackedCell.EMPTY) {
+                pool[candidate++] = pool[i];
+            }
         }
+
+        // Allocate question cells
+        int placed = 0;
+        questionCells = new int[totalQuestionCells];
+        for (int i = 0; i < questionCells.length; i++) {
+            int index = takeCandidate(pool, placed++, candidateCount, specialRandom);
+            cells[index] = PackedCell.of(PackedCell.QUESTION, 0);
+            questionCells[i] = index;
+        }
+
+        // Allocate surprise cells
+        for (int i = 0; i < totalSurpriseCells; i++) {
+            int index = takeCandidate(pool, placed++, candidateCount, specialRandom);
+            cells[index] = PackedCell.of(PackedCell.SURPRISE, 0);
+        }
+
+        // Remaining cells are regular cells - either EMPTY (if no adjacent mines)
+        // or NUMBER (if adjacent to mines), already set while placing mines
         
-        // Calculate adjacent mine counts after placing mines
-        // This converts EMPTY cells adjacent to mines into NUMBER cells
-        calculateAdjacentMines();
-        
-        // Get positions with zero adjacent mines for QuestionCell and SurpriseCell placement
-        List<int[]> emptyCellPositions = getEmptyCellPositions();
-        int emptyPosIndex = 0;
+        // Allocation writes the array directly, so rebuild the counters once at the end
+        recountStats();
         
-        // Allocate question cells
+        assignQuestions(questions, questionRandom);
+    }
+    
+    /**
+     * Assigns questions to the question cells placed by the last allocation, replacing
+     * any questions assigned before. The layout itself is not changed, so a board can be
+     * generated ahead of time and receive the current question list when a game starts.
+     * 
+     * @param questions List of questions to assign; reused in order if there are fewer
+     *                  questions than question cells
+     * @param random The random source for the question order
+     */
+    public void assignQuestions(List<Question> questions, SplittableRandom random) {
         // Ensure we have enough questions - if not, we'll reuse questions
         List<Question> shuffledQuestions = new ArrayList<>(questions);
-        Collections.shuffle(shuffledQuestions);
-        int questionIndex = 0;
-        for (int i = 0; i < totalQuestionCells && emptyPosIndex < emptyCellPositions.size(); i++) {
-            int[] pos = emptyCellPositions.get(emptyPosIndex++);
-            Cell questionCell;
-            // Reuse questions if we need more than available (cycle through the list)
-            if (questionIndex >= shuffledQuestions.size()) {
-                questionIndex = 0; // Reset to start if we've used all questions
+        shuffle(shuffledQuestions, random);
+        for (int i = 0; i < questionCells.length; i++) {
+            if (PackedCell.type(cells[questionCells[i]]) != PackedCell.QUESTION) {
+                continue; // Replaced since allocation (e.g. by a moved mine)
             }
+            Question question = null;
             if (!shuffledQuestions.isEmpty()) {
-                questionCell = CellFactory.createQuestionCell(shuffledQuestions.get(questionIndex++));
-            } else {
-                questionCell = CellFactory.createQuestionCell();
+                // Reuse questions if we need more than available (cycle through the list)
+                question = shuffledQuestions.get(i % shuffledQuestions.size());
             }
-            cells[pos[0]][pos[1]] = questionCell;
+            setQuestionAt(questionCells[i], question);
         }
-        
-        // Refresh empty cell positions after placing question cells
-        emptyCellPositions = getEmptyCellPositions();
-        emptyPosIndex = 0;
-        
-        // Allocate surprise cells
-        for (int i = 0; i < totalSurpriseCells && emptyPosIndex < emptyCellPositions.size(); i++) {
-            int[] pos = emptyCellPositions.get(emptyPosIndex++);
-            cells[pos[0]][pos[1]] = CellFactory.createSurpriseCell();
+    }
+    
+    /**
+     * Allocates cells using the exact counts of a board spec.
+     * 
+     * @param spec The board spec (its size and topology must match this board)
+     * @param questions List of questions to assign to question cells
+     * @see #allocateCells(int, int, int, List)
+     */
+    public void allocateCells(BoardSpec spec, List<Question> questions) {
+        allocateCells(spec, questions, new SplittableRandom());
+    }
+    
+    /**
+     * Allocates cells using the exact counts of a board spec and a caller-supplied
+     * random stream, so the same spec, questions and stream give the same layout.
+     * 
+     * @param spec The board spec (its size and topology must match this board)
+     * @param questions List of questions to assign to question cells
+     * @param random The random stream for this board (consumed by splitting)
+     */
+    public void allocateCells(BoardSpec spec, List<Question> questions, SplittableRandom random) {
+        if (spec.getRows() != rows || spec.getCols() != cols || spec.getTopology() != topology) {
+            throw new IllegalArgumentException("Board spec " + spec + " does not match a "
+                    + rows + "x" + cols + " " + topology + " board");
         }
-        
-        // Remaining cells are empty (already initialized as EMPTY type)
-        // These will become regular cells - either EMPTY (if no adjacent mines) 
-        // or NUMBER (if adjacent to mines) after calculateAdjacentMines()
-        
-        // Recalculate adjacent mine counts after placing all special cells
-        calculateAdjacentMines();
-        
-        // Verify and fix allocation to ensure exact counts
-        verifyAndFixAllocation(mineCount, questionCount, surpriseCount, questions);
+        allocateCells(spec.getMineCount(), spec.getQuestionCount(), spec.getSurpriseCount(),
+                questions, random);
     }
     
     /**
-     * Gets a shuffled list of all regular cell positions (EMPTY or NUMBER cells).
+     * Turns the cell at the given index into a mine and increments the adjacent mine
+     * count of its non-mine neighbours, converting EMPTY neighbours into NUMBER cells.
      * 
-     * @return List of regular cell positions [row, col]
+     * @param index The row-major cell index
      */
-    private List<int[]> getRegularCellPositions() {
-        List<int[]> regularPositions = new ArrayList<>();
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                Cell cell = cells[i][j];
-                if (cell.getType() == Cell.CellType.EMPTY || 
-                    cell.getType() == Cell.CellType.NUMBER) {
-                    regularPositions.add(new int[]{i, j});
-                }
+    private void placeMine(int index) {
+        cells[index] = PackedCell.of(PackedCell.MINE, 0);
+        for (int delta : neighbours.deltas(index)) {
+            int neighbour = index + delta;
+            short bits = cells[neighbour];
+            if (PackedCell.type(bits) != PackedCell.MINE) {
+                bits = PackedCell.withCount(bits, PackedCell.count(bits) + 1);
+                cells[neighbour] = PackedCell.withType(bits, PackedCell.NUMBER);
             }
         }
-        Collections.shuffle(regularPositions, new Random());
-        return regularPositions;
     }
     
     /**
-     * Gets a shuffled list of all positions with zero adjacent mines.
-     * These positions are suitable for placing QuestionCell and SurpriseCell,
-     * which should behave like EmptyCell (no adjacent mines).
+     * Performs one step of a partial Fisher-Yates shuffle over {@code pool[from..end)}.
      * 
-     * @return List of empty cell positions [row, col] with zero adjacent mines
+     * @param pool The candidate indices
+     * @param from The first position not yet drawn
+     * @param end The end of the candidate range (exclusive)
+     * @param random The random source
+     * @return The drawn cell index, now stored at {@code pool[from]}
      */
-    private List<int[]> getEmptyCellPositions() {
-        List<int[]> emptyPositions = new ArrayList<>();
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                Cell cell = cells[i][j];
-                // Only include positions that are currently EMPTY cells (not NUMBER or MINE)
-                // and have zero adjacent mines
-                if (cell.getType() == Cell.CellType.EMPTY && 
-                    countAdjacentMines(i, j) == 0) {
-                    emptyPositions.add(new int[]{i, j});
-                }
+    private static int takeCandidate(int[] pool, int from, int end, SplittableRandom random) {
+        int j = from + random.nextInt(end - from);
+        int index = pool[j];
+        pool[j] = pool[from];
+        pool[from] = index;
+        return index;
+    }
+    
+    /**
+     * Shuffles a list in place with a Fisher-Yates shuffle driven by the given stream
+     * (Collections.shuffle only accepts java.util.Random).
+     * 
+     * @param list The list to shuffle
+     * @param random The random source
+     */
+    private static <T> void shuffle(List<T> list, SplittableRandom random) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            list.set(j, list.set(i, list.get(j)));
+        }
+    }
+    
+    /**
+     * Counts the number of mines adjacent to a given cell position.
+     * 
+     * @param row The row index of the cell
+     * @param col The column index of the cell
+     * @return The number of adjacent mines (0 up to the topology's maximum degree)
+     */
+    public int countAdjacentMines(int row, int col) {
+        return countAdjacentMines(row * cols + col);
+    }
+    
+    private int countAdjacentMines(int index) {
+        int count = 0;
+        for (int delta : neighbours.deltas(index)) {
+            if (PackedCell.type(cells[index + delta]) == PackedCell.MINE) {
+                count++;
             }
         }
-        Collections.shuffle(emptyPositions, new Random());
-        return emptyPositions;
+        return count;
     }
     
     /**
-     * Verifies that the board has the correct number of each cell type,
-     * and fixes it by converting regular cells if needed.
+     * Reveals a cell at the specified position.
+     * If it's the first click, ensures no mine is at that position (or, if enabled,
+     * next to it), see {@link #setFirstClickOpening(boolean)}.
+     * If an empty cell is revealed, automatically reveals adjacent empty cells.
      * 
-     * @param requiredMines Required number of mine cells
-     * @param requiredQuestions Required number of question cells
-     * @param requiredSurprises Required number of surprise cells
-     * @param questions List of questions to assign to question cells
+     * @param row The row index
+     * @param col The column index
+     * @return A new RevealResult listing every cell that was revealed; 
+     *         {@link RevealResult#isMineHit()} is true if a mine was revealed
      */
-    private void verifyAndFixAllocation(int requiredMines, int requiredQuestions, 
-                                       int requiredSurprises, List<Question> questions) {
-        // Count current allocation
-        int currentMines = 0;
-        int currentQuestions = 0;
-        int currentSurprises = 0;
+    public RevealResult revealCell(int row, int col) {
+        return revealCell(row, col, new RevealResult());
+    }
+    
+    /**
+     * Reveals a cell at the specified position, recording the changed cells into a
+     * caller-supplied buffer. The buffer is cleared first, so it can be reused across
+     * reveals without allocating.
+     * 
+     * @param row The row index
+     * @param col The column index
+     * @param result The buffer to fill with the revealed cells
+     * @return The given buffer
+     */
+    public RevealResult revealCell(int row, int col, RevealResult result) {
+        result.reset(cols);
         
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                Cell cell = cells[i][j];
-                switch (cell.getType()) {
-                    case MINE:
-                        currentMines++;
-                        break;
-                    case QUESTION:
-                        currentQuestions++;
-                        break;
-                    case SURPRISE:
-                        currentSurprises++;
-                        break;
-                    case EMPTY:
-                    case NUMBER:
-                        // Regular cells - counted separately when needed
-                        break;
-                }
-            }
+        // Validate bounds
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return result;
         }
         
-        // Fix mines if needed
-        while (currentMines < requiredMines) {
-            List<int[]> regularPositions = getRegularCellPositions();
-            if (regularPositions.isEmpty()) break;
-            int[] pos = regularPositions.get(0);
-            cells[pos[0]][pos[1]] = CellFactory.createMineCell();
-            currentMines++;
-        }
-        while (currentMines > requiredMines) {
-            // Find a mine and convert to empty
-            for (int i = 0; i < rows && currentMines > requiredMines; i++) {
-                for (int j = 0; j < cols && currentMines > requiredMines; j++) {
-                    if (cells[i][j].getType() == Cell.CellType.MINE) {
-                        cells[i][j] = CellFactory.createEmptyCell();
-                        currentMines--;
-                        break;
-                    }
-                }
-            }
+        int index = row * cols + col;
+        
+        // If cell is flagged, unflag it first
+        if (PackedCell.state(cells[index]) == PackedCell.FLAGGED) {
+            writeCell(index, PackedCell.withState(cells[index], PackedCell.HIDDEN));
         }
         
-        // Validate and fix question cells - ensure they're not near mines
-        List<Question> shuffledQuestions = new ArrayList<>(questions);
-        if (!shuffledQuestions.isEmpty()) {
-            Collections.shuffle(shuffledQuestions);
+        // Can't reveal already revealed cells
+        if (PackedCell.state(cells[index]) == PackedCell.REVEALED) {
+            return result;
         }
-        int questionIndex = 0;
         
-        // First, check if any existing question cells are near mines and move them
-        List<int[]> questionCellsToMove = new ArrayList<>();
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                if (cells[i][j].getType() == Cell.CellType.QUESTION) {
-                    if (countAdjacentMines(i, j) > 0) {
-                        questionCellsToMove.add(new int[]{i, j});
-                    }
-                }
-            }
+        // Handle first click - ensure no mine (and, by default, an opening)
+        if (firstClick) {
+            firstClick = false;
+            clearFirstClickZone(row, col);
+        }
+        
+        // Reveal the cell
+        writeCell(index, PackedCell.withState(cells[index], PackedCell.REVEALED));
+        result.add(index);
+        int type = PackedCell.type(cells[index]);
+        
+        if (type == PackedCell.MINE) {
+            result.setMineHit();
+            return result;
+        }
+        
+        // If it's an empty cell (or a QuestionCell or SurpriseCell, which behave like one), 
+        // reveal the connected open region
+        if (PackedCell.cascades(type)) {
+            revealRegion(index, result);
         }
         
-        // Move question cells that are near mines to empty positions
-        for (int[] pos : questionCellsToMove) {
-            QuestionCell questionCell = (QuestionCell) cells[pos[0]][pos[1]];
-            List<int[]> emptyPositions = getEmptyCellPositions();
-            if (!emptyPositions.isEmpty()) {
-                int[] newPos = emptyPositions.get(0);
-                cells[newPos[0]][newPos[1]] = questionCell;
-                cells[pos[0]][pos[1]] = CellFactory.createEmptyCell();
-            } else {
-                // If no empty positions available, convert to empty cell
-                cells[pos[0]][pos[1]] = CellFactory.createEmptyCell();
-                currentQuestions--;
+        return result;
+    }
+    
+    /**
+     * Chords a revealed number cell: if exactly as many of its neighbours are flagged as
+     * its number shows, every other hidden neighbour is revealed.
+     *
+     * @param row The row index of the number cell
+     * @param col The column index of the number cell
+     * @return A new RevealResult listing every cell that was revealed (empty if the cell
+     *         cannot be chorded)
+     * @see #chordCell(int, int, RevealResult)
+     */
+    public RevealResult chordCell(int row, int col) {
+        return chordCell(row, col, new RevealResult());
+    }
+
+    /**
+     * Chords a revealed number cell as one batch, recording the changed cells into a
+     * caller-supplied buffer. The neighbours are revealed in one pass, and the openings
+     * of any cascading neighbours are merged into the same buffer as they are found: a
+     * cell reached by several of those openings is revealed once, so the whole chord
+     * produces a single combined change list.
+     * <p>
+     * Nothing happens unless the cell is a revealed NUMBER whose flagged neighbours and
+     * revealed (hit) mines together match its count; a hit mine stays revealed and cannot
+     * be flagged, so it counts as marked. A wrong flag can make the chord reveal mines;
+     * {@link RevealResult#getMinesHit()} counts them.
+     *
+     * @param row The row index of the number cell
+     * @param col The column index of the number cell
+     * @param result The buffer to fill with the revealed cells
+     * @return The given buffer
+     */
+    public RevealResult chordCell(int row, int col, RevealResult result) {
+        result.reset(cols);
+
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return result;
+        }
+        int index = row * cols + col;
+        short bits = cells[index];
+        if (PackedCell.state(bits) != PackedCell.REVEALED || PackedCell.type(bits) != PackedCell.NUMBER) {
+            return result;
+        }
+
+        int[] deltas = neighbours.deltas(index);
+        int marked = 0;
+        for (int delta : deltas) {
+            short neighbourBits = cells[index + delta];
+            int state = PackedCell.state(neighbourBits);
+            if (state == PackedCell.FLAGGED
+                    || state == PackedCell.REVEALED && PackedCell.type(neighbourBits) == PackedCell.MINE) {
+                marked++;
             }
         }
+        if (marked != PackedCell.count(bits)) {
+            return result;
+        }
+
+        for (int delta : deltas) {
+            int neighbour = index + delta;
+            short neighbourBits = cells[neighbour];
+            // Skips flags, and cells an earlier neighbour's opening already revealed
+            if (PackedCell.state(neighbourBits) != PackedCell.HIDDEN) {
+                continue;
+            }
+            writeCell(neighbour, PackedCell.withState(neighbourBits, PackedCell.REVEALED));
+            result.add(neighbour);
+            int type = PackedCell.type(neighbourBits);
+            if (type == PackedCell.MINE) {
+                result.setMineHit();
+            } else if (PackedCell.cascades(type)) {
+                revealRegion(neighbour, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the reusable work stack, allocating it on first use.
+     */
+    private int[] revealStack() {
+        if (revealStack == null) {
+            revealStack = new int[cells.length];
+        }
+        return revealStack;
+    }
+    
+    /**
+     * Reveals the opening around a cascading cell that was just revealed, using the
+     * zero-region index: every hidden cell of the cell's region and of its number border
+     * is flipped to revealed in one pass over two precomputed spans, so the cost is
+     * proportional to the opening rather than to a search. Regions holding a flag, or
+     * partly revealed before, fall back to
+     * {@link #revealAdjacentEmptyCells(int, int, RevealResult)}, which stops at flags and
+     * only reaches the hidden cells connected to this one.
+     * <p>
+     * The index is built by the first cascade, so boards waiting to be played (such as
+     * pre-generated ones) never hold it, and the mines a first click moves are already in
+     * place when it is labelled. A later layout change drops it, and the next cascade
+     * relabels the board.
+     * 
+     * @param index The index of the revealed cascading cell
+     * @param result The buffer recording every revealed cell
+     */
+    private void revealRegion(int index, RevealResult result) {
+        if (zeroRegions == null) {
+            zeroRegions = ZeroRegionIndex.build(cells, neighbours);
+        }
+        int region = zeroRegions.regionOf(index);
+        if (region < 0 || !zeroRegions.isOpenable(region)) {
+            revealAdjacentEmptyCells(index / cols, index % cols, result);
+            return;
+        }
         
-        // Fix question cell count if needed
-        while (currentQuestions < requiredQuestions) {
-            List<int[]> emptyPositions = getEmptyCellPositions();
-            if (emptyPositions.isEmpty()) break;
-            int[] pos = emptyPositions.get(0);
-            Cell questionCell;
-            // Only assign question if questions are available
-            if (!shuffledQuestions.isEmpty()) {
-                if (questionIndex >= shuffledQuestions.size()) {
-                    questionIndex = 0; // Cycle through questions
+        ZeroRegionIndex regions = zeroRegions;
+        for (int k = regions.cellStart(region), end = regions.cellEnd(region); k < end; k++) {
+            revealIfHidden(regions.cellAt(k), result);
+        }
+        for (int k = regions.borderStart(region), end = regions.borderEnd(region); k < end; k++) {
+            revealIfHidden(regions.borderAt(k), result);
+        }
+    }
+    
+    private void revealIfHidden(int index, RevealResult result) {
+        short bits = cells[index];
+        if (PackedCell.state(bits) == PackedCell.HIDDEN) {
+            writeCell(index, PackedCell.withState(bits, PackedCell.REVEALED));
+            result.add(index);
+        }
+    }
+    
+    /**
+     * Reveals the region opened by an empty cell (or its subclasses) that was just revealed.
+     * Reveals adjacent number cells (but doesn't expand from them).
+     * Expands through adjacent empty cells and their subclasses (QuestionCell, SurpriseCell).
+     * <p>
+     * This is an iterative flood fill over cell indices using an explicit stack, so large
+     * open regions cannot overflow the call stack. Cells are marked revealed when they
+     * are pushed, so each cell enters the stack at most once and the stack never needs
+     * more than {@code rows * cols} slots. The stack is allocated once per board and
+     * reused by every cascade. Boards of at least {@link #setParallelCascadeThreshold(int)}
+     * cells use the level-by-level {@link ParallelFloodFill}, which reveals the same cells.
+     * 
+     * @param row The row index
+     * @param col The column index
+     * @param result The buffer recording every revealed cell
+     */
+    private void revealAdjacentEmptyCells(int row, int col, RevealResult result) {
+        if (cells.length >= parallelCascadeCells) {
+            int start = row * cols + col;
+            int[] revealed = ParallelFloodFill.fill(cells, neighbours, start, ForkJoinPool.commonPool(), result);
+            // The parallel fill writes the cells directly; only safe cells are revealed
+            int revealedCascading = 0;
+            for (int type = 0; type < revealed.length; type++) {
+                revealedByType[type] += revealed[type];
+                hiddenSafeCells -= revealed[type];
+                if (PackedCell.cascades(type)) {
+                    revealedCascading += revealed[type];
                 }
-                questionCell = CellFactory.createQuestionCell(shuffledQuestions.get(questionIndex++));
-            } else {
-                questionCell = CellFactory.createQuestionCell();
             }
-            cells[pos[0]][pos[1]] = questionCell;
-            currentQuestions++;
-        }
-        while (currentQuestions > requiredQuestions) {
-            // Find a question cell and convert to empty
-            for (int i = 0; i < rows && currentQuestions > requiredQuestions; i++) {
-                for (int j = 0; j < cols && currentQuestions > requiredQuestions; j++) {
-                    if (cells[i][j].getType() == Cell.CellType.QUESTION) {
-                        cells[i][j] = CellFactory.createEmptyCell();
-                        currentQuestions--;
-                        break;
-                    }
+            // Every cascading cell a fill reaches is connected to the start, so in its region
+            zeroRegions.revealedChanged(zeroRegions.regionOf(start), revealedCascading);
+            return;
+        }
+        
+        int[] stack = revealStack();
+        int top = 0;
+        stack[top++] = row * cols + col;
+        
+        while (top > 0) {
+            int index = stack[--top];
+            
+            // Check every adjacent cell (directly adjacent only)
+            for (int delta : neighbours.deltas(index)) {
+                int neighbour = index + delta;
+                short bits = cells[neighbour];
+                
+                // Only reveal hidden, non-flagged cells
+                if (PackedCell.state(bits) != PackedCell.HIDDEN) {
+                    continue;
+                }
+                int type = PackedCell.type(bits);
+                // Reveal number cells (but don't expand from them)
+                if (type == PackedCell.NUMBER) {
+                    writeCell(neighbour, PackedCell.withState(bits, PackedCell.REVEALED));
+                    result.add(neighbour);
                 }
+                // Expand through empty cells and their subclasses (QuestionCell, SurpriseCell)
+                else if (PackedCell.cascades(type)) {
+                    writeCell(neighbour, PackedCell.withState(bits, PackedCell.REVEALED));
+                    result.add(neighbour);
+                    stack[top++] = neighbour;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Sets the board size from which flood fills run in parallel on the common fork-join
+     * pool (see {@link ParallelFloodFill}) instead of on the calling thread. Both produce
+     * the same reveal; the parallel fill only pays off for openings of many thousands of
+     * cells, so the default is one million cells.
+     * 
+     * @param boardCells The minimum number of cells, or Integer.MAX_VALUE to never fill in parallel
+     */
+    public void setParallelCascadeThreshold(int boardCells) {
+        this.parallelCascadeCells = boardCells;
+    }
+    
+    /**
+     * Places a mine on a cell, for custom or edited boards. Only the cell's neighbourhood
+     * is updated, so an edit costs O(1) regardless of the board size. A question or
+     * surprise cell that receives a mine loses its special type.
+     * 
+     * @param row The row index
+     * @param col The column index
+     * @return true if a mine was added, false if the cell already holds one
+     * @throws IllegalArgumentException if the position is outside the board
+     */
+    public boolean addMine(int row, int col) {
+        int index = checkedIndex(row, col);
+        if (PackedCell.type(cells[index]) == PackedCell.MINE) {
+            return false;
+        }
+        addMineAt(index);
+        totalMines++;
+        return true;
+    }
+    
+    /**
+     * Removes a mine from a cell, for custom or edited boards. The cell becomes an EMPTY
+     * or NUMBER cell and only its neighbourhood is updated.
+     * 
+     * @param row The row index
+     * @param col The column index
+     * @return true if a mine was removed, false if the cell holds no mine
+     * @throws IllegalArgumentException if the position is outside the board
+     */
+    public boolean removeMine(int row, int col) {
+        int index = checkedIndex(row, col);
+        if (PackedCell.type(cells[index]) != PackedCell.MINE) {
+            return false;
+        }
+        removeMineAt(index);
+        totalMines--;
+        return true;
+    }
+    
+    private int checkedIndex(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IllegalArgumentException("Position " + row + "," + col + " is outside the "
+                    + rows + "x" + cols + " board");
+        }
+        return row * cols + col;
+    }
+    
+    /**
+     * Recomputes the adjacent mine count of every EMPTY and NUMBER cell in one bulk pass,
+     * for boards whose cells were written without going through {@link #addMine(int, int)}
+     * and {@link #removeMine(int, int)}.
+     * <p>
+     * The 3x3 neighbourhood sum is separable, so it is computed as a horizontal sum of
+     * three followed by a vertical sum of three over a mine grid padded by one cell on
+     * each side: two branch-free passes over primitive arrays instead of eight
+     * bounds-checked lookups per cell. Boards at least 64 columns wide count with
+     * {@link NeighbourCounter} over a mine bit plane instead, 64 cells per word operation.
+     * Both shortcuts assume the standard grid; other topologies count through the
+     * neighbour table. Cell states are preserved.
+     */
+    public void recountAdjacentMines() {
+        if (topology != Topology.GRID) {
+            for (int index = 0; index < cells.length; index++) {
+                writeCount(index, countAdjacentMines(index));
             }
+            return;
+        }
+        if (cols >= Long.SIZE) {
+            byte[] counts = new byte[cells.length];
+            NeighbourCounter.count(bitPlane(false), rows, cols, counts);
+            for (int index = 0; index < cells.length; index++) {
+                writeCount(index, counts[index]);
+            }
+            return;
         }
         
-        // Validate and fix surprise cells - ensure they're not near mines
-        // First, check if any existing surprise cells are near mines and move them
-        List<int[]> surpriseCellsToMove = new ArrayList<>();
+        int width = cols + 2;
+        int[] mines = new int[(rows + 2) * width];
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
-                if (cells[i][j].getType() == Cell.CellType.SURPRISE) {
-                    if (countAdjacentMines(i, j) > 0) {
-                        surpriseCellsToMove.add(new int[]{i, j});
-                    }
+                if (PackedCell.type(cells[i * cols + j]) == PackedCell.MINE) {
+                    mines[(i + 1) * width + j + 1] = 1;
                 }
             }
         }
         
-        // Move surprise cells that are near mines to empty positions
-        for (int[] pos : surpriseCellsToMove) {
-            SurpriseCell surpriseCell = (SurpriseCell) cells[pos[0]][pos[1]];
-            List<int[]> emptyPositions = getEmptyCellPositions();
-            if (!emptyPositions.isEmpty()) {
-                int[] newPos = emptyPositions.get(0);
-                cells[newPos[0]][newPos[1]] = surpriseCell;
-                cells[pos[0]][pos[1]] = CellFactory.createEmptyCell();
-            } else {
-                // If no empty positions available, convert to empty cell
-                cells[pos[0]][pos[1]] = CellFactory.createEmptyCell();
-                currentSurprises--;
+        // Horizontal pass: rowSums[r][c] = mines[r][c-1] + mines[r][c] + mines[r][c+1]
+        int[] rowSums = new int[mines.length];
+        for (int r = 0; r < rows + 2; r++) {
+            int base = r * width;
+            for (int c = 1; c <= cols; c++) {
+                rowSums[base + c] = mines[base + c - 1] + mines[base + c] + mines[base + c + 1];
             }
         }
         
-        // Fix surprise cell count if needed
-        while (currentSurprises < requiredSurprises) {
-            List<int[]> emptyPositions = getEmptyCellPositions();
-            if (emptyPositions.isEmpty()) break;
-            int[] pos = emptyPositions.get(0);
-            cells[pos[0]][pos[1]] = CellFactory.createSurpriseCell();
-            currentSurprises++;
-        }
-        while (currentSurprises > requiredSurprises) {
-            // Find a surprise cell and convert to empty
-            for (int i = 0; i < rows && currentSurprises > requiredSurprises; i++) {
-                for (int j = 0; j < cols && currentSurprises > requiredSurprises; j++) {
-                    if (cells[i][j].getType() == Cell.CellType.SURPRISE) {
-                        cells[i][j] = CellFactory.createEmptyCell();
-                        currentSurprises--;
-                        break;
-                    }
+        // Vertical pass, written straight into the board (the cell itself is never a mine here)
+        for (int i = 0; i < rows; i++) {
+            int above = i * width;
+            for (int j = 0; j < cols; j++) {
+                int c = j + 1;
+                writeCount(i * cols + j,
+                        rowSums[above + c] + rowSums[above + width + c] + rowSums[above + 2 * width + c]);
+            }
+        }
+    }
+    
+    /**
+     * Stores a recounted adjacent mine count in an EMPTY or NUMBER cell, switching its
+     * type as needed. Other cell types are left unchanged.
+     */
+    private void writeCount(int index, int count) {
+        int type = PackedCell.type(cells[index]);
+        if (type != PackedCell.EMPTY && type != PackedCell.NUMBER) {
+            return;
+        }
+        short bits = PackedCell.withType(cells[index], count > 0 ? PackedCell.NUMBER : PackedCell.EMPTY);
+        writeCell(index, PackedCell.withCount(bits, count));
+    }
+    
+    /**
+     * Counts, for every cell, how many of its neighbours are still hidden (neither revealed
+     * nor flagged). Solvers use these counts alongside the numbers of revealed cells; on
+     * large boards this single bulk pass is much cheaper than per-cell neighbour scans.
+     * 
+     * @param counts Output, row-major, one count per cell; at least rows * cols long
+     */
+    public void countHiddenNeighbours(byte[] counts) {
+        if (topology == Topology.GRID) {
+            NeighbourCounter.count(bitPlane(true), rows, cols, counts);
+            return;
+        }
+        for (int index = 0; index < cells.length; index++) {
+            int count = 0;
+            for (int delta : neighbours.deltas(index)) {
+                if (PackedCell.state(cells[index + delta]) == PackedCell.HIDDEN) {
+                    count++;
                 }
             }
+            counts[index] = (byte) count;
         }
-        
-        // Recalculate adjacent mines after fixing allocation
-        calculateAdjacentMines();
     }
     
     /**
-     * Calculates and sets the adjacent mine count for all non-mine, non-special cells.
-     * <p>
-     * This method is called multiple times during board setup and when mines are moved
-     * (e.g., first-click safety in {@link #moveMineAway(int, int)}). To keep the
-     * numbers consistent, it must always recompute the adjacent mine count and update
-     * existing {@link NumberCell} instances instead of only converting from EMPTY
-     * once.
-     * <p>
-     * Behaviour:
-     * <ul>
-     *   <li>If a position has one or more adjacent mines, it will contain a
-     *       {@link NumberCell} with the correct {@code adjacentMines} value.</li>
-     *   <li>If a position has zero adjacent mines, it will contain an
-     *       {@link EmptyCell}.</li>
-     *   <li>{@link MineCell}, {@link QuestionCell}, and {@link SurpriseCell}
-     *       are left unchanged.</li>
-     * </ul>
-     */
-    private void calculateAdjacentMines() {
+     * Builds a bit plane (see {@link NeighbourCounter}) of the mine cells, or of the
+     * hidden cells.
+     * 
+     * @param hidden true for hidden cells, false for mines
+     */
+    private long[] bitPlane(boolean hidden) {
+        long[] plane = NeighbourCounter.newPlane(rows, cols);
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
-                Cell cell = cells[i][j];
-
-                // Skip mines, questions, and surprises - they don't get number values
-                if (cell.getType() == Cell.CellType.MINE
-                        || cell.getType() == Cell.CellType.QUESTION
-                        || cell.getType() == Cell.CellType.SURPRISE) {
-                    continue;
-                }
-
-                // Recompute adjacent mine count for this position
-                int mineCount = countAdjacentMines(i, j);
-
-                // Preserve the current state and scoring flag when we potentially replace the cell
-                Cell.CellState state = cell.getState();
-                boolean flagScoreContributed = cell.hasFlagScoreContributed();
-
-                if (mineCount > 0) {
-                    // Ensure this is a NumberCell with the correct count
-                    NumberCell numberCell;
-                    if (cell instanceof NumberCell) {
-                        numberCell = (NumberCell) cell;
-                        numberCell.setAdjacentMines(mineCount);
-                    } else {
-                        numberCell = (NumberCell) CellFactory.createNumberCell(mineCount);
-                        cells[i][j] = numberCell;
-                    }
-
-                    // Restore state if we created a new cell
-                    if (cells[i][j] == numberCell) {
-                        if (state == Cell.CellState.REVEALED) {
-                            numberCell.reveal();
-                        } else if (state == Cell.CellState.FLAGGED) {
-                            numberCell.toggleFlag();
-                        }
-                        if (flagScoreContributed) {
-                            numberCell.setFlagScoreContributed(true);
-                        }
-                    }
-                } else {
-                    // No adjacent mines – ensure the cell is an EmptyCell
-                    if (!(cell instanceof EmptyCell)) {
-                        EmptyCell emptyCell = (EmptyCell) CellFactory.createEmptyCell();
-                        cells[i][j] = emptyCell;
-
-                        // Restore state on the new empty cell
-                        if (state == Cell.CellState.REVEALED) {
-                            emptyCell.reveal();
-                        } else if (state == Cell.CellState.FLAGGED) {
-                            emptyCell.toggleFlag();
-                        }
-                        if (flagScoreContributed) {
-                            emptyCell.setFlagScoreContributed(true);
-                        }
-                    }
-                    // If it was already an EmptyCell and mineCount == 0, nothing to change
+                short bits = cells[i * cols + j];
+                boolean set = hidden ? PackedCell.state(bits) == PackedCell.HIDDEN
+                                     : PackedCell.type(bits) == PackedCell.MINE;
+                if (set) {
+                    NeighbourCounter.set(plane, cols, i, j);
                 }
             }
         }
+        return plane;
     }
     
     /**
-     * Counts the number of mines adjacent to a given cell position.
+     * Sets whether the first click is guaranteed to open a region. If true, the first click
+     * and its neighbours are kept free of mines, so the clicked cell has no adjacent mines.
+     * This makes the start easier and moves the cleared mines elsewhere, so it is off by
+     * default and only the clicked cell itself is kept free.
      * 
-     * @param row The row index of the cell
-     * @param col The column index of the cell
-     * @return The number of adjacent mines (0-8)
+     * @param firstClickOpening true to guarantee an opening on the first click
      */
-    public int countAdjacentMines(int row, int col) {
-        int count = 0;
+    public void setFirstClickOpening(boolean firstClickOpening) {
+        this.firstClickOpening = firstClickOpening;
+    }
+    
+    /**
+     * Makes the first click safe by moving every mine inside the exclusion zone (the
+     * clicked cell, plus its neighbours if {@link #setFirstClickOpening(boolean)} is on)
+     * to a random cell outside it, rather than to a fixed position.
+     * <p>
+     * Destinations are picked uniformly among the cells that are not special and not next
+     * to one, so question and surprise cells keep zero adjacent mines; only if none is left
+     * does {@link #pickAnyFreeCell} take any free cell. The layout is therefore close to,
+     * but not exactly, one generated with the zone excluded from the start. Only the
+     * neighbourhoods of the moved mines are recounted.
+     * 
+     * @param row The row index of the first click
+     * @param col The column index of the first click
+     */
+    private void clearFirstClickZone(int row, int col) {
+        int click = row * cols + col;
         
-        // Check all 8 adjacent cells
-        for (int i = -1; i <= 1; i++) {
-            for (int j = -1; j <= 1; j++) {
-                if (i == 0 && j == 0) continue; // Skip the cell itself
-                
-                int newRow = row + i;
-                int newCol = col + j;
-                
-                // Check bounds
-                if (newRow >= 0 && newRow < rows && newCol >= 0 && newCol < cols) {
-                    if (cells[newRow][newCol].getType() == Cell.CellType.MINE) {
-                        count++;
-                    }
+        int moved = 0;
+        if (PackedCell.type(cells[click]) == PackedCell.MINE) {
+            removeMineAt(click);
+            moved++;
+        }
+        if (firstClickOpening) {
+            for (int delta : neighbours.deltas(click)) {
+                if (PackedCell.type(cells[click + delta]) == PackedCell.MINE) {
+                    removeMineAt(click + delta);
+                    moved++;
                 }
             }
         }
+        if (moved == 0) {
+            return;
+        }
         
-        return count;
+        if (firstClickRandom == null) {
+            firstClickRandom = new SplittableRandom();
+        }
+        for (int m = 0; m < moved; m++) {
+            int destination = pickMineDestination(click);
+            if (destination < 0) {
+                // No valid cell left: keep the mine count by reusing any other non-mine cell
+                destination = pickAnyFreeCell(click);
+            }
+            if (destination < 0) {
+                break; // Every other cell already holds a mine
+            }
+            addMineAt(destination);
+        }
     }
     
     /**
-     * Reveals a cell at the specified position.
-     * If it's the first click, ensures no mine is at that position.
-     * If an empty cell is revealed, automatically reveals adjacent empty cells.
+     * Picks a random cell that may receive a moved mine: outside the exclusion zone, not a
+     * mine or special cell, and not next to a special cell. Tries random cells first, which
+     * succeeds almost immediately on any playable board, then falls back to a full scan.
      * 
-     * @param row The row index
-     * @param col The column index
-     * @return true if a mine was revealed (game over), false otherwise
+     * @param click The index of the first click
+     * @return The chosen cell index, or -1 if no cell qualifies
      */
-    public boolean revealCell(int row, int col) {
-        // Validate bounds
-        if (row < 0 || row >= rows || col < 0 || col >= cols) {
-            return false;
-        }
-        
-        Cell cell = cells[row][col];
-        
-        // If cell is flagged, unflag it first
-        if (cell.isFlagged()) {
-            cell.toggleFlag(); // Unflag the cell
+    private int pickMineDestination(int click) {
+        for (int attempt = 0; attempt < 64; attempt++) {
+            int index = firstClickRandom.nextInt(cells.length);
+            if (canReceiveMine(index, click)) {
+                return index;
+            }
         }
-        
-        // Can't reveal already revealed cells
-        if (cell.isRevealed()) {
-            return false;
+        int chosen = -1;
+        int seen = 0;
+        for (int index = 0; index < cells.length; index++) {
+            // Reservoir sampling keeps the pick uniform among the qualifying cells
+            if (canReceiveMine(index, click) && firstClickRandom.nextInt(++seen) == 0) {
+                chosen = index;
+            }
         }
-        
-
-
-
-
-
-        // Handle first click - ensure no mine
-        if (firstClick) {
-            firstClick = false;
-            
-            // If first click is on a mine, move the mine
-            if (cell.getType() == Cell.CellType.MINE) {
-                moveMineAway(row, col);
-                // Update cell reference after mine was moved
-                cell = cells[row][col];
+        return chosen;
+    }
+    
+    /**
+     * Picks a random non-mine cell outside the exclusion zone, ignoring special cells'
+     * neighbourhoods. Only used when no cell passes {@link #canReceiveMine}.
+     * 
+     * @param click The index of the first click
+     * @return The chosen cell index, or -1 if no cell qualifies
+     */
+    private int pickAnyFreeCell(int click) {
+        int chosen = -1;
+        int seen = 0;
+        for (int index = 0; index < cells.length; index++) {
+            int type = PackedCell.type(cells[index]);
+            if ((type == PackedCell.EMPTY || type == PackedCell.NUMBER)
+                    && !inZone(index, click) && firstClickRandom.nextInt(++seen) == 0) {
+                chosen = index;
             }
         }
-        
-
-
-
-
-
-
-        // Reveal the cell
-        cell.reveal();
-        
-        if (cell.getType() == Cell.CellType.MINE) {
+        return chosen;
+    }
+    
+    /**
+     * Checks if a cell lies in the first-click exclusion zone.
+     */
+    private boolean inZone(int index, int click) {
+        if (index == click) {
             return true;
         }
-        
-        // If it's an empty cell (or any subclass like QuestionCell or SurpriseCell), 
-        // reveal adjacent cells recursively
-        if (cell instanceof EmptyCell) {
-            revealAdjacentEmptyCells(row, col);
+        if (firstClickOpening) {
+            for (int delta : neighbours.deltas(click)) {
+                if (click + delta == index) {
+                    return true;
+                }
+            }
         }
-        
         return false;
     }
     
+    private boolean canReceiveMine(int index, int click) {
+        int type = PackedCell.type(cells[index]);
+        if ((type != PackedCell.EMPTY && type != PackedCell.NUMBER) || inZone(index, click)) {
+            return false;
+        }
+        for (int delta : neighbours.deltas(index)) {
+            int neighbourType = PackedCell.type(cells[index + delta]);
+            if (neighbourType == PackedCell.QUESTION || neighbourType == PackedCell.SURPRISE) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     /**
-     * Recursively reveals adjacent cells when an empty cell (or its subclasses) is revealed.
-     * Reveals adjacent number cells (but doesn't recurse from them).
-     * Recursively reveals adjacent empty cells and their subclasses (QuestionCell, SurpriseCell).
+     * Turns a mine into a regular cell and decrements the counts of its neighbours,
+     * touching only its neighbourhood. Cell states (e.g. flags) are preserved.
      * 
-     * @param row The row index
-     * @param col The column index
+     * @param index The row-major index of a mine cell
      */
-    private void revealAdjacentEmptyCells(int row, int col) {
-        // Check all 8 adjacent cells (directly adjacent only)
-        for (int i = -1; i <= 1; i++) {
-            for (int j = -1; j <= 1; j++) {
-                if (i == 0 && j == 0) continue; // Skip the cell itself
-                
-                int newRow = row + i;
-                int newCol = col + j;
-                
-                // Check bounds - ensure we're only checking directly adjacent cells
-                if (newRow >= 0 && newRow < rows && newCol >= 0 && newCol < cols) {
-                    Cell adjacentCell = cells[newRow][newCol];
-                    
-                    // Only reveal hidden, non-flagged cells
-                    if (adjacentCell.isHidden() && !adjacentCell.isFlagged()) {
-                        // Reveal number cells (but don't recurse from them)
-                        if (adjacentCell instanceof NumberCell) {
-                            adjacentCell.reveal();
-                        }
-                        // Recursively reveal empty cells and their subclasses (QuestionCell, SurpriseCell)
-                        else if (adjacentCell instanceof EmptyCell) {
-                            adjacentCell.reveal();
-                            revealAdjacentEmptyCells(newRow, newCol);
-                        }
-                    }
-                }
-            }
-        }
+    private void removeMineAt(int index) {
+        int count = countAdjacentMines(index);
+        short bits = PackedCell.withType(cells[index], count > 0 ? PackedCell.NUMBER : PackedCell.EMPTY);
+        writeCell(index, PackedCell.withCount(bits, count));
+        adjustNeighbourCounts(index, -1);
     }
     
     /**
-     * Moves a mine away from the first click position to ensure first click safety.
+     * Turns a cell into a mine and increments the counts of its neighbours,
+     * touching only its neighbourhood. Cell states (e.g. flags) are preserved.
      * 
-     * @param row The row index of the first click
-     * @param col The column index of the first click
+     * @param index The row-major index of a non-mine cell
      */
-    private void moveMineAway(int row, int col) {
-        // Find the first non-mine cell and swap
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                // Skip the first click position and adjacent cells
-                if (Math.abs(i - row) <= 1 && Math.abs(j - col) <= 1) {
-                    continue;
-                }
-                
-                if (cells[i][j].getType() != Cell.CellType.MINE) {
-                    // Swap: move mine here, make first click position empty
-                    cells[i][j] = CellFactory.createMineCell();
-                    cells[row][col] = CellFactory.createEmptyCell();
-                    
-                    // Recalculate adjacent mines
-                    calculateAdjacentMines();
-                    return;
-                }
+    private void addMineAt(int index) {
+        short bits = PackedCell.withType(cells[index], PackedCell.MINE);
+        writeCell(index, PackedCell.withCount(bits, 0));
+        questions.remove(index);
+        adjustNeighbourCounts(index, 1);
+    }
+    
+    /**
+     * Adds delta to the adjacent mine count of the EMPTY and NUMBER neighbours of a cell,
+     * switching them between EMPTY and NUMBER as their count reaches or leaves zero.
+     */
+    private void adjustNeighbourCounts(int index, int delta) {
+        for (int offset : neighbours.deltas(index)) {
+            int neighbour = index + offset;
+            short bits = cells[neighbour];
+            int type = PackedCell.type(bits);
+            if (type != PackedCell.EMPTY && type != PackedCell.NUMBER) {
+                continue;
             }
+            int count = PackedCell.count(bits) + delta;
+            bits = PackedCell.withType(bits, count > 0 ? PackedCell.NUMBER : PackedCell.EMPTY);
+            writeCell(neighbour, PackedCell.withCount(bits, count));
         }
     }
     
@@ -614,16 +1073,21 @@ public class GameBoard {
             return;
         }
         
-        Cell cell = cells[row][col];
+        int index = row * cols + col;
+        int state = PackedCell.state(cells[index]);
         
         // Can only flag/unflag hidden cells
-        if (cell.isHidden() || cell.isFlagged()) {
-            cell.toggleFlag();
+        if (state == PackedCell.HIDDEN) {
+            writeCell(index, PackedCell.withState(cells[index], PackedCell.FLAGGED));
+        } else if (state == PackedCell.FLAGGED) {
+            writeCell(index, PackedCell.withState(cells[index], PackedCell.HIDDEN));
         }
     }
     
     /**
      * Gets the cell at the specified position.
+     * The returned Cell is a view created on demand over the packed board state;
+     * changes made through it are written straight to the board.
      * 
      * @param row The row index
      * @param col The column index
@@ -633,7 +1097,7 @@ public class GameBoard {
         if (row < 0 || row >= rows || col < 0 || col >= cols) {
             return null;
         }
-        return cells[row][col];
+        return CellFactory.createCellView(this, cells, row * cols + col);
     }
     
     /**
@@ -654,6 +1118,34 @@ public class GameBoard {
         return cols;
     }
     
+    /**
+     * Gets the neighbourhood rules of this board.
+     * 
+     * @return The topology
+     */
+    public Topology getTopology() {
+        return topology;
+    }
+    
+    /**
+     * Gets the precomputed neighbour table of this board.
+     * 
+     * @return The neighbour table
+     */
+    public NeighbourTable getNeighbourTable() {
+        return neighbours;
+    }
+
+    /**
+     * Gets the packed cell array itself, for solvers and generators in this package that
+     * scan the whole board. Callers must not write to it; writes bypass the counters.
+     *
+     * @return The packed cells, row-major
+     */
+    short[] packedCells() {
+        return cells;
+    }
+    
     /**
      * Gets the total number of mines on this board.
      * 
@@ -665,20 +1157,32 @@ public class GameBoard {
     
     /**
      * Checks if all non-mine cells have been revealed.
+     * Reads the live hidden-safe-cell counter, so this is O(1).
      * 
      * @return true if the game is won, false otherwise
      */
     public boolean isGameWon() {
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                Cell cell = cells[i][j];
-                // If it's not a mine and not revealed, game is not won
-                if (cell.getType() != Cell.CellType.MINE && !cell.isRevealed()) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return hiddenSafeCells == 0;
+    }
+    
+    /**
+     * Gets the "mines left" value for display: total mines minus flags placed and
+     * mines already revealed. O(1).
+     * 
+     * @return The mines left counter (negative if players over-flag)
+     */
+    public int getMinesLeft() {
+        return totalMines - flagsPlaced - revealedByType[PackedCell.MINE];
+    }
+    
+    /**
+     * Gets a read-only snapshot of the live board counters. O(1).
+     * 
+     * @return The current board statistics
+     */
+    public BoardStats getStats() {
+        return new BoardStats(hiddenSafeCells, flagsPlaced, unflaggedMines, getMinesLeft(),
+                revealedByType);
     }
     
     /**
@@ -686,17 +1190,10 @@ public class GameBoard {
      * This will reveal all hidden and flagged cells.
      */
     public void revealAllCells() {
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                Cell cell = cells[i][j];
-                // Reveal all cells regardless of their current state
-                // The reveal() method will only change HIDDEN to REVEALED,
-                // so we need to handle FLAGGED cells too
-                if (cell.isFlagged()) {
-                    cell.toggleFlag(); // Unflag first
-                }
-                cell.reveal(); // Then reveal
-            }
+        // Reveal all cells regardless of their current state,
+        // including FLAGGED cells (which are implicitly unflagged)
+        for (int i = 0; i < cells.length; i++) {
+            writeCell(i, PackedCell.withState(cells[i], PackedCell.REVEALED));
         }
     }
 }
@@ -14,9 +14,34 @@ public class GameHistory {
     private final String player2Name;
     private final int combinedScore;
     private final int remainingHearts; // Remaining shared lives
+    private final BoardSpec boardSpec; // Layout both boards were generated with
+    private final Long seed; // Generation seed, null for entries recorded before seeds were kept
+    private final NoGuessLayout noGuessLayout; // Picked no-guess boards, null for ordinary games
     
     public GameHistory(Game.Difficulty difficulty, LocalDate date, long durationSeconds,
                        String player1Name, String player2Name, int combinedScore, int remainingHearts) {
+        this(difficulty, date, durationSeconds, player1Name, player2Name, combinedScore, remainingHearts,
+             difficulty.getBoardSpec(), null);
+    }
+    
+    /**
+     * Constructs a history entry that also records how the boards were generated,
+     * so the same boards can be regenerated from the board spec and seed.
+     */
+    public GameHistory(Game.Difficulty difficulty, LocalDate date, long durationSeconds,
+                       String player1Name, String player2Name, int combinedScore, int remainingHearts,
+                       BoardSpec boardSpec, Long seed) {
+        this(difficulty, date, durationSeconds, player1Name, player2Name, combinedScore, remainingHearts,
+             boardSpec, seed, null);
+    }
+    
+    /**
+     * Constructs a history entry for a game that may have been played on no-guess boards,
+     * which are regenerated from the seed together with the picked layout.
+     */
+    public GameHistory(Game.Difficulty difficulty, LocalDate date, long durationSeconds,
+                       String player1Name, String player2Name, int combinedScore, int remainingHearts,
+                       BoardSpec boardSpec, Long seed, NoGuessLayout noGuessLayout) {
         this.difficulty = difficulty;
         this.date = date;
         this.durationSeconds = durationSeconds;
@@ -24,6 +49,9 @@ public class GameHistory {
         this.player2Name = player2Name;
         this.combinedScore = combinedScore;
         this.remainingHearts = remainingHearts;
+        this.boardSpec = boardSpec != null ? boardSpec : difficulty.getBoardSpec();
+        this.seed = seed;
+        this.noGuessLayout = noGuessLayout;
     }
     
     public Game.Difficulty getDifficulty() {
@@ -63,5 +91,49 @@ public class GameHistory {
     public int getRemainingHearts() {
         return remainingHearts;
     }
+    
+    public BoardSpec getBoardSpec() {
+        return boardSpec;
+    }
+    
+    public boolean hasSeed() {
+        return seed != null;
+    }
+    
+    /**
+     * Gets the seed the game's boards were generated from.
+     * 
+     * @return The seed, or null if the entry predates seed recording
+     */
+    public Long getSeed() {
+        return seed;
+    }
+    
+    public boolean isNoGuess() {
+        return noGuessLayout != null;
+    }
+    
+    /**
+     * Gets which no-guess boards the game was played on.
+     * 
+     * @return The layout, or null for a game on ordinary boards
+     */
+    public NoGuessLayout getNoGuessLayout() {
+        return noGuessLayout;
+    }
+    
+    /**
+     * Regenerates the boards the game was played on, exactly as they were generated.
+     * No-guess boards are rebuilt from their recorded layout, without a timed search.
+     * 
+     * @return The boards, without questions
+     * @throws IllegalStateException if the entry predates seed recording
+     */
+    public GeneratedBoards regenerateBoards() {
+        if (seed == null) {
+            throw new IllegalStateException("This game was recorded without a seed");
+        }
+        return noGuessLayout != null ? GeneratedBoards.rebuildNoGuess(boardSpec, seed, noGuessLayout)
+                                     : GeneratedBoards.generate(boardSpec, seed);
+    }
 }
-
@@ -44,7 +44,8 @@ public interface GameObserver {
      * @param row The row index of the revealed cell
      * @param col The column index of the revealed cell
      * @param player The player number (1 or 2) who revealed the cell
+     * @param changes Every cell whose state changed, including cascade reveals
      */
-    void onCellRevealed(int row, int col, int player);
+    void onCellRevealed(int row, int col, int player, RevealResult changes);
 }
 
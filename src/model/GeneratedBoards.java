@@ -0,0 +1,213 @@
+package model;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * The pair of gameboards for one game, generated from a board spec and a seed but not
+ * yet assigned questions. Generation is the expensive part of starting a game, so it
+ * can run ahead of time on a background thread (see {@code controller.BoardPool});
+ * questions are assigned when the game starts, so boards always use the current
+ * question list.
+ * <p>
+ * The seed fully determines both layouts and the question order: player 1's layout,
+ * player 2's layout and each board's question order use their own stream split off it.
+ * Because every board owns its stream, the boards can be generated in parallel and
+ * still come out the same as when generated one after the other.
+ * <p>
+ * {@link #generateNoGuess(BoardSpec, long, NoGuessGenerator)} makes boards that can be
+ * solved without guessing instead. Each board then starts with its starting cell
+ * already revealed, so the player begins from an opening rather than a first click.
+ * Such boards are not determined by the seed alone; their {@link NoGuessLayout} is
+ * needed to regenerate them (see {@link #rebuildNoGuess}).
+ *
+ * @author Team Sloth
+ */
+public class GeneratedBoards {
+
+    // Below this many cells, handing a board to another thread costs more than generating it
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    private final BoardSpec boardSpec;
+    private final long seed;
+    private final GameBoard player1Board;
+    private final GameBoard player2Board;
+
+    private final NoGuessLayout noGuessLayout; // null for ordinary boards
+
+    private GeneratedBoards(BoardSpec boardSpec, long seed, GameBoard player1Board, GameBoard player2Board,
+                            NoGuessLayout noGuessLayout) {
+        this.boardSpec = boardSpec;
+        this.seed = seed;
+        this.player1Board = player1Board;
+        this.player2Board = player2Board;
+        this.noGuessLayout = noGuessLayout;
+    }
+
+    /**
+     * Generates both boards for a game.
+     *
+     * @param boardSpec The layout of both boards
+     * @param seed The 64-bit generation seed
+     * @return The generated boards, without questions
+     */
+    public static GeneratedBoards generate(BoardSpec boardSpec, long seed) {
+        SplittableRandom[] streams = streams(seed);
+        GameBoard[] boards = generateBoards(boardSpec, ForkJoinPool.commonPool(), streams[0], streams[1]);
+        return new GeneratedBoards(boardSpec, seed, boards[0], boards[1], null);
+    }
+
+    /**
+     * Generates both boards for a game so that each can be solved by logic alone. Each
+     * board's starting cell is already revealed. A board the generator could not certify
+     * within its time budget is an ordinary board with its first click still to come.
+     * The result depends on the time budget, so {@link #getNoGuessLayout()} records which
+     * boards were picked.
+     *
+     * @param boardSpec The layout of both boards
+     * @param seed The 64-bit generation seed
+     * @param generator The generator to search for no-guess layouts with
+     * @return The generated boards, without questions
+     */
+    public static GeneratedBoards generateNoGuess(BoardSpec boardSpec, long seed, NoGuessGenerator generator) {
+        SplittableRandom[] streams = streams(seed);
+        // The generator searches in parallel itself, so the two boards are generated in turn
+        NoGuessGenerator.Result player1 = generator.generate(boardSpec, streams[0].nextLong());
+        NoGuessGenerator.Result player2 = generator.generate(boardSpec, streams[1].nextLong());
+        NoGuessLayout layout = new NoGuessLayout(player1.getCandidateSeed(), player1.isCertified(),
+                player2.getCandidateSeed(), player2.isCertified());
+        return new GeneratedBoards(boardSpec, seed, player1.getBoard(), player2.getBoard(), layout);
+    }
+
+    /**
+     * Regenerates the boards of a no-guess game exactly, without searching.
+     *
+     * @param boardSpec The layout of both boards
+     * @param seed The 64-bit generation seed of the game (it decides the question order)
+     * @param layout The boards picked when the game was generated
+     * @return The same boards as {@link #generateNoGuess} returned, without questions
+     */
+    public static GeneratedBoards rebuildNoGuess(BoardSpec boardSpec, long seed, NoGuessLayout layout) {
+        GameBoard player1Board = NoGuessGenerator.rebuild(boardSpec, layout.getCandidateSeed(1),
+                layout.isCertified(1)).getBoard();
+        GameBoard player2Board = NoGuessGenerator.rebuild(boardSpec, layout.getCandidateSeed(2),
+                layout.isCertified(2)).getBoard();
+        return new GeneratedBoards(boardSpec, seed, player1Board, player2Board, layout);
+    }
+
+    /**
+     * Generates one board per stream, concurrently on the given pool. The first board is
+     * generated on the calling thread while the others run on the pool, and each board
+     * only touches its own stream, so the result does not depend on scheduling.
+     * Small boards are generated sequentially.
+     *
+     * @param boardSpec The layout of every board
+     * @param pool The fork-join pool to generate on
+     * @param streams One random stream per board; each is used by a single thread only
+     * @return The generated boards, without questions, in stream order
+     */
+    public static GameBoard[] generateBoards(BoardSpec boardSpec, ForkJoinPool pool, SplittableRandom... streams) {
+        GameBoard[] boards = new GameBoard[streams.length];
+        if (streams.length < 2 || boardSpec.getCellCount() < PARALLEL_THRESHOLD) {
+            for (int i = 0; i < streams.length; i++) {
+                boards[i] = generateBoard(boardSpec, streams[i]);
+            }
+            return boards;
+        }
+
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[streams.length];
+        for (int i = 1; i < streams.length; i++) {
+            int board = i;
+            tasks[i] = pool.submit(() -> {
+                boards[board] = generateBoard(boardSpec, streams[board]);
+            });
+        }
+        boards[0] = generateBoard(boardSpec, streams[0]);
+        for (int i = 1; i < streams.length; i++) {
+            tasks[i].join(); // join() also publishes the board written by the task
+        }
+        return boards;
+    }
+
+    private static GameBoard generateBoard(BoardSpec boardSpec, SplittableRandom random) {
+        GameBoard board = new GameBoard(boardSpec.getRows(), boardSpec.getCols(), boardSpec.getTopology());
+        board.allocateCells(boardSpec, List.of(), random);
+        return board;
+    }
+
+    /**
+     * Derives the four independent streams of a seed: the layouts of player 1 and
+     * player 2, then the question orders of player 1 and player 2.
+     */
+    private static SplittableRandom[] streams(long seed) {
+        SplittableRandom root = new SplittableRandom(seed);
+        return new SplittableRandom[] { root.split(), root.split(), root.split(), root.split() };
+    }
+
+    /**
+     * Assigns questions to the question cells of both boards.
+     *
+     * @param questions List of questions to assign
+     */
+    void assignQuestions(List<Question> questions) {
+        SplittableRandom[] streams = streams(seed);
+        player1Board.assignQuestions(questions, streams[2]);
+        player2Board.assignQuestions(questions, streams[3]);
+    }
+
+    /**
+     * Gets the layout both boards were generated with.
+     *
+     * @return The board spec
+     */
+    public BoardSpec getBoardSpec() {
+        return boardSpec;
+    }
+
+    /**
+     * Gets the seed both boards were generated from.
+     *
+     * @return The 64-bit generation seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Checks if the boards were generated to be solvable without guessing.
+     *
+     * @return true for boards from {@link #generateNoGuess}, false for ordinary boards
+     */
+    public boolean isNoGuess() {
+        return noGuessLayout != null;
+    }
+
+    /**
+     * Gets which no-guess boards were picked, needed with the seed to regenerate them.
+     *
+     * @return The layout, or null for ordinary boards
+     */
+    public NoGuessLayout getNoGuessLayout() {
+        return noGuessLayout;
+    }
+
+    /**
+     * Gets player 1's board.
+     *
+     * @return Player 1's gameboard
+     */
+    public GameBoard getPlayer1Board() {
+        return player1Board;
+    }
+
+    /**
+     * Gets player 2's board.
+     *
+     * @return Player 2's gameboard
+     */
+    public GameBoard getPlayer2Board() {
+        return player2Board;
+    }
+}
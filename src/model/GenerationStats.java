@@ -0,0 +1,99 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Running statistics of one kind of board generation (see {@link NoGuessGenerator}): how
+ * many candidate layouts were tried, how many were accepted, and how long generations took.
+ * Times are kept for the most recent {@value #SAMPLES} generations, so percentiles follow
+ * current behaviour without growing memory.
+ *
+ * @author Team Sloth
+ */
+public class GenerationStats {
+
+    /** Number of most recent generation times kept for percentiles */
+    public static final int SAMPLES = 1024;
+
+    private final long[] times = new long[SAMPLES];
+    private int samples;
+    private long generations;
+    private long certifiedGenerations;
+    private long candidates;
+    private long acceptedCandidates;
+
+    /**
+     * Records one generation.
+     *
+     * @param nanos Wall-clock time of the generation
+     * @param candidates Candidate layouts evaluated
+     * @param accepted Candidates that passed the check (several may pass when run in parallel)
+     * @param certified true if the generation returned a checked board, false if it fell back
+     */
+    synchronized void record(long nanos, int candidates, int accepted, boolean certified) {
+        times[(int) (generations % SAMPLES)] = nanos;
+        samples = Math.min(SAMPLES, samples + 1);
+        generations++;
+        if (certified) {
+            certifiedGenerations++;
+        }
+        this.candidates += candidates;
+        this.acceptedCandidates += accepted;
+    }
+
+    /**
+     * Gets the number of generations recorded.
+     *
+     * @return The generation count
+     */
+    public synchronized long getGenerations() {
+        return generations;
+    }
+
+    /**
+     * Gets the number of generations that returned a checked board rather than a fallback.
+     *
+     * @return The certified generation count
+     */
+    public synchronized long getCertifiedGenerations() {
+        return certifiedGenerations;
+    }
+
+    /**
+     * Gets the number of candidate layouts evaluated over all generations.
+     *
+     * @return The candidate count
+     */
+    public synchronized long getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * Gets the fraction of candidate layouts that passed the check.
+     *
+     * @return The acceptance rate (0.0 to 1.0), or 0.0 if nothing was evaluated yet
+     */
+    public synchronized double getAcceptanceRate() {
+        return candidates == 0 ? 0.0 : (double) acceptedCandidates / candidates;
+    }
+
+    /**
+     * Gets a percentile of the recent generation times (nearest-rank method).
+     *
+     * @param percentile The percentile (0 to 100), e.g. 50 for the median or 99
+     * @return The generation time in milliseconds, or 0.0 if nothing was recorded yet
+     * @throws IllegalArgumentException if the percentile is out of range
+     */
+    public synchronized double getTimePercentileMillis(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (samples == 0) {
+            return 0.0;
+        }
+        long[] sorted = Arrays.copyOf(times, samples);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * samples);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+}
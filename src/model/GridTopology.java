@@ -0,0 +1,53 @@
+package model;
+
+/**
+ * The square grid: every cell touches the up to eight cells around it. With wrapping,
+ * cells on an edge also touch the cells on the opposite edge (a torus), so every cell
+ * has exactly eight neighbours.
+ *
+ * @author Team Sloth
+ */
+class GridTopology extends Topology {
+
+    private final boolean wrap;
+
+    GridTopology(boolean wrap) {
+        super(wrap ? "torus" : "grid");
+        this.wrap = wrap;
+    }
+
+    @Override
+    public int getMaxDegree() {
+        return 8;
+    }
+
+    /**
+     * With wrapping, a side shorter than 3 would reach the same cell from both directions.
+     */
+    @Override
+    public int getMinSize() {
+        return wrap ? 3 : 1;
+    }
+
+    @Override
+    protected int neighbours(int rows, int cols, int row, int col, int[] out) {
+        int count = 0;
+        for (int i = row - 1; i <= row + 1; i++) {
+            for (int j = col - 1; j <= col + 1; j++) {
+                if (i == row && j == col) {
+                    continue;
+                }
+                int r = i;
+                int c = j;
+                if (wrap) {
+                    r = (r + rows) % rows;
+                    c = (c + cols) % cols;
+                } else if (r < 0 || r >= rows || c < 0 || c >= cols) {
+                    continue;
+                }
+                out[count++] = r * cols + c;
+            }
+        }
+        return count;
+    }
+}
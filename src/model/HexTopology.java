@@ -0,0 +1,48 @@
+package model;
+
+/**
+ * A hexagonal grid stored in rows, with every odd row shifted half a cell to the right.
+ * Each cell touches two cells in its own row and two in each adjacent row; which two
+ * depends on whether the row is shifted.
+ *
+ * @author Team Sloth
+ */
+class HexTopology extends Topology {
+
+    // Column offsets of the neighbours in the row above and below, for even and odd rows
+    private static final int[] EVEN_ROW_OFFSETS = { -1, 0 };
+    private static final int[] ODD_ROW_OFFSETS = { 0, 1 };
+
+    HexTopology() {
+        super("hex");
+    }
+
+    @Override
+    public int getMaxDegree() {
+        return 6;
+    }
+
+    @Override
+    protected int neighbours(int rows, int cols, int row, int col, int[] out) {
+        int count = 0;
+        int[] offsets = (row & 1) == 0 ? EVEN_ROW_OFFSETS : ODD_ROW_OFFSETS;
+        for (int i = row - 1; i <= row + 1; i += 2) {
+            if (i < 0 || i >= rows) {
+                continue;
+            }
+            for (int offset : offsets) {
+                int j = col + offset;
+                if (j >= 0 && j < cols) {
+                    out[count++] = i * cols + j;
+                }
+            }
+        }
+        if (col > 0) {
+            out[count++] = row * cols + col - 1;
+        }
+        if (col + 1 < cols) {
+            out[count++] = row * cols + col + 1;
+        }
+        return count;
+    }
+}
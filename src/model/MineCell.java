@@ -13,6 +13,17 @@ public class MineCell extends Cell {
     public MineCell() {
         super();
     }
+
+    /**
+     * Constructs a MineCell view over a packed backing array.
+     * 
+     * @param board The board that owns the backing array
+     * @param data The packed backing array
+     * @param index The index of this cell in the backing array
+     */
+    MineCell(GameBoard board, short[] data, int index) {
+        super(board, data, index);
+    }
     
     @Override
     public CellType getType() {
@@ -0,0 +1,161 @@
+package model;
+
+/**
+ * Bulk 8-neighbour counting over bit planes, for boards with millions of cells.
+ * <p>
+ * A bit plane stores one bit per cell, row-major, with every row padded to whole
+ * {@code long} words (see {@link #wordsPerRow(int)}). {@link #count(long[], int, int, byte[])}
+ * counts, for every cell, how many of its eight neighbours are set, processing 64 cells per
+ * step: the eight shifted neighbour words are added into a 4-bit bit-sliced counter (SWAR,
+ * "SIMD within a register"), so the work is a few dozen word operations per 64 cells
+ * instead of eight bounds-checked lookups per cell. {@link #countScalar(long[], int, int, byte[])}
+ * is the plain per-cell reference implementation.
+ * <p>
+ * The same routine counts mines (for generation) and hidden cells (for solvers); only
+ * the plane differs.
+ *
+ * @author Team Sloth
+ */
+public final class NeighbourCounter {
+
+    private NeighbourCounter() {
+    }
+
+    /**
+     * Gets the number of {@code long} words per row of a bit plane.
+     *
+     * @param cols Number of columns
+     * @return ceil(cols / 64)
+     */
+    public static int wordsPerRow(int cols) {
+        return (cols + 63) >>> 6;
+    }
+
+    /**
+     * Creates an empty bit plane.
+     *
+     * @param rows Number of rows
+     * @param cols Number of columns
+     * @return A zeroed plane of rows * wordsPerRow(cols) words
+     */
+    public static long[] newPlane(int rows, int cols) {
+        return new long[rows * wordsPerRow(cols)];
+    }
+
+    /**
+     * Sets the bit of one cell in a bit plane.
+     *
+     * @param plane The bit plane
+     * @param cols Number of columns
+     * @param row The row index
+     * @param col The column index
+     */
+    public static void set(long[] plane, int cols, int row, int col) {
+        plane[row * wordsPerRow(cols) + (col >>> 6)] |= 1L << col;
+    }
+
+    /**
+     * Checks the bit of one cell in a bit plane.
+     *
+     * @param plane The bit plane
+     * @param cols Number of columns
+     * @param row The row index
+     * @param col The column index
+     * @return true if the cell's bit is set
+     */
+    public static boolean get(long[] plane, int cols, int row, int col) {
+        return (plane[row * wordsPerRow(cols) + (col >>> 6)] & (1L << col)) != 0;
+    }
+
+    /**
+     * Counts the set neighbours of every cell, 64 cells at a time.
+     *
+     * @param plane The bit plane (padding bits must be zero)
+     * @param rows Number of rows
+     * @param cols Number of columns
+     * @param counts Output, row-major, one count (0-8) per cell; at least rows * cols long
+     */
+    public static void count(long[] plane, int rows, int cols, byte[] counts) {
+        int words = wordsPerRow(cols);
+        long[] sum = new long[4]; // Bit-sliced counter: bit b of sum[k] is bit k of cell b's count
+        for (int r = 0; r < rows; r++) {
+            for (int w = 0; w < words; w++) {
+                sum[0] = sum[1] = sum[2] = sum[3] = 0;
+                // Rows above and below contribute left, centre and right neighbours;
+                // the cell's own row contributes only left and right
+                if (r > 0) {
+                    addRow(plane, (r - 1) * words, w, words, true, sum);
+                }
+                if (r + 1 < rows) {
+                    addRow(plane, (r + 1) * words, w, words, true, sum);
+                }
+                addRow(plane, r * words, w, words, false, sum);
+
+                // Unpack the 64 counts of this word
+                int col = w << 6;
+                int end = Math.min(64, cols - col);
+                int out = r * cols + col;
+                long s0 = sum[0], s1 = sum[1], s2 = sum[2], s3 = sum[3];
+                for (int b = 0; b < end; b++) {
+                    counts[out + b] = (byte) (((s0 >>> b) & 1) | (((s1 >>> b) & 1) << 1)
+                            | (((s2 >>> b) & 1) << 2) | (((s3 >>> b) & 1) << 3));
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the left and right neighbours (and optionally the centre) from one row word
+     * into the bit-sliced counter. Bits shifted across word boundaries come from the
+     * neighbouring words of the same row.
+     */
+    private static void addRow(long[] plane, int rowBase, int w, int words, boolean centre, long[] sum) {
+        long x = plane[rowBase + w];
+        long prev = w > 0 ? plane[rowBase + w - 1] : 0;
+        long next = w + 1 < words ? plane[rowBase + w + 1] : 0;
+        if (centre) {
+            add(sum, x);
+        }
+        add(sum, (x << 1) | (prev >>> 63)); // Left neighbour (column - 1) moved onto each bit
+        add(sum, (x >>> 1) | (next << 63)); // Right neighbour (column + 1) moved onto each bit
+    }
+
+    /**
+     * Adds one input word to the bit-sliced counter with a ripple-carry across its four slices.
+     */
+    private static void add(long[] sum, long in) {
+        long carry = sum[0] & in;
+        sum[0] ^= in;
+        long t = sum[1] & carry;
+        sum[1] ^= carry;
+        carry = t;
+        t = sum[2] & carry;
+        sum[2] ^= carry;
+        sum[3] |= t; // At most 8 inputs, so the fourth slice never carries
+    }
+
+    /**
+     * Counts the set neighbours of every cell one cell at a time. Reference implementation
+     * for {@link #count(long[], int, int, byte[])}.
+     *
+     * @param plane The bit plane
+     * @param rows Number of rows
+     * @param cols Number of columns
+     * @param counts Output, row-major, one count (0-8) per cell; at least rows * cols long
+     */
+    public static void countScalar(long[] plane, int rows, int cols, byte[] counts) {
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int count = 0;
+                for (int i = Math.max(0, r - 1); i <= Math.min(rows - 1, r + 1); i++) {
+                    for (int j = Math.max(0, c - 1); j <= Math.min(cols - 1, c + 1); j++) {
+                        if ((i != r || j != c) && get(plane, cols, i, j)) {
+                            count++;
+                        }
+                    }
+                }
+                counts[r * cols + c] = (byte) count;
+            }
+        }
+    }
+}
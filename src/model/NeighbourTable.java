@@ -0,0 +1,112 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The precomputed neighbours of every cell of one board size under a {@link Topology}.
+ * <p>
+ * Neighbours are stored as index deltas: the neighbours of cell {@code i} are
+ * {@code i + d} for every {@code d} in {@link #deltas(int)}. Almost all cells share the
+ * same deltas (every interior grid cell uses the same eight), so the table keeps one
+ * {@code int[]} per distinct delta list and one byte per cell naming its list. Hot loops
+ * iterate that array with no bounds checks or geometry, and the table costs one byte
+ * per cell rather than one int per neighbour.
+ *
+ * @author Team Sloth
+ */
+public final class NeighbourTable {
+
+    private final int rows;
+    private final int cols;
+    private final byte[] cellClass;
+    private final int[][] classDeltas;
+
+    /**
+     * Builds the table by asking the topology for the neighbours of every cell.
+     */
+    NeighbourTable(Topology topology, int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cellClass = new byte[rows * cols];
+
+        Map<List<Integer>, Integer> classes = new HashMap<>();
+        List<int[]> deltaLists = new ArrayList<>();
+        int[] buffer = new int[topology.getMaxDegree()];
+        int[] previous = null;
+        int previousClass = -1;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int index = row * cols + col;
+                int count = topology.neighbours(rows, cols, row, col, buffer);
+                for (int k = 0; k < count; k++) {
+                    buffer[k] -= index;
+                }
+                // Runs of cells (e.g. the interior of a row) share deltas; skip the lookup for them
+                if (previous == null || !Arrays.equals(previous, 0, previous.length, buffer, 0, count)) {
+                    int[] deltas = Arrays.copyOf(buffer, count);
+                    List<Integer> key = new ArrayList<>(count);
+                    for (int delta : deltas) {
+                        key.add(delta);
+                    }
+                    Integer id = classes.get(key);
+                    if (id == null) {
+                        if (deltaLists.size() > 255) {
+                            throw new IllegalStateException("Topology " + topology
+                                    + " has too many distinct neighbourhoods");
+                        }
+                        id = deltaLists.size();
+                        classes.put(key, id);
+                        deltaLists.add(deltas);
+                    }
+                    previous = deltaLists.get(id);
+                    previousClass = id;
+                }
+                cellClass[index] = (byte) previousClass;
+            }
+        }
+        this.classDeltas = deltaLists.toArray(new int[0][]);
+    }
+
+    /**
+     * Gets the neighbour deltas of a cell. The returned array is shared and must not be
+     * modified.
+     *
+     * @param index The row-major cell index
+     * @return The deltas to add to the index to get each neighbour
+     */
+    public int[] deltas(int index) {
+        return classDeltas[cellClass[index] & 0xFF];
+    }
+
+    /**
+     * Gets the number of neighbours of a cell.
+     *
+     * @param index The row-major cell index
+     * @return The number of neighbours
+     */
+    public int degree(int index) {
+        return deltas(index).length;
+    }
+
+    /**
+     * Gets the number of rows this table was built for.
+     *
+     * @return The number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns this table was built for.
+     *
+     * @return The number of columns
+     */
+    public int getCols() {
+        return cols;
+    }
+}
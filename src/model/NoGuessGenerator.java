@@ -0,0 +1,563 @@
+package model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates boards that can be solved by pure logic, without guessing, from a known
+ * starting cell.
+ * <p>
+ * Candidate layouts are generated like ordinary boards and checked by a logic solver that
+ * plays from the starting cell (a cell with no adjacent mines, nearest the centre) using
+ * only what a player sees: single-number deductions, the subset rule between overlapping
+ * numbers, and the total mine count. A candidate is accepted if the solver reveals every
+ * safe cell. Candidates are evaluated in parallel on a fork-join pool and the search stops
+ * at the first accepted one; the returned board has its starting cell already revealed.
+ * <p>
+ * Candidate {@code k} of a seed always has the same layout, and the lowest accepted
+ * candidate is returned, so a seed gives the same board however many threads searched.
+ * If no candidate is accepted within the time budget, an ordinary board is returned
+ * instead and the result is marked as not certified.
+ * <p>
+ * Which candidate the search accepts depends on the time budget, so a seed alone does
+ * not determine the board. Every result is determined by its own candidate seed and
+ * whether it was certified, though, and {@link #rebuild(BoardSpec, long, boolean)}
+ * regenerates it exactly, without searching.
+ *
+ * @author Team Sloth
+ */
+public class NoGuessGenerator {
+
+    // Spreads candidate numbers over the seed space; SplittableRandom mixes the sum further
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final ForkJoinPool pool;
+    private final long timeBudgetNanos;
+    private final Map<BoardSpec, GenerationStats> stats;
+
+    /**
+     * A generated board and how it was obtained.
+     */
+    public static final class Result {
+        private final GameBoard board;
+        private final long candidateSeed;
+        private final int startRow;
+        private final int startCol;
+        private final boolean certified;
+        private final int candidates;
+
+        private Result(GameBoard board, long candidateSeed, int startRow, int startCol, boolean certified,
+                       int candidates) {
+            this.board = board;
+            this.candidateSeed = candidateSeed;
+            this.startRow = startRow;
+            this.startCol = startCol;
+            this.certified = certified;
+            this.candidates = candidates;
+        }
+
+        /**
+         * Gets the generated board, without questions.
+         *
+         * @return The board; its starting cell is revealed if it is certified
+         */
+        public GameBoard getBoard() {
+            return board;
+        }
+
+        /**
+         * Gets the seed of the returned candidate, from which
+         * {@link #rebuild(BoardSpec, long, boolean)} regenerates exactly this board.
+         *
+         * @return The candidate seed
+         */
+        public long getCandidateSeed() {
+            return candidateSeed;
+        }
+
+        /**
+         * Gets the row of the starting cell.
+         *
+         * @return The row, or -1 for a fallback board
+         */
+        public int getStartRow() {
+            return startRow;
+        }
+
+        /**
+         * Gets the column of the starting cell.
+         *
+         * @return The column, or -1 for a fallback board
+         */
+        public int getStartCol() {
+            return startCol;
+        }
+
+        /**
+         * Checks if the board was verified to be solvable without guessing.
+         *
+         * @return true for a no-guess board, false for the fallback after the time budget ran out
+         */
+        public boolean isCertified() {
+            return certified;
+        }
+
+        /**
+         * Gets the number of candidate layouts evaluated.
+         *
+         * @return The candidate count
+         */
+        public int getCandidates() {
+            return candidates;
+        }
+    }
+
+    /**
+     * Constructs a new NoGuessGenerator.
+     *
+     * @param pool The pool to evaluate candidates on
+     * @param timeBudgetMillis Time after which the search gives up and falls back to an ordinary board
+     */
+    public NoGuessGenerator(ForkJoinPool pool, long timeBudgetMillis) {
+        if (timeBudgetMillis < 0) {
+            throw new IllegalArgumentException("Time budget cannot be negative: " + timeBudgetMillis);
+        }
+        this.pool = pool;
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+        this.stats = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Generates a board that can be solved without guessing.
+     *
+     * @param spec The layout of the board
+     * @param seed The 64-bit generation seed
+     * @return The board and its starting cell, or an uncertified fallback board
+     */
+    public Result generate(BoardSpec spec, long seed) {
+        long started = System.nanoTime();
+        long deadline = started + timeBudgetNanos;
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger evaluated = new AtomicInteger();
+        AtomicInteger accepted = new AtomicInteger();
+        Object lock = new Object();
+        int[] best = { Integer.MAX_VALUE, -1 }; // Lowest accepted candidate and its starting cell
+        GameBoard[] bestBoard = new GameBoard[1];
+
+        Runnable search = () -> {
+            while (System.nanoTime() - deadline < 0) {
+                int k = next.getAndIncrement();
+                synchronized (lock) {
+                    // Every lower candidate was claimed before this one, so none can be lost
+                    if (k > best[0]) {
+                        return;
+                    }
+                }
+                GameBoard board = candidate(spec, seed, k);
+                int start = certify(board);
+                evaluated.incrementAndGet();
+                if (start >= 0) {
+                    accepted.incrementAndGet();
+                    synchronized (lock) {
+                        if (k < best[0]) {
+                            best[0] = k;
+                            best[1] = start;
+                            bestBoard[0] = board;
+                        }
+                    }
+                    return;
+                }
+            }
+        };
+        int workers = Math.max(1, pool.getParallelism());
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[workers];
+        for (int i = 0; i < workers; i++) {
+            tasks[i] = pool.submit(search);
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+
+        Result result;
+        synchronized (lock) {
+            if (bestBoard[0] != null) {
+                result = open(bestBoard[0], candidateSeed(seed, best[0]), best[1], evaluated.get());
+            } else {
+                result = open(candidate(spec, seed), seed, -1, evaluated.get());
+            }
+        }
+        statsFor(spec).record(System.nanoTime() - started, evaluated.get(), accepted.get(),
+                result.isCertified());
+        return result;
+    }
+
+    /**
+     * Regenerates the board of an earlier result from its candidate seed, without
+     * searching or a time budget: the same layout, and the same starting cell revealed
+     * if it was certified.
+     *
+     * @param spec The layout of the board
+     * @param candidateSeed The seed from {@link Result#getCandidateSeed()}
+     * @param certified {@link Result#isCertified()} of the earlier result
+     * @return The board and its starting cell, as first generated
+     * @throws IllegalArgumentException if the result was certified but this candidate
+     *         cannot be (a seed from another spec)
+     */
+    public static Result rebuild(BoardSpec spec, long candidateSeed, boolean certified) {
+        GameBoard board = candidate(spec, candidateSeed);
+        if (!certified) {
+            return open(board, candidateSeed, -1, 1);
+        }
+        int start = certify(board);
+        if (start < 0) {
+            throw new IllegalArgumentException("Candidate " + candidateSeed + " is not a no-guess board for " + spec);
+        }
+        return open(board, candidateSeed, start, 1);
+    }
+
+    /**
+     * Reveals the starting cell of a certified candidate and wraps it as a result.
+     *
+     * @param start The starting cell from {@link #certify(GameBoard)}, or -1 if rejected
+     */
+    private static Result open(GameBoard board, long candidateSeed, int start, int candidates) {
+        if (start < 0) {
+            return new Result(board, candidateSeed, -1, -1, false, candidates);
+        }
+        int row = start / board.getCols();
+        int col = start % board.getCols();
+        board.revealCell(row, col); // No mines nearby, so the first click moves none
+        return new Result(board, candidateSeed, row, col, true, candidates);
+    }
+
+    private static long candidateSeed(long seed, int k) {
+        return seed + k * GOLDEN_GAMMA;
+    }
+
+    private static GameBoard candidate(BoardSpec spec, long seed, int k) {
+        return candidate(spec, candidateSeed(seed, k));
+    }
+
+    private static GameBoard candidate(BoardSpec spec, long candidateSeed) {
+        GameBoard board = new GameBoard(spec.getRows(), spec.getCols(), spec.getTopology());
+        board.allocateCells(spec, List.of(), new SplittableRandom(candidateSeed));
+        return board;
+    }
+
+    /**
+     * Picks the starting cell of a candidate and checks that it can be solved from there.
+     *
+     * @return The index of the starting cell, or -1 if the candidate is rejected
+     */
+    static int certify(GameBoard board) {
+        short[] cells = board.packedCells();
+        int rows = board.getRows();
+        int cols = board.getCols();
+        // Nearest cascading cell to the centre; cascading cells never border a mine
+        int start = -1;
+        long bestDistance = Long.MAX_VALUE;
+        for (int index = 0; index < cells.length; index++) {
+            if (!PackedCell.cascades(PackedCell.type(cells[index]))) {
+                continue;
+            }
+            long dr = 2L * (index / cols) - (rows - 1);
+            long dc = 2L * (index % cols) - (cols - 1);
+            long distance = dr * dr + dc * dc;
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                start = index;
+            }
+        }
+        if (start < 0) {
+            return -1;
+        }
+        Certifier certifier = new Certifier(cells, board.getNeighbourTable(),
+                board.getTopology().getMaxDegree(), board.getTotalMines());
+        return certifier.solve(start) ? start : -1;
+    }
+
+    /**
+     * Gets the statistics of every generation for a spec so far.
+     *
+     * @param spec The board spec (one per difficulty)
+     * @return The acceptance rate and generation times for that spec
+     */
+    public GenerationStats getStats(BoardSpec spec) {
+        return statsFor(spec);
+    }
+
+    private GenerationStats statsFor(BoardSpec spec) {
+        return stats.computeIfAbsent(spec, key -> new GenerationStats());
+    }
+
+    /**
+     * Plays a board by pure logic, knowing only what a player would see. Number cells
+     * whose surroundings changed are queued and rechecked with the single-number rule; when
+     * the queue runs dry, the subset rule and then the global mine count are tried.
+     */
+    private static final class Certifier {
+        private static final byte UNKNOWN = 0;
+        private static final byte SAFE = 1;
+        private static final byte MINE = 2;
+
+        private final short[] cells;
+        private final NeighbourTable neighbours;
+        private final byte[] known;
+        private final int[] queue;
+        private final boolean[] queued;
+        private final int[] stack;
+        private final int[] first;
+        private final int[] second;
+        private int head;
+        private int pending;
+        private int unknownCells;
+        private int unknownMines;
+        private int hiddenSafe;
+
+        Certifier(short[] cells, NeighbourTable neighbours, int maxDegree, int totalMines) {
+            this.cells = cells;
+            this.neighbours = neighbours;
+            this.known = new byte[cells.length];
+            this.queue = new int[cells.length];
+            this.queued = new boolean[cells.length];
+            this.stack = new int[cells.length];
+            this.first = new int[maxDegree];
+            this.second = new int[maxDegree];
+            this.unknownCells = cells.length;
+            this.unknownMines = totalMines;
+            this.hiddenSafe = cells.length - totalMines;
+        }
+
+        boolean solve(int start) {
+            open(start);
+            while (true) {
+                while (pending > 0) {
+                    int index = queue[head];
+                    head = (head + 1) % queue.length;
+                    pending--;
+                    queued[index] = false;
+                    applyCountRule(index);
+                }
+                if (hiddenSafe == 0) {
+                    return true;
+                }
+                if (!applySubsetRule() && !applyGlobalRule()) {
+                    return false;
+                }
+            }
+        }
+
+        private boolean isNumber(int index) {
+            return known[index] == SAFE && PackedCell.type(cells[index]) == PackedCell.NUMBER;
+        }
+
+        /**
+         * Queues the revealed numbers around a cell whose state just became known.
+         */
+        private void touched(int index) {
+            enqueue(index);
+            for (int delta : neighbours.deltas(index)) {
+                enqueue(index + delta);
+            }
+        }
+
+        private void enqueue(int index) {
+            if (!queued[index] && isNumber(index)) {
+                queued[index] = true;
+                queue[(head + pending) % queue.length] = index;
+                pending++;
+            }
+        }
+
+        /**
+         * Reveals a safe cell, opening cascades the way the board does.
+         */
+        private void open(int index) {
+            if (known[index] != UNKNOWN) {
+                return;
+            }
+            int top = 0;
+            known[index] = SAFE;
+            stack[top++] = index;
+            while (top > 0) {
+                int cell = stack[--top];
+                unknownCells--;
+                hiddenSafe--;
+                touched(cell);
+                if (!PackedCell.cascades(PackedCell.type(cells[cell]))) {
+                    continue;
+                }
+                for (int delta : neighbours.deltas(cell)) {
+                    int neighbour = cell + delta;
+                    if (known[neighbour] == UNKNOWN) {
+                        known[neighbour] = SAFE;
+                        stack[top++] = neighbour;
+                    }
+                }
+            }
+        }
+
+        private void markMine(int index) {
+            known[index] = MINE;
+            unknownCells--;
+            unknownMines--;
+            touched(index);
+        }
+
+        /**
+         * Single-number rule: a satisfied number clears its unknown neighbours, and a number
+         * with exactly as many unknown neighbours as missing mines marks them all.
+         */
+        private void applyCountRule(int index) {
+            int unknown = 0;
+            int mines = 0;
+            for (int delta : neighbours.deltas(index)) {
+                byte state = known[index + delta];
+                if (state == UNKNOWN) {
+                    unknown++;
+                } else if (state == MINE) {
+                    mines++;
+                }
+            }
+            int missing = PackedCell.count(cells[index]) - mines;
+            if (unknown == 0 || (missing != 0 && missing != unknown)) {
+                return;
+            }
+            for (int delta : neighbours.deltas(index)) {
+                int neighbour = index + delta;
+                if (known[neighbour] == UNKNOWN) {
+                    if (missing == 0) {
+                        open(neighbour);
+                    } else {
+                        markMine(neighbour);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Subset rule: if number A's unknown neighbours are all neighbours of number B, the
+         * cells only B sees hold exactly B's missing mines minus A's. Stops at the first
+         * deduction so the cheaper rule runs again.
+         */
+        private boolean applySubsetRule() {
+            int[] a = first;
+            int[] b = second;
+            for (int numberA = 0; numberA < cells.length; numberA++) {
+                if (!isNumber(numberA)) {
+                    continue;
+                }
+                int missingA = PackedCell.count(cells[numberA]) - unknownNeighbours(numberA, a);
+                int sizeA = a.length - countFree(a);
+                if (sizeA == 0) {
+                    continue;
+                }
+                for (int k = 0; k < sizeA; k++) {
+                    for (int delta : neighbours.deltas(a[k])) {
+                        int numberB = a[k] + delta;
+                        if (numberB == numberA || !isNumber(numberB)) {
+                            continue;
+                        }
+                        int missingB = PackedCell.count(cells[numberB]) - unknownNeighbours(numberB, b);
+                        int sizeB = b.length - countFree(b);
+                        if (sizeB <= sizeA || !containsAll(b, sizeB, a, sizeA)) {
+                            continue;
+                        }
+                        int missing = missingB - missingA;
+                        int only = sizeB - sizeA;
+                        if (missing != 0 && missing != only) {
+                            continue;
+                        }
+                        for (int j = 0; j < sizeB; j++) {
+                            if (!contains(a, sizeA, b[j])) {
+                                if (missing == 0) {
+                                    open(b[j]);
+                                } else {
+                                    markMine(b[j]);
+                                }
+                            }
+                        }
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Lists a number's unknown neighbours into {@code out} (the rest filled with -1).
+         *
+         * @return The number of known mines around it
+         */
+        private int unknownNeighbours(int index, int[] out) {
+            int size = 0;
+            int mines = 0;
+            for (int delta : neighbours.deltas(index)) {
+                int neighbour = index + delta;
+                if (known[neighbour] == UNKNOWN) {
+                    out[size++] = neighbour;
+                } else if (known[neighbour] == MINE) {
+                    mines++;
+                }
+            }
+            for (int i = size; i < out.length; i++) {
+                out[i] = -1;
+            }
+            return mines;
+        }
+
+        private static int countFree(int[] list) {
+            int free = 0;
+            for (int value : list) {
+                if (value < 0) {
+                    free++;
+                }
+            }
+            return free;
+        }
+
+        private static boolean contains(int[] list, int size, int value) {
+            for (int i = 0; i < size; i++) {
+                if (list[i] == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean containsAll(int[] outer, int outerSize, int[] inner, int innerSize) {
+            for (int i = 0; i < innerSize; i++) {
+                if (!contains(outer, outerSize, inner[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Global rule: once every mine is known the rest is safe, and if the unknown cells
+         * are exactly the missing mines they are all mines.
+         */
+        private boolean applyGlobalRule() {
+            if (unknownCells == 0 || (unknownMines != 0 && unknownMines != unknownCells)) {
+                return false;
+            }
+            boolean safe = unknownMines == 0;
+            for (int index = 0; index < cells.length; index++) {
+                if (known[index] == UNKNOWN) {
+                    if (safe) {
+                        open(index);
+                    } else {
+                        markMine(index);
+                    }
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package model;
+
+/**
+ * Identifies the exact boards of a no-guess game: for each player, the seed of the
+ * candidate {@link NoGuessGenerator} returned and whether it was certified. The game seed
+ * alone is not enough, since which candidate the search accepts depends on its time
+ * budget; with this, {@link GeneratedBoards#rebuildNoGuess} regenerates the boards
+ * without searching.
+ *
+ * @author Team Sloth
+ */
+public final class NoGuessLayout {
+
+    private final long player1Seed;
+    private final boolean player1Certified;
+    private final long player2Seed;
+    private final boolean player2Certified;
+
+    /**
+     * Constructs a new NoGuessLayout.
+     *
+     * @param player1Seed The candidate seed of player 1's board
+     * @param player1Certified Whether player 1's board was certified
+     * @param player2Seed The candidate seed of player 2's board
+     * @param player2Certified Whether player 2's board was certified
+     */
+    public NoGuessLayout(long player1Seed, boolean player1Certified, long player2Seed, boolean player2Certified) {
+        this.player1Seed = player1Seed;
+        this.player1Certified = player1Certified;
+        this.player2Seed = player2Seed;
+        this.player2Certified = player2Certified;
+    }
+
+    /**
+     * Gets the candidate seed of a player's board.
+     *
+     * @param player The player number (1 or 2)
+     * @return The seed from {@link NoGuessGenerator.Result#getCandidateSeed()}
+     */
+    public long getCandidateSeed(int player) {
+        return player == 1 ? player1Seed : player2Seed;
+    }
+
+    /**
+     * Checks if a player's board was certified solvable without guessing.
+     *
+     * @param player The player number (1 or 2)
+     * @return true if certified, false for a fallback board
+     */
+    public boolean isCertified(int player) {
+        return player == 1 ? player1Certified : player2Certified;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof NoGuessLayout)) {
+            return false;
+        }
+        NoGuessLayout other = (NoGuessLayout) o;
+        return player1Seed == other.player1Seed && player1Certified == other.player1Certified
+                && player2Seed == other.player2Seed && player2Certified == other.player2Certified;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(player1Seed);
+        result = 31 * result + Boolean.hashCode(player1Certified);
+        result = 31 * result + Long.hashCode(player2Seed);
+        result = 31 * result + Boolean.hashCode(player2Certified);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "NoGuessLayout{player1=" + player1Seed + (player1Certified ? "" : " (fallback)")
+                + ", player2=" + player2Seed + (player2Certified ? "" : " (fallback)") + "}";
+    }
+}
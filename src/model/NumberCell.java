@@ -7,8 +7,6 @@ package model;
  */
 public class NumberCell extends Cell {
     
-    private int adjacentMines;
-    
     /**
      * Constructs a new NumberCell with the specified adjacent mine count.
      * 
@@ -16,7 +14,19 @@ public class NumberCell extends Cell {
      */
     public NumberCell(int adjacentMines) {
         super();
-        this.adjacentMines = adjacentMines;
+        setAdjacentMines(adjacentMines);
+    }
+    
+    /**
+     * Constructs a NumberCell view over a packed backing array.
+     * The adjacent mine count is read from the packed bits.
+     * 
+     * @param board The board that owns the backing array
+     * @param data The packed backing array
+     * @param index The index of this cell in the backing array
+     */
+    NumberCell(GameBoard board, short[] data, int index) {
+        super(board, data, index);
     }
     
     /**
@@ -25,7 +35,7 @@ public class NumberCell extends Cell {
      * @return The number of adjacent mines (1-8)
      */
     public int getAdjacentMines() {
-        return adjacentMines;
+        return PackedCell.count(bits());
     }
     
     /**
@@ -34,7 +44,7 @@ public class NumberCell extends Cell {
      * @param adjacentMines The number of adjacent mines (1-8)
      */
     public void setAdjacentMines(int adjacentMines) {
-        this.adjacentMines = adjacentMines;
+        setBits(PackedCell.withCount(bits(), adjacentMines));
     }
     
     @Override
@@ -44,7 +54,7 @@ public class NumberCell extends Cell {
     
     @Override
     protected String getRevealedValue() {
-        return String.valueOf(adjacentMines);
+        return String.valueOf(getAdjacentMines());
     }
 }
 
@@ -0,0 +1,101 @@
+package model;
+
+/**
+ * Bit layout and helpers for the packed cell representation used by {@link GameBoard}.
+ * Each cell on a board is stored as a single {@code short}:
+ * <ul>
+ *   <li>bits 0-3: adjacent mine count (0-8)</li>
+ *   <li>bits 4-6: cell type ({@link Cell.CellType} ordinal)</li>
+ *   <li>bits 7-8: cell state ({@link Cell.CellState} ordinal)</li>
+ *   <li>bit 9: the cell has already contributed to the score via flagging</li>
+ *   <li>bit 10: the question has been opened / the surprise has been activated</li>
+ * </ul>
+ *
+ * @author Team Sloth
+ */
+final class PackedCell {
+
+    static final int COUNT_MASK = 0x000F;
+    static final int TYPE_SHIFT = 4;
+    static final int TYPE_MASK = 0x0070;
+    static final int STATE_SHIFT = 7;
+    static final int STATE_MASK = 0x0180;
+    static final int FLAG_SCORE_BIT = 0x0200;
+    static final int USED_BIT = 0x0400;
+
+    // Type codes, matching Cell.CellType ordinals
+    static final int MINE = 0;
+    static final int NUMBER = 1;
+    static final int EMPTY = 2;
+    static final int SURPRISE = 3;
+    static final int QUESTION = 4;
+
+    // State codes, matching Cell.CellState ordinals
+    static final int HIDDEN = 0;
+    static final int REVEALED = 1;
+    static final int FLAGGED = 2;
+
+    private static final Cell.CellType[] TYPES = Cell.CellType.values();
+    private static final Cell.CellState[] STATES = Cell.CellState.values();
+
+    private PackedCell() {
+    }
+
+    /**
+     * Creates the packed value of a hidden cell of the given type.
+     *
+     * @param type The type code
+     * @param adjacentMines The adjacent mine count (0-8)
+     * @return The packed cell value
+     */
+    static short of(int type, int adjacentMines) {
+        return (short) ((type << TYPE_SHIFT) | (adjacentMines & COUNT_MASK));
+    }
+
+    static int type(int bits) {
+        return (bits & TYPE_MASK) >>> TYPE_SHIFT;
+    }
+
+    static int state(int bits) {
+        return (bits & STATE_MASK) >>> STATE_SHIFT;
+    }
+
+    static int count(int bits) {
+        return bits & COUNT_MASK;
+    }
+
+    static short withType(int bits, int type) {
+        return (short) ((bits & ~TYPE_MASK) | (type << TYPE_SHIFT));
+    }
+
+    static short withState(int bits, int state) {
+        return (short) ((bits & ~STATE_MASK) | (state << STATE_SHIFT));
+    }
+
+    static short withCount(int bits, int adjacentMines) {
+        return (short) ((bits & ~COUNT_MASK) | (adjacentMines & COUNT_MASK));
+    }
+
+    static short withBit(int bits, int bit, boolean set) {
+        return (short) (set ? bits | bit : bits & ~bit);
+    }
+
+    /**
+     * Checks whether a cell type cascades reveals like an empty cell
+     * (EMPTY, QUESTION and SURPRISE cells).
+     *
+     * @param type The type code
+     * @return true if revealing this type opens its neighbours
+     */
+    static boolean cascades(int type) {
+        return type == EMPTY || type == QUESTION || type == SURPRISE;
+    }
+
+    static Cell.CellType typeEnum(int bits) {
+        return TYPES[type(bits)];
+    }
+
+    static Cell.CellState stateEnum(int bits) {
+        return STATES[state(bits)];
+    }
+}
@@ -0,0 +1,145 @@
+package model;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Level-synchronous flood fill for openings of millions of cells. The fill expands one
+ * BFS frontier at a time; a large frontier is split into chunks that expand concurrently
+ * on a fork-join pool. Cells are claimed with a compare-and-set from hidden to revealed on
+ * the packed cell array, so each cell is revealed by exactly one thread even when several
+ * frontier cells touch it.
+ * <p>
+ * The cells revealed are exactly those of the sequential fill: both reveal every hidden
+ * NUMBER or cascading cell reachable through hidden cascading cells. Each level's cells
+ * are sorted before they are reported, so the reveal order is deterministic too.
+ *
+ * @author Team Sloth
+ */
+final class ParallelFloodFill {
+
+    private static final VarHandle CELLS = MethodHandles.arrayElementVarHandle(short[].class);
+
+    // Frontiers smaller than this expand on the calling thread; splitting them costs more than it saves
+    private static final int MIN_PARALLEL_FRONTIER = 4096;
+
+    private ParallelFloodFill() {
+    }
+
+    /**
+     * Cells revealed by one chunk of a frontier, with their per-type counts.
+     */
+    private static final class Level {
+        int[] revealed = new int[64];
+        int size;
+        final int[] revealedByType = new int[Cell.CellType.values().length];
+
+        void add(int index, int type) {
+            if (size == revealed.length) {
+                revealed = Arrays.copyOf(revealed, size * 2);
+            }
+            revealed[size++] = index;
+            revealedByType[type]++;
+        }
+    }
+
+    /**
+     * Reveals the opening around a cascading cell that is already revealed. The cells are
+     * written directly, bypassing the board's counters; the caller applies the returned
+     * per-type counts instead.
+     *
+     * @param cells The packed cells
+     * @param neighbours The board's neighbour table
+     * @param start The index of the revealed cascading cell
+     * @param pool The pool to expand large frontiers on
+     * @param result Receives every revealed cell, level by level in ascending index order
+     * @return The number of revealed cells per cell type ordinal
+     */
+    static int[] fill(short[] cells, NeighbourTable neighbours, int start, ForkJoinPool pool,
+                      RevealResult result) {
+        int[] revealedByType = new int[Cell.CellType.values().length];
+        int[] frontier = { start };
+        int frontierSize = 1;
+        while (frontierSize > 0) {
+            Level level = frontierSize < MIN_PARALLEL_FRONTIER
+                    ? expand(cells, neighbours, frontier, 0, frontierSize)
+                    : expandParallel(cells, neighbours, frontier, frontierSize, pool);
+
+            Arrays.sort(level.revealed, 0, level.size);
+            for (int t = 0; t < revealedByType.length; t++) {
+                revealedByType[t] += level.revealedByType[t];
+            }
+            int[] next = new int[level.size];
+            int nextSize = 0;
+            for (int k = 0; k < level.size; k++) {
+                int index = level.revealed[k];
+                result.add(index);
+                if (PackedCell.cascades(PackedCell.type(cells[index]))) {
+                    next[nextSize++] = index;
+                }
+            }
+            frontier = next;
+            frontierSize = nextSize;
+        }
+        return revealedByType;
+    }
+
+    /**
+     * Expands a frontier in chunks, one per pool worker (and one on the calling thread),
+     * and merges the chunks' results.
+     */
+    private static Level expandParallel(short[] cells, NeighbourTable neighbours, int[] frontier, int size,
+                                        ForkJoinPool pool) {
+        int chunks = Math.min(pool.getParallelism() + 1, size / (MIN_PARALLEL_FRONTIER / 4));
+        int chunkSize = (size + chunks - 1) / chunks;
+        List<ForkJoinTask<Level>> tasks = new ArrayList<>(chunks - 1);
+        for (int c = 1; c < chunks; c++) {
+            int from = c * chunkSize;
+            int to = Math.min(size, from + chunkSize);
+            tasks.add(pool.submit(() -> expand(cells, neighbours, frontier, from, to)));
+        }
+        Level merged = expand(cells, neighbours, frontier, 0, Math.min(size, chunkSize));
+        for (ForkJoinTask<Level> task : tasks) {
+            Level level = task.join();
+            int total = merged.size + level.size;
+            if (total > merged.revealed.length) {
+                merged.revealed = Arrays.copyOf(merged.revealed, total);
+            }
+            System.arraycopy(level.revealed, 0, merged.revealed, merged.size, level.size);
+            merged.size = total;
+            for (int t = 0; t < merged.revealedByType.length; t++) {
+                merged.revealedByType[t] += level.revealedByType[t];
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Expands {@code frontier[from..to)}: claims every hidden NUMBER or cascading neighbour.
+     */
+    private static Level expand(short[] cells, NeighbourTable neighbours, int[] frontier, int from, int to) {
+        Level level = new Level();
+        for (int k = from; k < to; k++) {
+            int index = frontier[k];
+            for (int delta : neighbours.deltas(index)) {
+                int neighbour = index + delta;
+                short bits = cells[neighbour];
+                int type = PackedCell.type(bits);
+                if (PackedCell.state(bits) != PackedCell.HIDDEN
+                        || (type != PackedCell.NUMBER && !PackedCell.cascades(type))) {
+                    continue;
+                }
+                // A stale read only makes the CAS fail; the winning thread reports the cell
+                if (CELLS.compareAndSet(cells, neighbour, bits, PackedCell.withState(bits, PackedCell.REVEALED))) {
+                    level.add(neighbour, type);
+                }
+            }
+        }
+        return level;
+    }
+}
@@ -9,15 +9,12 @@ package model;
 public class QuestionCell extends EmptyCell {
     
     private Question question;
-    private boolean questionOpened;
     
     /**
      * Constructs a new QuestionCell.
      */
     public QuestionCell() {
-        super();
-        this.question = null;
-        this.questionOpened = false;
+        this((Question) null);
     }
     
     /**
@@ -28,7 +25,19 @@ public class QuestionCell extends EmptyCell {
     public QuestionCell(Question question) {
         super();
         this.question = question;
-        this.questionOpened = false;
+    }
+    
+    /**
+     * Constructs a QuestionCell view over a board's packed backing array.
+     * The question itself is kept by the board, since only question cells need one.
+     * 
+     * @param board The board that owns the cell
+     * @param data The packed backing array
+     * @param index The index of this cell in the backing array
+     */
+    QuestionCell(GameBoard board, short[] data, int index) {
+        super(board, data, index);
+        this.question = board.getQuestionAt(index);
     }
     
     /**
@@ -47,6 +56,9 @@ public class QuestionCell extends EmptyCell {
      */
     public void setQuestion(Question question) {
         this.question = question;
+        if (board() != null) {
+            board().setQuestionAt(packedIndex(), question);
+        }
     }
     
     /**
@@ -55,7 +67,7 @@ public class QuestionCell extends EmptyCell {
      * @return true if the question has been opened, false otherwise
      */
     public boolean isQuestionOpened() {
-        return questionOpened;
+        return (bits() & PackedCell.USED_BIT) != 0;
     }
     
     /**
@@ -63,7 +75,7 @@ public class QuestionCell extends EmptyCell {
      * Once opened, a question cannot be opened again.
      */
     public void markQuestionOpened() {
-        this.questionOpened = true;
+        setBits(PackedCell.withBit(bits(), PackedCell.USED_BIT, true));
     }
     
     @Override
@@ -76,4 +88,3 @@ public class QuestionCell extends EmptyCell {
         return "?";
     }
 }
-
@@ -0,0 +1,140 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Describes the cells whose state changed during a single reveal on a {@link GameBoard}:
+ * the clicked cell and every cell opened by its cascade, in the order they were revealed.
+ * <p>
+ * A RevealResult can be reused as a buffer with
+ * {@link GameBoard#revealCell(int, int, RevealResult)}; it is cleared at the start of every
+ * reveal and only grows its backing array when a cascade is larger than any seen before,
+ * so repeated reveals into the same buffer do not allocate.
+ *
+ * @author Team Sloth
+ */
+public class RevealResult {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] indices;
+    private int size;
+    private int cols;
+    private int minesHit;
+
+    /**
+     * Constructs an empty RevealResult with a default capacity.
+     */
+    public RevealResult() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty RevealResult able to hold the given number of cells
+     * without growing.
+     *
+     * @param capacity The initial number of cells the buffer can hold
+     */
+    public RevealResult(int capacity) {
+        this.indices = new int[Math.max(1, capacity)];
+        this.size = 0;
+        this.cols = 1;
+        this.minesHit = 0;
+    }
+
+    /**
+     * Clears this result before a reveal on a board with the given width.
+     *
+     * @param cols The number of columns of the board being revealed
+     */
+    void reset(int cols) {
+        this.size = 0;
+        this.cols = cols;
+        this.minesHit = 0;
+    }
+
+    /**
+     * Records a cell whose state changed.
+     *
+     * @param index The row-major index of the cell
+     */
+    void add(int index) {
+        if (size == indices.length) {
+            indices = Arrays.copyOf(indices, size * 2);
+        }
+        indices[size++] = index;
+    }
+
+    /**
+     * Marks that the reveal hit a mine. A chord can hit several.
+     */
+    void setMineHit() {
+        this.minesHit++;
+    }
+
+    /**
+     * Checks if the reveal hit a mine.
+     *
+     * @return true if a mine was revealed, false otherwise
+     */
+    public boolean isMineHit() {
+        return minesHit > 0;
+    }
+
+    /**
+     * Gets the number of mines the reveal hit.
+     *
+     * @return The number of revealed mines (more than 1 only for a chord over wrong flags)
+     */
+    public int getMinesHit() {
+        return minesHit;
+    }
+
+    /**
+     * Gets the number of cells that changed state.
+     *
+     * @return The number of changed cells (0 if nothing was revealed)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if no cell changed state.
+     *
+     * @return true if the reveal changed nothing, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the row-major board index of the i-th changed cell.
+     *
+     * @param i The position in this result (0 to size() - 1)
+     * @return The board index (row * cols + col)
+     */
+    public int getIndex(int i) {
+        return indices[i];
+    }
+
+    /**
+     * Gets the row of the i-th changed cell.
+     *
+     * @param i The position in this result (0 to size() - 1)
+     * @return The row index
+     */
+    public int getRow(int i) {
+        return indices[i] / cols;
+    }
+
+    /**
+     * Gets the column of the i-th changed cell.
+     *
+     * @param i The position in this result (0 to size() - 1)
+     * @return The column index
+     */
+    public int getCol(int i) {
+        return indices[i] % cols;
+    }
+}
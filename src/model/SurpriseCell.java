@@ -8,14 +8,22 @@ package model;
  */
 public class SurpriseCell extends EmptyCell {
     
-    private boolean surpriseActivated;
-    
     /**
      * Constructs a new SurpriseCell.
      */
     public SurpriseCell() {
         super();
-        this.surpriseActivated = false;
+    }
+    
+    /**
+     * Constructs a SurpriseCell view over a packed backing array.
+     * 
+     * @param board The board that owns the backing array
+     * @param data The packed backing array
+     * @param index The index of this cell in the backing array
+     */
+    SurpriseCell(GameBoard board, short[] data, int index) {
+        super(board, data, index);
     }
     
     /**
@@ -24,7 +32,7 @@ public class SurpriseCell extends EmptyCell {
      * @return true if the surprise has been activated, false otherwise
      */
     public boolean isSurpriseActivated() {
-        return surpriseActivated;
+        return (bits() & PackedCell.USED_BIT) != 0;
     }
     
     /**
@@ -32,7 +40,7 @@ public class SurpriseCell extends EmptyCell {
      * Once activated, a surprise cannot be activated again.
      */
     public void markSurpriseActivated() {
-        this.surpriseActivated = true;
+        setBits(PackedCell.withBit(bits(), PackedCell.USED_BIT, true));
     }
     
     @Override
@@ -45,4 +53,3 @@ public class SurpriseCell extends EmptyCell {
         return "S";
     }
 }
-
@@ -0,0 +1,160 @@
+package model;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Defines which cells of a board are neighbours of each other. The board itself only
+ * ever walks a precomputed {@link NeighbourTable}, so a topology's geometry is evaluated
+ * once per board size and costs nothing while playing.
+ * <p>
+ * Three topologies ship with the game: the standard {@link #GRID}, the wrap-around
+ * {@link #TORUS} and the hexagonal {@link #HEX}. New variants extend this class and
+ * implement {@link #neighbours(int, int, int, int, int[])}.
+ *
+ * @author Team Sloth
+ */
+public abstract class Topology {
+
+    /** The standard 8-neighbour grid */
+    public static final Topology GRID = new GridTopology(false);
+    /** An 8-neighbour grid whose edges wrap around to the opposite side */
+    public static final Topology TORUS = new GridTopology(true);
+    /** A 6-neighbour hexagonal grid with odd rows shifted half a cell to the right */
+    public static final Topology HEX = new HexTopology();
+
+    // Tables cost about a byte per cell, so only the most recently used sizes are kept
+    private static final int MAX_CACHED_TABLES = 8;
+
+    private final String name;
+    // In access order, so the least recently used table is evicted first; guarded by itself
+    private final LinkedHashMap<Long, NeighbourTable> tables = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Constructs a new Topology.
+     *
+     * @param name Short name used to record the topology (e.g. in game history)
+     */
+    protected Topology(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Looks up a shipped topology by name.
+     *
+     * @param name The topology name
+     * @return The topology
+     * @throws IllegalArgumentException if no shipped topology has that name
+     */
+    public static Topology forName(String name) {
+        for (Topology topology : new Topology[] { GRID, TORUS, HEX }) {
+            if (topology.name.equalsIgnoreCase(name)) {
+                return topology;
+            }
+        }
+        throw new IllegalArgumentException("Unknown topology: " + name);
+    }
+
+    /**
+     * Gets the short name of this topology.
+     *
+     * @return The name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the largest number of neighbours any cell can have.
+     *
+     * @return The maximum degree
+     */
+    public abstract int getMaxDegree();
+
+    /**
+     * Gets the smallest number of rows and of columns a board needs for this topology's
+     * neighbours to be distinct and not include the cell itself.
+     *
+     * @return The minimum board side, 1 unless the topology wraps
+     */
+    public int getMinSize() {
+        return 1;
+    }
+
+    /**
+     * Writes the neighbours of one cell as row-major indices. Neighbours must be distinct
+     * and must not include the cell itself. Only called while building a table.
+     *
+     * @param rows Number of rows
+     * @param cols Number of columns
+     * @param row The row index of the cell
+     * @param col The column index of the cell
+     * @param out Receives the neighbour indices; at least {@link #getMaxDegree()} long
+     * @return The number of neighbours written
+     */
+    protected abstract int neighbours(int rows, int cols, int row, int col, int[] out);
+
+    /**
+     * Estimates how many cells of a random layout have no mine on or next to them. A cell
+     * with k neighbours qualifies with probability free^(k + 1).
+     * <p>
+     * Only the outer ring of cells is walked; cells inside it are taken to have
+     * {@link #getMaxDegree()} neighbours, which holds for the shipped topologies.
+     * Topologies where it does not hold override this method.
+     *
+     * @param rows Number of rows (at least 3)
+     * @param cols Number of columns (at least 3)
+     * @param free The probability that a cell is not a mine
+     * @return The expected number of cells with no mine on or next to them
+     */
+    public double expectedZeroAdjacentCells(int rows, int cols, double free) {
+        int[] out = new int[getMaxDegree()];
+        double expected = 0.0;
+        for (int col = 0; col < cols; col++) {
+            expected += Math.pow(free, neighbours(rows, cols, 0, col, out) + 1);
+            expected += Math.pow(free, neighbours(rows, cols, rows - 1, col, out) + 1);
+        }
+        for (int row = 1; row < rows - 1; row++) {
+            expected += Math.pow(free, neighbours(rows, cols, row, 0, out) + 1);
+            expected += Math.pow(free, neighbours(rows, cols, row, cols - 1, out) + 1);
+        }
+        long inner = (long) (rows - 2) * (cols - 2);
+        return expected + inner * Math.pow(free, getMaxDegree() + 1);
+    }
+
+    /**
+     * Gets the neighbour table for a board size, building it on first use. Tables are
+     * shared by every board of the same size; only the {@value #MAX_CACHED_TABLES} most
+     * recently used sizes stay cached, and a board keeps its own table either way.
+     *
+     * @param rows Number of rows
+     * @param cols Number of columns
+     * @return The neighbour table
+     * @throws IllegalArgumentException if a side is shorter than {@link #getMinSize()}
+     */
+    public NeighbourTable getTable(int rows, int cols) {
+        if (rows < getMinSize() || cols < getMinSize()) {
+            throw new IllegalArgumentException("A " + name + " board needs at least " + getMinSize()
+                    + " rows and columns: " + rows + "x" + cols);
+        }
+        Long key = ((long) rows << 32) | cols;
+        synchronized (tables) {
+            NeighbourTable table = tables.get(key);
+            if (table == null) {
+                table = new NeighbourTable(this, rows, cols);
+                tables.put(key, table);
+                if (tables.size() > MAX_CACHED_TABLES) {
+                    Iterator<NeighbourTable> eldest = tables.values().iterator();
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+            return table;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
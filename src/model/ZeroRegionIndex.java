@@ -0,0 +1,221 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed connected regions of cascading cells (EMPTY, QUESTION and SURPRISE cells,
+ * see {@link PackedCell#cascades(int)}) and the NUMBER cells bordering each region.
+ * Revealing a cell of an untouched region opens exactly that region plus its border, so
+ * with the index a cascade is a bulk state flip over two precomputed spans instead of a
+ * search.
+ * <p>
+ * Regions are labelled in time linear in the board size, and stored in compact CSR-style
+ * arrays: the cells of region {@code r} are
+ * {@code regionCells[cellStart[r] .. cellStart[r + 1])}, and its border is
+ * {@code borderCells[borderStart[r] .. borderStart[r + 1])}. Only cascading cells get a
+ * region label: a bit per cell marks them, and a per-word rank finds a cell's label among
+ * theirs, so the index costs about four bytes per cascading cell and a quarter byte per
+ * other cell.
+ * <p>
+ * A bulk flip matches a flood fill only while the region is whole: a flagged cascading
+ * cell stops a cascade, and once part of a region is revealed, a later flood fill only
+ * reaches the hidden cells connected to where it starts. The index therefore counts the
+ * flagged and the revealed cells of each region, and the board falls back to a flood
+ * fill for any region that holds a flag or was partly revealed before.
+ *
+ * @author Team Sloth
+ */
+final class ZeroRegionIndex {
+
+    private final long[] cascading; // One bit per cell, set for cells that have a region
+    private final int[] rankBase; // Cascading cells before each 64-cell word
+    private final int[] regionIds; // Region of each cascading cell, in index order
+    private final int[] cellStart;
+    private final int[] regionCells;
+    private final int[] borderStart;
+    private final int[] borderCells;
+    private final int[] flaggedCells; // Flagged cascading cells per region
+    private final int[] revealedCells; // Revealed cascading cells per region
+
+    private ZeroRegionIndex(long[] cascading, int[] rankBase, int[] regionIds, int[] cellStart,
+                            int[] regionCells, int[] borderStart, int[] borderCells,
+                            int[] flaggedCells, int[] revealedCells) {
+        this.cascading = cascading;
+        this.rankBase = rankBase;
+        this.regionIds = regionIds;
+        this.cellStart = cellStart;
+        this.regionCells = regionCells;
+        this.borderStart = borderStart;
+        this.borderCells = borderCells;
+        this.flaggedCells = flaggedCells;
+        this.revealedCells = revealedCells;
+    }
+
+    /**
+     * Labels the regions of a board.
+     *
+     * @param cells The packed cells
+     * @param neighbours The board's neighbour table
+     * @return The region index
+     */
+    static ZeroRegionIndex build(short[] cells, NeighbourTable neighbours) {
+        int size = cells.length;
+        int words = (size + 63) >>> 6;
+        long[] cascading = new long[words];
+        int[] rankBase = new int[words];
+        int count = 0;
+        for (int index = 0; index < size; index++) {
+            if ((index & 63) == 0) {
+                rankBase[index >>> 6] = count;
+            }
+            if (PackedCell.cascades(PackedCell.type(cells[index]))) {
+                cascading[index >>> 6] |= 1L << index;
+                count++;
+            }
+        }
+
+        // Label the regions breadth-first; each region's cell list doubles as its queue
+        int[] regionIds = new int[count];
+        Arrays.fill(regionIds, -1);
+        int[] cellStart = new int[count + 1];
+        int[] regionCells = new int[count];
+        int regions = 0;
+        int position = 0;
+        for (int start = 0; start < size; start++) {
+            int startRank = rank(cascading, rankBase, start);
+            if (startRank < 0 || regionIds[startRank] != -1) {
+                continue;
+            }
+            int region = regions++;
+            cellStart[region] = position;
+            regionIds[startRank] = region;
+            regionCells[position++] = start;
+            for (int head = cellStart[region]; head < position; head++) {
+                int index = regionCells[head];
+                for (int delta : neighbours.deltas(index)) {
+                    int neighbourRank = rank(cascading, rankBase, index + delta);
+                    if (neighbourRank >= 0 && regionIds[neighbourRank] == -1) {
+                        regionIds[neighbourRank] = region;
+                        regionCells[position++] = index + delta;
+                    }
+                }
+            }
+        }
+        cellStart[regions] = position;
+
+        // Collect each region's border, listing each NUMBER cell once per region. A bit
+        // marks the cells listed for the current region and is cleared after it.
+        long[] listed = new long[words];
+        int[] borderStart = new int[regions + 1];
+        int[] borderCells = new int[Math.max(16, count)];
+        int[] flaggedCells = new int[regions];
+        int[] revealedCells = new int[regions];
+        int borders = 0;
+        for (int region = 0; region < regions; region++) {
+            borderStart[region] = borders;
+            for (int k = cellStart[region]; k < cellStart[region + 1]; k++) {
+                int index = regionCells[k];
+                int state = PackedCell.state(cells[index]);
+                if (state == PackedCell.FLAGGED) {
+                    flaggedCells[region]++;
+                } else if (state == PackedCell.REVEALED) {
+                    revealedCells[region]++;
+                }
+                for (int delta : neighbours.deltas(index)) {
+                    int neighbour = index + delta;
+                    long bit = 1L << neighbour;
+                    if ((listed[neighbour >>> 6] & bit) == 0
+                            && PackedCell.type(cells[neighbour]) == PackedCell.NUMBER) {
+                        listed[neighbour >>> 6] |= bit;
+                        if (borders == borderCells.length) {
+                            borderCells = Arrays.copyOf(borderCells, borders * 2);
+                        }
+                        borderCells[borders++] = neighbour;
+                    }
+                }
+            }
+            for (int k = borderStart[region]; k < borders; k++) {
+                listed[borderCells[k] >>> 6] = 0;
+            }
+        }
+        borderStart[regions] = borders;
+
+        return new ZeroRegionIndex(cascading, rankBase, regionIds, Arrays.copyOf(cellStart, regions + 1),
+                regionCells, borderStart, Arrays.copyOf(borderCells, borders), flaggedCells, revealedCells);
+    }
+
+    /**
+     * Finds a cell's position among the cascading cells.
+     *
+     * @return The rank, or -1 if the cell does not cascade
+     */
+    private static int rank(long[] cascading, int[] rankBase, int index) {
+        long word = cascading[index >>> 6];
+        long bit = 1L << index;
+        if ((word & bit) == 0) {
+            return -1;
+        }
+        return rankBase[index >>> 6] + Long.bitCount(word & (bit - 1));
+    }
+
+    /**
+     * Gets the region of a cell.
+     *
+     * @param index The row-major cell index
+     * @return The region, or -1 if the cell does not cascade
+     */
+    int regionOf(int index) {
+        int rank = rank(cascading, rankBase, index);
+        return rank < 0 ? -1 : regionIds[rank];
+    }
+
+    /**
+     * Records that a cascading cell was flagged (delta = 1) or unflagged (delta = -1).
+     */
+    void flagChanged(int index, int delta) {
+        flaggedCells[regionOf(index)] += delta;
+    }
+
+    /**
+     * Records that cascading cells of a region were revealed (positive count) or hidden
+     * again (negative count).
+     */
+    void revealedChanged(int region, int count) {
+        revealedCells[region] += count;
+    }
+
+    /**
+     * Checks if a region can be opened in bulk right after one of its cells was revealed:
+     * no flag interrupts it, and no other cell of it was revealed before.
+     *
+     * @param region The region
+     * @return true if opening the whole region matches a flood fill from the revealed cell
+     */
+    boolean isOpenable(int region) {
+        return flaggedCells[region] == 0 && revealedCells[region] == 1;
+    }
+
+    int cellStart(int region) {
+        return cellStart[region];
+    }
+
+    int cellEnd(int region) {
+        return cellStart[region + 1];
+    }
+
+    int cellAt(int position) {
+        return regionCells[position];
+    }
+
+    int borderStart(int region) {
+        return borderStart[region];
+    }
+
+    int borderEnd(int region) {
+        return borderStart[region + 1];
+    }
+
+    int borderAt(int position) {
+        return borderCells[position];
+    }
+}
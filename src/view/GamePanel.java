@@ -10,6 +10,7 @@ import model.SurpriseCell;
 import model.Game;
 import model.GameBoard;
 import model.GameObserver;
+import model.RevealResult;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -34,6 +35,7 @@ public class GamePanel extends JPanel implements GameObserver {
 
     private JButton homeButton;
     private JButton pauseButton;
+    private JButton hintButton;
     private JButton flagModeButton;
     private JLabel player1NameLabel;
     private JLabel player2NameLabel;
@@ -45,8 +47,8 @@ public class GamePanel extends JPanel implements GameObserver {
     private final JPanel player2BoardPanel;
     private JLabel player1BoardLabel;
     private JLabel player2BoardLabel;
-    private final CellButton[][] player1Cells;
-    private final CellButton[][] player2Cells;
+    private CellButton[][] player1Cells;
+    private CellButton[][] player2Cells;
     private GameController gameController;
     private Game game;
     private boolean gameOver = false;
@@ -64,8 +66,8 @@ public class GamePanel extends JPanel implements GameObserver {
         // Initialize board panels
         player1BoardPanel = new JPanel();
         player2BoardPanel = new JPanel();
-        player1Cells = new CellButton[16][16]; // Max size for hard difficulty
-        player2Cells = new CellButton[16][16];
+        player1Cells = new CellButton[0][0]; // Sized per game in initializeGame
+        player2Cells = new CellButton[0][0];
 
         // Build UI components
         buildTopBar();
@@ -127,16 +129,15 @@ public class GamePanel extends JPanel implements GameObserver {
         player2NameLabel.setText("Player 2: " + game.getPlayer2Name());
         
         // Update board labels with player names
-        if (player1BoardLabel != null) {
-            player1BoardLabel.setText(game.getPlayer1Name() + "'s Board");
-        }
-        if (player2BoardLabel != null) {
-            player2BoardLabel.setText(game.getPlayer2Name() + "'s Board");
-        }
+        updateBoardLabels();
 
-        // Initialize cell buttons for both boards
-        initializeBoard(player1BoardPanel, player1Cells, game.getPlayer1Board(), 1);
-        initializeBoard(player2BoardPanel, player2Cells, game.getPlayer2Board(), 2);
+        // Initialize cell buttons for both boards, sized to this game's board spec
+        GameBoard player1Board = game.getPlayer1Board();
+        GameBoard player2Board = game.getPlayer2Board();
+        player1Cells = new CellButton[player1Board.getRows()][player1Board.getCols()];
+        player2Cells = new CellButton[player2Board.getRows()][player2Board.getCols()];
+        initializeBoard(player1BoardPanel, player1Cells, player1Board, 1);
+        initializeBoard(player2BoardPanel, player2Cells, player2Board, 2);
 
         // Update cell sizes after initialization
         SwingUtilities.invokeLater(() -> {
@@ -217,10 +218,30 @@ public class GamePanel extends JPanel implements GameObserver {
         // Add click handler
         pauseButton.addActionListener(e -> togglePause());
         
-        // Add Pause button to center
-        JPanel centerPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 0, 0));
+        // Create Hint button next to the Pause button
+        hintButton = new JButton("💡 Hint");
+        hintButton.setFocusPainted(false);
+        hintButton.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        hintButton.setBackground(new Color(23, 162, 184)); // Teal
+        hintButton.setForeground(Color.WHITE);
+        hintButton.setOpaque(true);
+        hintButton.setBorderPainted(false);
+        hintButton.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(new Color(17, 122, 139), 2),
+                BorderFactory.createEmptyBorder(8, 16, 8, 16)));
+        hintButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        hintButton.addActionListener(e -> {
+            if (gameController != null && game != null && !gameOver && !isPaused
+                    && !gameController.isBotPlayer(game.getCurrentPlayer())) {
+                gameController.handleHintRequest(game.getCurrentPlayer());
+            }
+        });
+        
+        // Add Pause and Hint buttons to center
+        JPanel centerPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 8, 0));
         centerPanel.setOpaque(false);
         centerPanel.add(pauseButton);
+        centerPanel.add(hintButton);
         topBar.add(centerPanel, BorderLayout.CENTER);
         
         // Create Flag Mode button
@@ -508,6 +529,24 @@ public class GamePanel extends JPanel implements GameObserver {
         }
     }
 
+    /**
+     * Updates the board labels with the player names and the mines left on each board.
+     * The mines left value comes from the board's live counters, so this is O(1).
+     */
+    private void updateBoardLabels() {
+        if (game == null) {
+            return;
+        }
+        if (player1BoardLabel != null) {
+            player1BoardLabel.setText(game.getPlayer1Name() + "'s Board - Mines left: "
+                    + game.getPlayer1Board().getMinesLeft());
+        }
+        if (player2BoardLabel != null) {
+            player2BoardLabel.setText(game.getPlayer2Name() + "'s Board - Mines left: "
+                    + game.getPlayer2Board().getMinesLeft());
+        }
+    }
+
     /**
      * Builds the bottom panel (currently empty, can be used for controls).
      */
@@ -678,6 +717,7 @@ public class GamePanel extends JPanel implements GameObserver {
 
         // Update board borders to highlight active player
         updateBoardBorders();
+        updateBoardLabels();
 
         // Update player 1 board
         updateBoard(player1Cells, game.getPlayer1Board(), 1);
@@ -799,6 +839,29 @@ public class GamePanel extends JPanel implements GameObserver {
         }
     }
     
+    /**
+     * Highlights the cell suggested by a hint. The highlight lasts until the cell's button
+     * is next redrawn, e.g. when the cell is revealed or the turn changes.
+     * 
+     * @param player The player number (1 or 2) whose board holds the cell
+     * @param row The row index of the suggested cell
+     * @param col The column index of the suggested cell
+     * @param mineProbability The chance that the cell is a mine (0.0 to 1.0)
+     */
+    public void showHint(int player, int row, int col, double mineProbability) {
+        CellButton[][] cellButtons = player == 1 ? player1Cells : player2Cells;
+        if (cellButtons == null) {
+            return;
+        }
+        CellButton button = cellButtons[row][col];
+        button.setBorder(BorderFactory.createCompoundBorder(
+                new LineBorder(new Color(23, 162, 184), 3),
+                BorderFactory.createEmptyBorder(1, 1, 1, 1)));
+        button.setToolTipText(mineProbability == 0.0
+                ? "Hint: this cell is safe"
+                : String.format("Hint: %.0f%% chance of a mine", mineProbability * 100));
+    }
+    
     /**
      * Updates the timer display with the given time string.
      * 
@@ -1075,6 +1138,11 @@ public class GamePanel extends JPanel implements GameObserver {
                     if (gameOver || isPaused) {
                         return;
                     }
+                    
+                    // A bot's board is played by the bot only
+                    if (gameController.isBotPlayer(player)) {
+                        return;
+                    }
 
                     if (SwingUtilities.isLeftMouseButton(e)) {
                         // Check Flag Mode state
@@ -1091,8 +1159,12 @@ public class GamePanel extends JPanel implements GameObserver {
                                 } else if (cell instanceof SurpriseCell && !((SurpriseCell) cell).isSurpriseActivated()) {
                                     // Surprise cell already revealed - offer to activate
                                     gameController.handleSurpriseCellClick(row, col, player);
+                                } else if (cell instanceof NumberCell && game.getCurrentPlayer() == player) {
+                                    // Revealed number on your own turn - chord its neighbours. On the
+                                    // other board this stays a silent no-op; middle-click still warns.
+                                    gameController.handleCellChord(row, col, player);
                                 } else {
-                                    // Already revealed regular cell or already activated - do nothing
+                                    // Already revealed empty cell or already activated - do nothing
                                     return;
                                 }
                             } else {
@@ -1100,6 +1172,12 @@ public class GamePanel extends JPanel implements GameObserver {
                                 gameController.handleCellReveal(row, col, player);
                             }
                         }
+                    } else if (SwingUtilities.isMiddleMouseButton(e)) {
+                        // Middle click: chord (works regardless of Flag Mode state)
+                        Cell cell = game.getBoard(player).getCell(row, col);
+                        if (cell instanceof NumberCell && cell.isRevealed()) {
+                            gameController.handleCellChord(row, col, player);
+                        }
                     } else if (SwingUtilities.isRightMouseButton(e)) {
                         // Right click: flag cell (works regardless of Flag Mode state)
                         gameController.handleCellFlag(row, col, player);
@@ -1117,6 +1195,7 @@ public class GamePanel extends JPanel implements GameObserver {
         public void updateCell(Cell cell, boolean isCurrentPlayer) {
             this.currentCell = cell;
             this.isCurrentPlayer = isCurrentPlayer;
+            setToolTipText(null); // Drops a hint shown on this cell
 
             if (cell == null) {
                 return;
@@ -1304,21 +1383,34 @@ public class GamePanel extends JPanel implements GameObserver {
     
     /**
      * Called when a cell is revealed.
-     * Updates the UI to reflect the revealed cell.
+     * Updates only the cell buttons whose state changed.
      * 
      * @param row The row index of the revealed cell
      * @param col The column index of the revealed cell
      * @param player The player number (1 or 2) who revealed the cell
+     * @param changes Every cell whose state changed, including cascade reveals
      */
     @Override
-    public void onCellRevealed(int row, int col, int player) {
+    public void onCellRevealed(int row, int col, int player, RevealResult changes) {
         SwingUtilities.invokeLater(() -> {
-            // Update the specific board that had a cell revealed
-            if (player == 1 && game != null) {
-                updateBoard(player1Cells, game.getPlayer1Board(), 1);
-            } else if (player == 2 && game != null) {
-                updateBoard(player2Cells, game.getPlayer2Board(), 2);
+            if (game == null) {
+                return;
+            }
+            // Update the changed cells on the specific board that had a cell revealed
+            CellButton[][] cellButtons = player == 1 ? player1Cells : player2Cells;
+            GameBoard board = game.getBoard(player);
+            boolean isCurrentPlayer = game.getCurrentPlayer() == player;
+            for (int i = 0; i < changes.size(); i++) {
+                int changedRow = changes.getRow(i);
+                int changedCol = changes.getCol(i);
+                Cell cell = board.getCell(changedRow, changedCol);
+                CellButton button = cellButtons[changedRow][changedCol];
+
+                if (button != null && cell != null) {
+                    button.updateCell(cell, isCurrentPlayer);
+                }
             }
+            updateBoardLabels();
         });
     }
 }
@@ -12,6 +12,8 @@ import javax.swing.border.LineBorder;
 public class GameSetupDialog extends JDialog {
     private final JTextField player1TextField;
     private final JTextField player2TextField;
+    private final JCheckBox player2BotCheckBox;
+    private final JCheckBox noGuessCheckBox;
     private final GradientButton startButton;
     private boolean confirmed = false;
     private int selectedDifficulty = 1;
@@ -103,6 +105,27 @@ public class GameSetupDialog extends JDialog {
         JLabel player2Label = createSectionLabel("Player 2 Name");
         JLabel difficultyLabel = createSectionLabel("Difficulty Level");
 
+        // Solo players can hand Player 2 to the computer
+        player2BotCheckBox = new JCheckBox("Computer plays Player 2");
+        player2BotCheckBox.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+        player2BotCheckBox.setForeground(new Color(116, 107, 150));
+        player2BotCheckBox.setOpaque(false);
+        player2BotCheckBox.setFocusPainted(false);
+        player2BotCheckBox.setAlignmentX(Component.CENTER_ALIGNMENT);
+        player2BotCheckBox.addActionListener(e -> {
+            if (player2BotCheckBox.isSelected() && player2TextField.getText().trim().isEmpty()) {
+                player2TextField.setText("Computer");
+            }
+        });
+
+        // Boards that never force a guess; the first cell is opened for the players
+        noGuessCheckBox = new JCheckBox("No-guess boards (solvable by logic)");
+        noGuessCheckBox.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+        noGuessCheckBox.setForeground(new Color(116, 107, 150));
+        noGuessCheckBox.setOpaque(false);
+        noGuessCheckBox.setFocusPainted(false);
+        noGuessCheckBox.setAlignmentX(Component.CENTER_ALIGNMENT);
+
         difficultyRow = new JPanel(new GridLayout(1, 3, 10, 0));
         difficultyRow.setOpaque(false);
         difficultyRow.setAlignmentX(Component.CENTER_ALIGNMENT);
@@ -197,11 +220,15 @@ public class GameSetupDialog extends JDialog {
         card.add(Box.createVerticalStrut(10));
         card.add(player2Label);
         card.add(player2TextField);
-        card.add(Box.createVerticalStrut(12));
+        card.add(Box.createVerticalStrut(6));
+        card.add(player2BotCheckBox);
+        card.add(Box.createVerticalStrut(6));
         card.add(difficultyLabel);
         card.add(Box.createVerticalStrut(8));
         card.add(difficultyRow);
-        card.add(Box.createVerticalStrut(14));
+        card.add(Box.createVerticalStrut(6));
+        card.add(noGuessCheckBox);
+        card.add(Box.createVerticalStrut(8));
         card.add(infoWrapper);
         card.add(Box.createVerticalStrut(20));
 
@@ -443,6 +470,14 @@ public class GameSetupDialog extends JDialog {
         return player2TextField.getText().trim();
     }
 
+    public boolean isPlayer2Bot() {
+        return player2BotCheckBox.isSelected();
+    }
+
+    public boolean isNoGuess() {
+        return noGuessCheckBox.isSelected();
+    }
+
     public int getDifficulty() {
         return selectedDifficulty;
     }
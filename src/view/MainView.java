@@ -26,6 +26,7 @@ import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.JProgressBar;
 import javax.swing.SwingConstants;
 import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
@@ -328,6 +329,40 @@ public class MainView extends JFrame {
         return confirmed[0];
     }
 
+    /**
+     * Creates a modal dialog with an indeterminate progress bar for work that runs in the
+     * background. The caller shows it and disposes it when the work is done; the user
+     * cannot close it.
+     */
+    public JDialog createProgressDialog(String titleText, String message) {
+        JDialog dialog = new JDialog(this, titleText, true);
+        dialog.setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
+
+        JPanel content = new JPanel();
+        content.setBackground(Color.WHITE);
+        content.setBorder(new EmptyBorder(24, 32, 24, 32));
+        content.setLayout(new BoxLayout(content, BoxLayout.Y_AXIS));
+
+        JLabel label = new JLabel(message);
+        label.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        label.setForeground(new Color(40, 40, 40));
+        label.setBorder(BorderFactory.createEmptyBorder(0, 0, 16, 0));
+        label.setAlignmentX(Component.LEFT_ALIGNMENT);
+
+        JProgressBar progressBar = new JProgressBar();
+        progressBar.setIndeterminate(true);
+        progressBar.setAlignmentX(Component.LEFT_ALIGNMENT);
+
+        content.add(label);
+        content.add(progressBar);
+
+        dialog.setContentPane(content);
+        dialog.pack();
+        dialog.setResizable(false);
+        dialog.setLocationRelativeTo(this);
+        return dialog;
+    }
+
     public String promptForPinCode() {
         return JOptionPane.showInputDialog(
                 this,
@@ -0,0 +1,236 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import controller.GameEngine;
+import controller.MoveOutcome;
+import controller.QuestionLogic;
+import controller.ScoringService;
+import model.BoardSpec;
+import model.Cell;
+import model.Game;
+import model.GameBoard;
+import model.QuestionCell;
+import model.RevealResult;
+
+/**
+ * Allocation budgets for gameplay operations, measured with the per-thread allocation
+ * counter of the JVM. Each budget is the number of bytes one operation may allocate;
+ * the allocation-free paths have a budget of zero, so any allocation added to them
+ * fails here.
+ */
+public class AllocationBudgetTest {
+
+    private static final int OPERATIONS = 200;
+
+    private static com.sun.management.ThreadMXBean threads;
+    private static QuestionLogic questionLogic;
+
+    private GameBoard board;
+    private Game game;
+    private GameEngine engine;
+    private int row;
+    private int col;
+
+    @BeforeAll
+    public static void setUpClass() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Per-thread allocation counters are not available on this JVM");
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Per-thread allocation counters are not supported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        questionLogic = new QuestionLogic();
+        try {
+            questionLogic.loadQuestionsFromCSV("resources/Questions.csv");
+        } catch (Exception e) {
+            // Boards still initialize without questions
+        }
+    }
+
+    /**
+     * Measures the average bytes an operation allocates. The set-up runs before each
+     * operation and is not measured; a first pass warms both up, and the cost of reading
+     * the counter itself is subtracted.
+     *
+     * @param setUp Prepares operation i
+     * @param operation Runs operation i
+     * @return The average bytes allocated per operation
+     */
+    private long bytesPerOperation(IntConsumer setUp, IntConsumer operation) {
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 100; i++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            overhead = Math.min(overhead, threads.getCurrentThreadAllocatedBytes() - before);
+        }
+
+        long total = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            total = 0;
+            for (int i = 0; i < OPERATIONS; i++) {
+                setUp.accept(i);
+                long before = threads.getCurrentThreadAllocatedBytes();
+                operation.accept(i);
+                total += threads.getCurrentThreadAllocatedBytes() - before - overhead;
+            }
+        }
+        return total / OPERATIONS;
+    }
+
+    /**
+     * Remembers the first cell on a board matching the given state and type, or fails.
+     */
+    private void findCell(GameBoard board, boolean hidden, Cell.CellType type) {
+        for (int r = board.getRows() - 1; r >= 0; r--) {
+            for (int c = board.getCols() - 1; c >= 0; c--) {
+                Cell cell = board.getCell(r, c);
+                if (cell.isHidden() == hidden && cell.getType() == type) {
+                    row = r;
+                    col = c;
+                    return;
+                }
+            }
+        }
+        fail("No " + (hidden ? "hidden " : "revealed ") + type + " cell on the board");
+    }
+
+    /**
+     * A HARD board after its first click, with a hidden number cell selected.
+     */
+    private void newPlayedBoard(int seed, RevealResult buffer) {
+        board = new GameBoard(16, 16);
+        board.allocateCells(Game.Difficulty.HARD.getBoardSpec(), questionLogic.getQuestions(), new SplittableRandom(seed));
+        board.revealCell(8, 8, buffer);
+        findCell(board, true, Cell.CellType.NUMBER);
+    }
+
+    /**
+     * A game whose two boards have had their first click, as the engine plays it headlessly.
+     */
+    private void newEngineGame(int seed) {
+        game = new Game("Player1", "Player2", Game.Difficulty.EASY, Game.Difficulty.EASY.getBoardSpec(),
+                questionLogic, seed);
+        engine = new GameEngine(game, new ScoringService(null, new Random(seed)));
+        engine.reveal(1, 4, 4);
+        engine.reveal(2, 4, 4);
+    }
+
+    /**
+     * Normal Test: revealing a cell and toggling a flag into a reused buffer allocate nothing.
+     */
+    @Test
+    public void testRevealAndFlag_AllocateNothing() {
+        // Arrange
+        RevealResult buffer = new RevealResult(1024);
+
+        // Act
+        long reveal = bytesPerOperation(i -> newPlayedBoard(i, buffer), i -> board.revealCell(row, col, buffer));
+        long flag = bytesPerOperation(i -> newPlayedBoard(i, buffer), i -> board.flagCell(row, col));
+
+        // Assert
+        assertEquals(0, reveal, "Bytes allocated per reveal");
+        assertEquals(0, flag, "Bytes allocated per flag");
+    }
+
+    /**
+     * Normal Test: a cascade that opens a large region into a reused buffer allocates nothing.
+     */
+    @Test
+    public void testCascade_AllocatesNothing() {
+        // Arrange
+        RevealResult buffer = new RevealResult(64 * 64);
+        BoardSpec spec = BoardSpec.withDensity(64, 64, 0.1, 0, 0);
+        IntConsumer setUp = i -> {
+            board = new GameBoard(64, 64);
+            board.allocateCells(spec, new ArrayList<>(), new SplittableRandom(i));
+            board.setFirstClickOpening(true); // The opening labels the regions before the timed cascade
+            board.revealCell(0, 0, buffer);
+            findCell(board, true, Cell.CellType.EMPTY);
+        };
+
+        // Act
+        long cascade = bytesPerOperation(setUp, i -> board.revealCell(row, col, buffer));
+
+        // Assert
+        assertEquals(0, cascade, "Bytes allocated per cascade");
+    }
+
+    /**
+     * Normal Test: headless engine moves stay within small fixed budgets (the outcome,
+     * the reported changes and the cell views they read). Without history, scoring a
+     * reveal formats nothing, so no argument array or boxed count is allocated either.
+     */
+    @Test
+    public void testEngineMoves_WithinBudget() {
+        // Arrange
+        IntConsumer revealSetUp = i -> {
+            newEngineGame(i);
+            findCell(game.getBoard(1), true, Cell.CellType.NUMBER);
+        };
+        IntConsumer questionSetUp = i -> {
+            newEngineGame(i);
+            GameBoard questionBoard = game.getBoard(1);
+            // The first click may already have revealed the question cell
+            for (boolean hidden : new boolean[] { false, true }) {
+                row = -1;
+                for (int r = 0; r < questionBoard.getRows() && row < 0; r++) {
+                    for (int c = 0; c < questionBoard.getCols() && row < 0; c++) {
+                        Cell cell = questionBoard.getCell(r, c);
+                        if (cell.isHidden() == hidden && cell.getType() == Cell.CellType.QUESTION) {
+                            row = r;
+                            col = c;
+                        }
+                    }
+                }
+                if (row >= 0) {
+                    break;
+                }
+            }
+            questionBoard.revealCell(row, col);
+        };
+
+        // Act
+        long reveal = bytesPerOperation(revealSetUp, i -> engine.reveal(1, row, col));
+        long flag = bytesPerOperation(revealSetUp, i -> engine.flag(1, row, col));
+        long question = bytesPerOperation(questionSetUp, i -> {
+            MoveOutcome outcome = engine.activateQuestion(1, row, col, "A");
+            assertTrue(outcome.isPlayed() || outcome.getType() == MoveOutcome.Type.NO_QUESTION);
+        });
+
+        // Assert
+        assertTrue(reveal <= 336, "Bytes allocated per engine reveal: " + reveal);
+        assertTrue(flag <= 64, "Bytes allocated per engine flag: " + flag);
+        assertTrue(question <= 384, "Bytes allocated per question activation: " + question);
+        assertTrue(game.getBoard(1).getCell(row, col) instanceof QuestionCell);
+    }
+
+    /**
+     * Boundary Test: generating a board allocates at most 32 bytes per cell, whatever its size.
+     */
+    @Test
+    public void testBoardGeneration_WithinBudgetPerCell() {
+        for (int size : new int[] { 16, 64 }) {
+            // Arrange
+            GameBoard generated = new GameBoard(size, size);
+            BoardSpec spec = BoardSpec.withDensity(size, size, 0.15, 6, 2);
+            SplittableRandom random = new SplittableRandom(size);
+
+            // Act
+            long bytes = bytesPerOperation(i -> { },
+                    i -> generated.allocateCells(spec, questionLogic.getQuestions(), random.split()));
+
+            // Assert
+            assertTrue(bytes <= 32L * size * size, "Bytes allocated per " + size + "x" + size + " board: " + bytes);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import controller.BoardPool;
+import model.BoardSpec;
+import model.Game;
+import model.GameBoard;
+import model.GeneratedBoards;
+
+public class BoardPoolTest {
+
+    // Fixture: a pool holding up to two games per spec
+    private BoardPool pool;
+    private final BoardSpec spec = Game.Difficulty.MEDIUM.getBoardSpec();
+
+    @BeforeEach
+    public void setUp() {
+        pool = new BoardPool(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Waits until the background worker has filled the pool for the spec.
+     */
+    private void awaitReady(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (pool.getReadyCount(spec) < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, pool.getReadyCount(spec), "Pool was not refilled in time.");
+    }
+
+    /**
+     * Normal Test: a prefilled pool serves games without generating them on the caller.
+     */
+    @Test
+    public void testTake_Prefilled_CountsHit() throws InterruptedException {
+        // Arrange
+        pool.prefill(spec);
+        awaitReady(2);
+
+        // Act
+        GeneratedBoards boards = pool.take(spec);
+
+        // Assert
+        assertEquals(spec, boards.getBoardSpec());
+        assertEquals(1, pool.getHits());
+        assertEquals(0, pool.getMisses());
+        awaitReady(2);
+    }
+
+    /**
+     * Boundary Test: an empty pool falls back to generating the boards synchronously.
+     */
+    @Test
+    public void testTake_Empty_GeneratesAndCountsMiss() {
+        GeneratedBoards boards = pool.take(spec);
+
+        assertNotNull(boards.getPlayer1Board());
+        assertNotNull(boards.getPlayer2Board());
+        assertEquals(0, pool.getHits());
+        assertEquals(1, pool.getMisses());
+        assertEquals(0.0, pool.getHitRate(), 1e-9);
+    }
+
+    /**
+     * Normal Test: every take hands out distinct boards.
+     */
+    @Test
+    public void testTake_Repeated_DistinctBoards() throws InterruptedException {
+        pool.prefill(spec);
+        awaitReady(2);
+
+        GeneratedBoards first = pool.take(spec);
+        GeneratedBoards second = pool.take(spec);
+
+        assertNotSame(first.getPlayer1Board(), second.getPlayer1Board());
+        assertNotEquals(first.getSeed(), second.getSeed());
+    }
+
+    /**
+     * Normal Test: no-guess boards come from their own queue, already opened at the start cell.
+     */
+    @Test
+    public void testTake_NoGuess_OpenedBoardsFromSeparateQueue() {
+        // Arrange
+        BoardSpec easy = Game.Difficulty.EASY.getBoardSpec();
+
+        // Act
+        GeneratedBoards boards = pool.take(easy, true);
+
+        // Assert
+        assertTrue(boards.isNoGuess());
+        assertEquals(easy, boards.getBoardSpec());
+        GameBoard board = boards.getPlayer1Board();
+        boolean opened = false;
+        for (int row = 0; row < board.getRows() && !opened; row++) {
+            for (int col = 0; col < board.getCols() && !opened; col++) {
+                opened = board.getCell(row, col).isRevealed();
+            }
+        }
+        assertTrue(opened, "No-guess board should have its start cell revealed.");
+        assertEquals(0, pool.getReadyCount(easy), "Ordinary queue should not be filled by a no-guess take.");
+        assertFalse(pool.take(easy).isNoGuess());
+    }
+
+    /**
+     * Boundary Test: polling an empty queue neither generates nor counts a miss, and does
+     * not start filling a mode nobody has taken yet.
+     */
+    @Test
+    public void testPoll_Empty_ReturnsNullWithoutGenerating() {
+        // Act
+        GeneratedBoards boards = pool.poll(spec, true);
+
+        // Assert
+        assertNull(boards);
+        assertEquals(0, pool.getMisses());
+        assertEquals(0, pool.getReadyCount(spec, true));
+    }
+}
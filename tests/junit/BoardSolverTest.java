@@ -0,0 +1,265 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import model.BoardAnalysis;
+import model.BoardSolver;
+import model.Cell;
+import model.Game;
+import model.GameBoard;
+
+public class BoardSolverTest {
+
+    /**
+     * Reference probabilities: enumerates every placement of the board's mines over the
+     * unrevealed cells and keeps those that agree with all revealed cells.
+     */
+    private double[] bruteForce(GameBoard board) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        List<Integer> hidden = new ArrayList<>();
+        int revealedMines = 0;
+        for (int i = 0; i < rows * cols; i++) {
+            Cell cell = board.getCell(i / cols, i % cols);
+            if (!cell.isRevealed()) {
+                hidden.add(i);
+            } else if (cell.getType() == Cell.CellType.MINE) {
+                revealedMines++;
+            }
+        }
+        int mines = board.getTotalMines() - revealedMines;
+        double[] hits = new double[rows * cols];
+        double[] total = new double[1];
+        boolean[] mine = new boolean[rows * cols];
+        for (int i = 0; i < rows * cols; i++) {
+            Cell cell = board.getCell(i / cols, i % cols);
+            mine[i] = cell.isRevealed() && cell.getType() == Cell.CellType.MINE;
+        }
+        place(board, hidden, 0, mines, mine, hits, total);
+        for (int i = 0; i < hits.length; i++) {
+            hits[i] /= total[0];
+        }
+        return hits;
+    }
+
+    private void place(GameBoard board, List<Integer> hidden, int from, int left, boolean[] mine,
+                       double[] hits, double[] total) {
+        if (left == 0) {
+            if (consistent(board, mine)) {
+                total[0]++;
+                for (int i = 0; i < mine.length; i++) {
+                    if (mine[i] && !board.getCell(i / board.getCols(), i % board.getCols()).isRevealed()) {
+                        hits[i]++;
+                    }
+                }
+            }
+            return;
+        }
+        for (int k = from; k <= hidden.size() - left; k++) {
+            mine[hidden.get(k)] = true;
+            place(board, hidden, k + 1, left - 1, mine, hits, total);
+            mine[hidden.get(k)] = false;
+        }
+    }
+
+    private boolean consistent(GameBoard board, boolean[] mine) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                Cell cell = board.getCell(r, c);
+                if (!cell.isRevealed() || cell.getType() == Cell.CellType.MINE) {
+                    continue;
+                }
+                int expected = cell.getType() == Cell.CellType.NUMBER ? board.countAdjacentMines(r, c) : 0;
+                int count = 0;
+                for (int i = r - 1; i <= r + 1; i++) {
+                    for (int j = c - 1; j <= c + 1; j++) {
+                        if (i >= 0 && j >= 0 && i < rows && j < cols && mine[i * cols + j]) {
+                            count++;
+                        }
+                    }
+                }
+                if (count != expected) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Normal Test: probabilities on small mid-game boards match a brute-force enumeration
+     * of every consistent layout, and certain cells have probability 0 or 1.
+     */
+    @Test
+    public void testAnalyze_SmallBoards_MatchBruteForce() {
+        Random random = new Random(3);
+        BoardSolver solver = new BoardSolver();
+        for (long seed = 0; seed < 12; seed++) {
+            // Arrange
+            GameBoard board = new GameBoard(5, 6);
+            board.allocateCells(6, 0, 0, new ArrayList<>(), new SplittableRandom(seed));
+            board.setFirstClickOpening(false);
+            board.revealCell(random.nextInt(5), random.nextInt(6));
+            for (int k = 0; k < 3; k++) {
+                int row = random.nextInt(5);
+                int col = random.nextInt(6);
+                if (board.getCell(row, col).getType() != Cell.CellType.MINE) {
+                    board.revealCell(row, col);
+                }
+            }
+
+            // Act
+            BoardAnalysis analysis = solver.analyze(board);
+            double[] expected = bruteForce(board);
+
+            // Assert
+            for (int i = 0; i < expected.length; i++) {
+                int row = i / 6;
+                int col = i % 6;
+                if (board.getCell(row, col).isRevealed()) {
+                    continue;
+                }
+                double p = analysis.getMineProbability(row, col);
+                assertEquals(expected[i], p, 1e-9, "Seed " + seed + " at " + row + "," + col);
+                BoardAnalysis.Certainty certainty = analysis.getCertainty(row, col);
+                assertEquals(expected[i] == 0, certainty == BoardAnalysis.Certainty.SAFE);
+                assertEquals(expected[i] == 1, certainty == BoardAnalysis.Certainty.MINE);
+            }
+        }
+    }
+
+    /**
+     * Normal Test: while a HARD game is played by always opening the safest cell, every
+     * cell the solver calls certain is right, and the safest cell is never a known mine.
+     */
+    @Test
+    public void testAnalyze_HardGame_CertaintiesAreCorrect() {
+        // Arrange
+        BoardSolver solver = new BoardSolver();
+        Game.Difficulty hard = Game.Difficulty.HARD;
+        GameBoard board = new GameBoard(hard.getRows(), hard.getCols());
+        board.allocateCells(hard.getBoardSpec(), new ArrayList<>(), new SplittableRandom(8));
+        board.revealCell(8, 8);
+
+        // Act & Assert
+        for (int move = 0; move < 40 && !board.isGameWon(); move++) {
+            BoardAnalysis analysis = solver.analyze(board);
+            for (int row = 0; row < board.getRows(); row++) {
+                for (int col = 0; col < board.getCols(); col++) {
+                    boolean mine = board.getCell(row, col).getType() == Cell.CellType.MINE;
+                    BoardAnalysis.Certainty certainty = analysis.getCertainty(row, col);
+                    assertFalse(certainty == BoardAnalysis.Certainty.SAFE && mine);
+                    assertFalse(certainty == BoardAnalysis.Certainty.MINE && !mine);
+                }
+            }
+            int safest = analysis.getSafestCell(board);
+            assertNotEquals(BoardAnalysis.Certainty.MINE,
+                    analysis.getCertainty(safest / board.getCols(), safest % board.getCols()));
+            board.revealCell(safest / board.getCols(), safest % board.getCols());
+        }
+    }
+
+    /**
+     * Normal Test: analysing the same board again re-enumerates only the components a
+     * reveal touched, none after a flag, and gives the same result as a fresh solver.
+     */
+    @Test
+    public void testAnalyze_AfterMoves_ReusesUntouchedComponents() {
+        // Arrange
+        BoardSolver solver = new BoardSolver();
+        Game.Difficulty hard = Game.Difficulty.HARD;
+        GameBoard board = new GameBoard(hard.getRows(), hard.getCols());
+        board.allocateCells(hard.getBoardSpec(), new ArrayList<>(), new SplittableRandom(21));
+        board.revealCell(8, 8);
+        BoardAnalysis first = solver.analyze(board);
+        long enumerated = solver.getComponentsEnumerated();
+
+        // Act: a flag changes no constraint
+        int safest = first.getSafestCell(board);
+        board.flagCell(0, 0);
+        solver.analyze(board);
+
+        // Assert
+        assertEquals(enumerated, solver.getComponentsEnumerated());
+        assertEquals(first.getComponentCount(), solver.getComponentsReused());
+
+        // Act: a reveal only changes the components around it
+        board.revealCell(safest / board.getCols(), safest % board.getCols());
+        BoardAnalysis cached = solver.analyze(board);
+        BoardAnalysis fresh = new BoardSolver().analyze(board);
+
+        // Assert
+        assertTrue(solver.getComponentsEnumerated() - enumerated <= cached.getComponentCount());
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int col = 0; col < board.getCols(); col++) {
+                assertEquals(fresh.getMineProbability(row, col), cached.getMineProbability(row, col), 1e-12);
+                assertEquals(fresh.getCertainty(row, col), cached.getCertainty(row, col));
+            }
+        }
+    }
+
+    /**
+     * Boundary Test: a passed deadline or an interrupt abandons the analysis and leaves
+     * the cache as it was, so the next analysis enumerates every component.
+     */
+    @Test
+    public void testAnalyze_PastDeadlineOrInterrupted_ReturnsNull() {
+        // Arrange
+        BoardSolver solver = new BoardSolver();
+        Game.Difficulty hard = Game.Difficulty.HARD;
+        GameBoard board = new GameBoard(hard.getRows(), hard.getCols());
+        board.allocateCells(hard.getBoardSpec(), new ArrayList<>(), new SplittableRandom(21));
+        board.revealCell(8, 8);
+
+        // Act
+        BoardAnalysis late = solver.analyze(board, System.nanoTime() - 1);
+        Thread.currentThread().interrupt();
+        BoardAnalysis interrupted;
+        try {
+            interrupted = solver.analyze(board, Long.MAX_VALUE);
+        } finally {
+            Thread.interrupted();
+        }
+        BoardAnalysis analysis = solver.analyze(board, System.nanoTime() + 60_000_000_000L);
+
+        // Assert
+        assertNull(late);
+        assertNull(interrupted);
+        assertNotNull(analysis);
+        assertTrue(analysis.getComponentCount() > 0);
+        assertEquals(analysis.getComponentCount(), solver.getComponentsEnumerated());
+        assertEquals(0, solver.getComponentsReused());
+    }
+
+    /**
+     * Boundary Test: the safest cell is never a flagged one, even when the flag sits on
+     * the cell the analysis would otherwise pick.
+     */
+    @Test
+    public void testGetSafestCell_SkipsFlaggedCells() {
+        // Arrange
+        Game.Difficulty hard = Game.Difficulty.HARD;
+        GameBoard board = new GameBoard(hard.getRows(), hard.getCols());
+        board.allocateCells(hard.getBoardSpec(), new ArrayList<>(), new SplittableRandom(21));
+        board.revealCell(8, 8);
+        BoardAnalysis analysis = new BoardSolver().analyze(board);
+        int safest = analysis.getSafestCell(board);
+        board.flagCell(safest / board.getCols(), safest % board.getCols());
+
+        // Act
+        int next = analysis.getSafestCell(board);
+
+        // Assert
+        assertNotEquals(safest, next);
+        assertTrue(board.getCell(next / board.getCols(), next % board.getCols()).isHidden());
+    }
+}
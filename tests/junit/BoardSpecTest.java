@@ -0,0 +1,109 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import model.BoardSpec;
+import model.Game;
+import model.GameBoard;
+import model.Topology;
+
+public class BoardSpecTest {
+
+    /**
+     * Normal Test: the standard difficulties keep their original layouts.
+     */
+    @Test
+    public void testDifficulty_StandardSpecs() {
+        BoardSpec hard = Game.Difficulty.HARD.getBoardSpec();
+
+        assertEquals(16, hard.getRows());
+        assertEquals(16, hard.getCols());
+        assertEquals(44, hard.getMineCount());
+        assertEquals(11, hard.getQuestionCount());
+        assertEquals(4, hard.getSurpriseCount());
+    }
+
+    /**
+     * Boundary Test: infeasible specs are rejected up front.
+     */
+    @Test
+    public void testConstructor_InfeasibleSpecs_Throw() {
+        assertThrows(IllegalArgumentException.class, () -> new BoardSpec(2, 9, 1, 0, 0),
+                "Boards smaller than the minimum size should be rejected.");
+        assertThrows(IllegalArgumentException.class, () -> new BoardSpec(9, 9, 80, 0, 0),
+                "Boards without room for a safe first click should be rejected.");
+        assertThrows(IllegalArgumentException.class, () -> new BoardSpec(9, 9, 40, 6, 2),
+                "Boards too dense for their special cells should be rejected.");
+        assertThrows(IllegalArgumentException.class, () -> BoardSpec.withDensity(9, 9, 1.5, 0, 0),
+                "Densities above 1 should be rejected.");
+    }
+
+    /**
+     * Normal Test: validation uses the neighbour counts of the spec's topology.
+     */
+    @Test
+    public void testValidation_UsesTopologyDegree() {
+        // Arrange
+        BoardSpec grid = new BoardSpec(9, 9, 10, 0, 0);
+        BoardSpec torus = grid.withTopology(Topology.TORUS);
+        double free = 1.0 - grid.getMineDensity();
+
+        // Act & Assert: a hex first click clears 7 cells, so 74 of 81 cells may be mines
+        assertEquals(7, new BoardSpec(9, 9, 74, 0, 0, Topology.HEX).getFirstClickSafeCells());
+        assertThrows(IllegalArgumentException.class, () -> new BoardSpec(9, 9, 74, 0, 0),
+                "A grid first click clears 9 cells.");
+        // A torus has no edges or corners, so every cell has eight neighbours
+        assertEquals(81 * Math.pow(free, 9), torus.getExpectedZeroAdjacentCells(), 1e-9);
+        assertTrue(grid.getExpectedZeroAdjacentCells() > torus.getExpectedZeroAdjacentCells());
+        assertTrue(grid.withTopology(Topology.HEX).getExpectedZeroAdjacentCells()
+                > grid.getExpectedZeroAdjacentCells(), "Hex cells have fewer neighbours to be mines.");
+    }
+
+    /**
+     * Normal Test: a density-based spec derives its exact mine count.
+     */
+    @Test
+    public void testWithDensity_RoundsMineCount() {
+        BoardSpec spec = BoardSpec.withDensity(100, 100, 0.15, 20, 10);
+
+        assertEquals(1500, spec.getMineCount());
+        assertEquals(0.15, spec.getMineDensity(), 1e-9);
+    }
+
+    /**
+     * Boundary Test: a 2000x2000 custom board generates with exact counts, opens,
+     * and detects the win.
+     */
+    @Test
+    public void testAllocateCells_HugeBoard_ExactCountsAndWin() {
+        // Arrange
+        BoardSpec spec = BoardSpec.withDensity(2000, 2000, 0.0, 50, 50);
+        GameBoard board = new GameBoard(spec.getRows(), spec.getCols());
+
+        // Act
+        board.allocateCells(spec, new ArrayList<>());
+        board.revealCell(0, 0);
+
+        // Assert
+        assertEquals(0, board.getStats().getHiddenSafeCells(), "One click should open the whole board.");
+        assertTrue(board.isGameWon(), "Expected the board to be won.");
+    }
+
+    /**
+     * Boundary Test: allocation fails instead of placing fewer special cells than requested.
+     */
+    @Test
+    public void testAllocateCells_SpecialCellsDoNotFit_Throws() {
+        // Arrange: 9x9 with 70 mines leaves almost no cell without adjacent mines
+        GameBoard board = new GameBoard(9, 9);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> board.allocateCells(70, 6, 2, new ArrayList<>()),
+                "Special cells that do not fit should be reported, not dropped.");
+    }
+}
@@ -0,0 +1,84 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import controller.BotPlayer;
+import controller.GameEngine;
+import controller.QuestionLogic;
+import controller.ScoringService;
+import model.Game;
+
+public class BotPlayerTest {
+
+    private QuestionLogic loadQuestions() {
+        QuestionLogic questionLogic = new QuestionLogic();
+        try {
+            questionLogic.loadQuestionsFromCSV("resources/Questions.csv");
+        } catch (Exception e) {
+            // Boards still initialize without questions
+        }
+        return questionLogic;
+    }
+
+    /**
+     * Plays a whole game between two bots and returns its score, lives and move count.
+     */
+    private int[] playGame(QuestionLogic questionLogic, long seed) {
+        Game game = new Game("Bot 1", "Bot 2", Game.Difficulty.MEDIUM, Game.Difficulty.MEDIUM.getBoardSpec(),
+                questionLogic, seed);
+        GameEngine engine = new GameEngine(game, new ScoringService(null, new Random(seed)));
+        BotPlayer[] bots = { null, new BotPlayer(1, 0.8, seed + 1), new BotPlayer(2, 0.8, seed + 2) };
+        int moves = 0;
+        while (!game.isGameOver() && moves < 2000) {
+            assertTrue(bots[game.getCurrentPlayer()].play(engine).isPlayed(), "Every bot move is played");
+            moves++;
+        }
+        assertTrue(game.isGameOver(), "The game ends");
+        return new int[] { game.getCombinedScore(), game.getSharedLives(), moves };
+    }
+
+    /**
+     * Normal Test: two bots play a game to the end, and a seed always gives the same game.
+     */
+    @Test
+    public void testPlay_SameSeed_SameGame() {
+        // Arrange
+        QuestionLogic questionLogic = loadQuestions();
+
+        // Act
+        int[] first = playGame(questionLogic, 11L);
+        int[] second = playGame(questionLogic, 11L);
+
+        // Assert
+        assertArrayEquals(first, second);
+        assertTrue(first[1] >= 0);
+    }
+
+    /**
+     * Boundary Test: a bot has no move out of turn, still moves when its deadline has
+     * already passed, and rejects invalid seats and accuracies.
+     */
+    @Test
+    public void testDecide_OutOfTurnAndPastDeadline() {
+        // Arrange
+        Game game = new Game("Player 1", "Bot", Game.Difficulty.EASY, Game.Difficulty.EASY.getBoardSpec(),
+                loadQuestions(), 5L);
+        BotPlayer first = new BotPlayer(1, 1.0, 5L);
+        BotPlayer second = new BotPlayer(2, 1.0, 5L);
+
+        // Act
+        BotPlayer.Move move = first.decide(game, System.nanoTime() - 1);
+
+        // Assert
+        assertNull(second.decide(game, Long.MAX_VALUE));
+        assertNotNull(move);
+        assertEquals(BotPlayer.Move.Kind.REVEAL, move.getKind());
+        assertTrue(game.getPlayer1Board().getCell(move.getRow(), move.getCol()).isHidden());
+        assertThrows(IllegalArgumentException.class, () -> new BotPlayer(3, 0.5, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new BotPlayer(1, 1.5, 1L));
+    }
+}
@@ -0,0 +1,104 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import model.EndlessBoard;
+import model.EndlessRevealResult;
+
+public class EndlessBoardTest {
+
+    /**
+     * Normal Test: adjacent counts agree with the mines around them, including across
+     * chunk borders and negative coordinates, and a board with the same seed regenerates
+     * the same world even when its cache is too small to keep anything.
+     */
+    @Test
+    public void testCountAdjacentMines_AcrossChunks_MatchesMines() {
+        // Arrange
+        EndlessBoard board = new EndlessBoard(42, 0.2, 64);
+        EndlessBoard replay = new EndlessBoard(42, 0.2, 4);
+
+        // Act & Assert
+        for (int y = -40; y < 40; y++) {
+            for (int x = -40; x < 40; x++) {
+                int expected = 0;
+                for (int j = y - 1; j <= y + 1; j++) {
+                    for (int i = x - 1; i <= x + 1; i++) {
+                        if ((i != x || j != y) && board.isMine(i, j)) {
+                            expected++;
+                        }
+                    }
+                }
+                assertEquals(expected, board.countAdjacentMines(x, y), "Count at " + x + "," + y);
+                assertEquals(board.isMine(x, y), replay.isMine(x, y), "Mine at " + x + "," + y);
+            }
+        }
+        assertTrue(replay.getLoadedChunkCount() <= 4);
+    }
+
+    /**
+     * Normal Test: the origin is safe and opens a region whose zero cells have every
+     * neighbour revealed, wherever their chunk is.
+     */
+    @Test
+    public void testRevealCell_Origin_OpensClosedRegion() {
+        // Arrange
+        EndlessBoard board = new EndlessBoard(7, 0.15, 16);
+
+        // Act
+        EndlessRevealResult result = board.revealCell(0, 0);
+
+        // Assert
+        assertFalse(result.isMineHit());
+        assertTrue(result.size() >= 9);
+        for (int k = 0; k < result.size(); k++) {
+            int x = result.getX(k);
+            int y = result.getY(k);
+            assertFalse(board.isMine(x, y));
+            assertTrue(board.isRevealed(x, y));
+            if (board.countAdjacentMines(x, y) == 0) {
+                for (int j = y - 1; j <= y + 1; j++) {
+                    for (int i = x - 1; i <= x + 1; i++) {
+                        assertTrue(board.isRevealed(i, j), "Unopened neighbour " + i + "," + j);
+                    }
+                }
+            }
+        }
+        assertTrue(board.revealCell(0, 0).size() == 0, "Revealing twice changes nothing");
+    }
+
+    /**
+     * Boundary Test: scrolling across hundreds of chunks keeps the generated chunks within
+     * the cache size, while revealed and flagged cells survive eviction.
+     */
+    @Test
+    public void testRevealCell_FarScroll_KeepsMemoryBounded() {
+        // Arrange
+        EndlessBoard board = new EndlessBoard(3, 0.3, 8);
+        int step = EndlessBoard.CHUNK_SIZE;
+
+        // Act
+        for (int k = 0; k < 300; k++) {
+            int x = 1_000_000 + k * step;
+            if (board.isMine(x, 5)) {
+                board.flagCell(x, 5);
+            } else {
+                board.revealCell(x, 5);
+            }
+            assertTrue(board.getLoadedChunkCount() <= 8);
+        }
+
+        // Assert
+        assertTrue(board.getStoredChunkCount() >= 300);
+        for (int k = 0; k < 300; k++) {
+            int x = 1_000_000 + k * step;
+            if (board.isMine(x, 5)) {
+                assertTrue(board.isFlagged(x, 5), "Flag lost at " + x);
+            } else {
+                assertTrue(board.isRevealed(x, 5), "Reveal lost at " + x);
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import model.Cell;
+import model.GameBoard;
+import model.RevealResult;
+
+public class GameBoardCascadeTest {
+
+    /**
+     * Boundary Test: a 1000x1000 board without mines opens completely from one click
+     * without overflowing the stack.
+     */
+    @Test
+    public void testRevealCell_HugeOpenBoard_RevealsEverything() {
+        // Arrange
+        GameBoard board = new GameBoard(1000, 1000);
+        board.allocateCells(0, 0, 0, new ArrayList<>());
+
+        // Act
+        RevealResult result = assertDoesNotThrow(() -> board.revealCell(500, 500));
+
+        // Assert
+        assertFalse(result.isMineHit(), "Expected no mine on an empty board.");
+        assertEquals(1000 * 1000, result.size(), "Expected every cell in the reveal delta.");
+        assertTrue(board.isGameWon(), "Expected the cascade to reveal every cell.");
+    }
+
+    /**
+     * Normal Test: a cascade stops at number cells and never reveals mines.
+     */
+    @Test
+    public void testRevealCell_Cascade_NeverRevealsMines() {
+        // Arrange
+        GameBoard board = new GameBoard(30, 30);
+        board.allocateCells(40, 0, 0, new ArrayList<>());
+
+        // Act
+        for (int i = 0; i < 30; i++) {
+            for (int j = 0; j < 30; j++) {
+                if (board.getCell(i, j).getType() == Cell.CellType.EMPTY) {
+                    board.revealCell(i, j);
+                }
+            }
+        }
+
+        // Assert
+        for (int i = 0; i < 30; i++) {
+            for (int j = 0; j < 30; j++) {
+                if (board.getCell(i, j).getType() == Cell.CellType.MINE) {
+                    assertFalse(board.getCell(i, j).isRevealed(), "Cascades must not reveal mines.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Normal Test: the reveal delta lists exactly the cells that became revealed,
+     * and a reused buffer is cleared between reveals.
+     */
+    @Test
+    public void testRevealCell_Buffer_ListsExactlyChangedCells() {
+        // Arrange
+        GameBoard board = new GameBoard(20, 20);
+        board.allocateCells(30, 0, 0, new ArrayList<>());
+        RevealResult buffer = new RevealResult();
+        int revealedBefore = 0;
+
+        for (int i = 0; i < 20; i++) {
+            for (int j = 0; j < 20; j++) {
+                if (board.getCell(i, j).isRevealed()) {
+                    continue;
+                }
+
+                // Act
+                board.revealCell(i, j, buffer);
+
+                // Assert
+                int revealedAfter = 0;
+                for (int r = 0; r < 20; r++) {
+                    for (int c = 0; c < 20; c++) {
+                        if (board.getCell(r, c).isRevealed()) {
+                            revealedAfter++;
+                        }
+                    }
+                }
+                assertEquals(revealedAfter - revealedBefore, buffer.size(),
+                        "Delta size should match the number of newly revealed cells.");
+                for (int k = 0; k < buffer.size(); k++) {
+                    assertTrue(board.getCell(buffer.getRow(k), buffer.getCol(k)).isRevealed(),
+                            "Every cell in the delta should be revealed.");
+                }
+                revealedBefore = revealedAfter;
+            }
+        }
+    }
+
+    /**
+     * Normal Test: the parallel flood fill reveals exactly the cells of the sequential one.
+     */
+    @Test
+    public void testRevealCell_ParallelFill_MatchesSequential() {
+        // Arrange: two identical sparse boards; flags inside the opening force a flood fill
+        GameBoard sequential = new GameBoard(1500, 1500);
+        GameBoard parallel = new GameBoard(1500, 1500);
+        sequential.allocateCells(2000, 0, 0, new ArrayList<>(), new SplittableRandom(5));
+        parallel.allocateCells(2000, 0, 0, new ArrayList<>(), new SplittableRandom(5));
+        sequential.setParallelCascadeThreshold(Integer.MAX_VALUE);
+        parallel.setParallelCascadeThreshold(0);
+        for (int k = 0; k < 20; k++) {
+            sequential.flagCell(100 + 60 * k, 700);
+            parallel.flagCell(100 + 60 * k, 700);
+        }
+
+        // Act
+        RevealResult expected = sequential.revealCell(750, 750);
+        RevealResult actual = parallel.revealCell(750, 750);
+
+        // Assert
+        assertTrue(expected.size() > 100000, "Expected a large opening.");
+        assertEquals(expected.size(), actual.size(), "Both fills should reveal the same number of cells.");
+        boolean[] revealed = new boolean[1500 * 1500];
+        for (int k = 0; k < expected.size(); k++) {
+            revealed[expected.getIndex(k)] = true;
+        }
+        for (int k = 0; k < actual.size(); k++) {
+            assertTrue(revealed[actual.getIndex(k)], "Parallel fill revealed an extra cell.");
+        }
+        assertEquals(sequential.getStats().toString(), parallel.getStats().toString());
+    }
+}
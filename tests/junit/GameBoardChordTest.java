@@ -0,0 +1,183 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import model.Cell;
+import model.GameBoard;
+import model.RevealResult;
+
+public class GameBoardChordTest {
+
+    private GameBoard newBoard(long seed) {
+        GameBoard board = new GameBoard(20, 20);
+        board.allocateCells(60, 0, 0, new ArrayList<>(), new SplittableRandom(seed));
+        board.revealCell(10, 10);
+        return board;
+    }
+
+    /**
+     * Finds a revealed number cell with at least one hidden safe neighbour, or null.
+     */
+    private int[] findChordable(GameBoard board) {
+        for (int r = 1; r < 19; r++) {
+            for (int c = 1; c < 19; c++) {
+                Cell cell = board.getCell(r, c);
+                if (!cell.isRevealed() || cell.getType() != Cell.CellType.NUMBER) {
+                    continue;
+                }
+                for (int i = r - 1; i <= r + 1; i++) {
+                    for (int j = c - 1; j <= c + 1; j++) {
+                        Cell neighbour = board.getCell(i, j);
+                        if (neighbour.isHidden() && neighbour.getType() != Cell.CellType.MINE) {
+                            return new int[] { r, c };
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Normal Test: a satisfied chord reveals exactly what revealing each neighbour one by
+     * one would, listing every cell once in a single combined result.
+     */
+    @Test
+    public void testChordCell_Satisfied_MatchesSeparateReveals() {
+        for (long seed = 0; seed < 10; seed++) {
+            // Arrange
+            GameBoard chorded = newBoard(seed);
+            GameBoard clicked = newBoard(seed);
+            int[] target = findChordable(chorded);
+            if (target == null) {
+                continue;
+            }
+            int r = target[0];
+            int c = target[1];
+            for (int i = r - 1; i <= r + 1; i++) {
+                for (int j = c - 1; j <= c + 1; j++) {
+                    if (chorded.getCell(i, j).getType() == Cell.CellType.MINE) {
+                        chorded.flagCell(i, j);
+                        clicked.flagCell(i, j);
+                    }
+                }
+            }
+
+            // Act
+            RevealResult result = chorded.chordCell(r, c);
+            for (int i = r - 1; i <= r + 1; i++) {
+                for (int j = c - 1; j <= c + 1; j++) {
+                    if (clicked.getCell(i, j).isHidden()) {
+                        clicked.revealCell(i, j);
+                    }
+                }
+            }
+
+            // Assert
+            assertFalse(result.isMineHit());
+            Set<Integer> listed = new HashSet<>();
+            for (int k = 0; k < result.size(); k++) {
+                assertTrue(listed.add(result.getIndex(k)), "Cell listed twice");
+            }
+            assertFalse(listed.isEmpty());
+            for (int i = 0; i < 20; i++) {
+                for (int j = 0; j < 20; j++) {
+                    assertEquals(clicked.getCell(i, j).isRevealed(), chorded.getCell(i, j).isRevealed(),
+                            "Seed " + seed + " at " + i + "," + j);
+                }
+            }
+            assertEquals(clicked.getStats().getHiddenSafeCells(), chorded.getStats().getHiddenSafeCells());
+        }
+    }
+
+    /**
+     * Boundary Test: a number without matching flags does nothing, and a chord over a
+     * wrong flag counts the mine it reveals.
+     */
+    @Test
+    public void testChordCell_UnsatisfiedOrWrongFlag() {
+        // Arrange
+        GameBoard board = newBoard(4);
+        int[] target = findChordable(board);
+        assertNotNull(target);
+        int r = target[0];
+        int c = target[1];
+
+        // Act & Assert: no flags yet
+        assertTrue(board.chordCell(r, c).isEmpty());
+
+        // Arrange: flag safe cells instead of the mines, as many as the number shows
+        int needed = board.countAdjacentMines(r, c);
+        for (int i = r - 1; i <= r + 1 && needed > 0; i++) {
+            for (int j = c - 1; j <= c + 1 && needed > 0; j++) {
+                Cell neighbour = board.getCell(i, j);
+                if (neighbour.isHidden() && neighbour.getType() != Cell.CellType.MINE) {
+                    board.flagCell(i, j);
+                    needed--;
+                }
+            }
+        }
+
+        // Act
+        RevealResult result = board.chordCell(r, c);
+
+        // Assert
+        assertEquals(0, needed, "Expected enough hidden safe neighbours to flag");
+        assertEquals(board.countAdjacentMines(r, c), result.getMinesHit());
+    }
+
+    /**
+     * Boundary Test: a mine that was hit stays revealed and counts toward the number, so
+     * a number next to it chords once its other mines are flagged.
+     */
+    @Test
+    public void testChordCell_RevealedMineCountsAsMarked() {
+        // Arrange
+        GameBoard board = null;
+        int r = -1;
+        int c = -1;
+        for (long seed = 0; seed < 20 && r < 0; seed++) {
+            board = newBoard(seed);
+            int[] target = findChordable(board);
+            if (target != null && board.countAdjacentMines(target[0], target[1]) >= 1) {
+                r = target[0];
+                c = target[1];
+            }
+        }
+        assertTrue(r >= 0, "Expected a chordable number next to a mine");
+        boolean hit = false;
+        for (int i = r - 1; i <= r + 1; i++) {
+            for (int j = c - 1; j <= c + 1; j++) {
+                if (board.getCell(i, j).getType() != Cell.CellType.MINE) {
+                    continue;
+                }
+                if (!hit) {
+                    assertTrue(board.revealCell(i, j).isMineHit());
+                    hit = true;
+                } else {
+                    board.flagCell(i, j);
+                }
+            }
+        }
+
+        // Act
+        RevealResult result = board.chordCell(r, c);
+
+        // Assert
+        assertFalse(result.isEmpty());
+        assertFalse(result.isMineHit());
+        for (int i = r - 1; i <= r + 1; i++) {
+            for (int j = c - 1; j <= c + 1; j++) {
+                Cell neighbour = board.getCell(i, j);
+                assertTrue(neighbour.isRevealed() || neighbour.isFlagged(), "Left hidden at " + i + "," + j);
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.Cell;
+import model.GameBoard;
+import model.NumberCell;
+
+public class GameBoardEditTest {
+
+    // Fixture: a board with no mines
+    private GameBoard board;
+
+    @BeforeEach
+    public void setUp() {
+        board = new GameBoard(12, 17);
+        board.allocateCells(0, 0, 0, new ArrayList<>());
+    }
+
+    /**
+     * Reads the displayed count of every cell (-1 for mines).
+     */
+    private int[] counts() {
+        int[] counts = new int[board.getRows() * board.getCols()];
+        for (int i = 0; i < board.getRows(); i++) {
+            for (int j = 0; j < board.getCols(); j++) {
+                Cell cell = board.getCell(i, j);
+                int count = -1;
+                if (cell.getType() == Cell.CellType.NUMBER) {
+                    count = ((NumberCell) cell).getAdjacentMines();
+                } else if (cell.getType() == Cell.CellType.EMPTY) {
+                    count = 0;
+                }
+                counts[i * board.getCols() + j] = count;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Normal Test: random incremental edits keep every count exact, and the bulk
+     * recount agrees with them.
+     */
+    @Test
+    public void testAddRemoveMine_RandomEdits_MatchBulkRecount() {
+        Random random = new Random(7);
+        int mines = 0;
+
+        for (int edit = 0; edit < 500; edit++) {
+            int row = random.nextInt(12);
+            int col = random.nextInt(17);
+            if (random.nextBoolean()) {
+                if (board.addMine(row, col)) mines++;
+            } else if (board.removeMine(row, col)) {
+                mines--;
+            }
+
+            int[] counts = counts();
+            for (int i = 0; i < 12; i++) {
+                for (int j = 0; j < 17; j++) {
+                    if (board.getCell(i, j).getType() != Cell.CellType.MINE) {
+                        assertEquals(board.countAdjacentMines(i, j), counts[i * 17 + j],
+                                "Wrong count at " + i + "," + j + " after edit " + edit + ".");
+                    }
+                }
+            }
+        }
+
+        int[] incremental = counts();
+        board.recountAdjacentMines();
+        assertArrayEquals(incremental, counts(), "Bulk recount should match incremental updates.");
+        assertEquals(mines, board.getTotalMines());
+    }
+
+    /**
+     * Boundary Test: edits are rejected outside the board and ignored when redundant.
+     */
+    @Test
+    public void testAddRemoveMine_InvalidOrRedundant() {
+        assertThrows(IllegalArgumentException.class, () -> board.addMine(12, 0));
+        assertThrows(IllegalArgumentException.class, () -> board.removeMine(0, -1));
+        assertFalse(board.removeMine(0, 0), "No mine to remove.");
+        assertTrue(board.addMine(0, 0));
+        assertFalse(board.addMine(0, 0), "Mine already present.");
+    }
+}
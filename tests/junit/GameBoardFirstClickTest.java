@@ -0,0 +1,113 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import model.Cell;
+import model.GameBoard;
+import model.NumberCell;
+import model.RevealResult;
+
+public class GameBoardFirstClickTest {
+
+    /**
+     * Checks the mine total and that every regular cell's count matches its neighbours.
+     */
+    private void assertConsistent(GameBoard board, int expectedMines) {
+        int mines = 0;
+        for (int i = 0; i < board.getRows(); i++) {
+            for (int j = 0; j < board.getCols(); j++) {
+                Cell cell = board.getCell(i, j);
+                int adjacent = board.countAdjacentMines(i, j);
+                switch (cell.getType()) {
+                    case MINE:
+                        mines++;
+                        break;
+                    case EMPTY:
+                        assertEquals(0, adjacent, "Empty cell at " + i + "," + j + " has adjacent mines.");
+                        break;
+                    case NUMBER:
+                        assertEquals(adjacent, ((NumberCell) cell).getAdjacentMines(),
+                                "Wrong count at " + i + "," + j + ".");
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        assertEquals(expectedMines, mines, "Moving mines must keep the mine count.");
+    }
+
+    /**
+     * Boundary Test: on a very dense board the first click still opens a region,
+     * and only local counts change.
+     */
+    @Test
+    public void testRevealCell_FirstClickDenseBoard_OpensRegion() {
+        for (long seed = 0; seed < 20; seed++) {
+            // Arrange
+            GameBoard board = new GameBoard(9, 9);
+            board.allocateCells(70, 0, 0, new ArrayList<>(), new SplittableRandom(seed));
+            board.setFirstClickOpening(true);
+
+            // Act
+            RevealResult result = board.revealCell(4, 4);
+
+            // Assert
+            assertFalse(result.isMineHit(), "The first click must never hit a mine.");
+            assertEquals(0, board.countAdjacentMines(4, 4), "The first click should open a region.");
+            assertConsistent(board, 70);
+        }
+    }
+
+    /**
+     * Normal Test: the opening guarantee is off by default, so on a dense board the first
+     * click usually lands next to a mine.
+     */
+    @Test
+    public void testRevealCell_FirstClickByDefault_NeighboursKeepMines() {
+        int besideMines = 0;
+        for (long seed = 0; seed < 20; seed++) {
+            // Arrange
+            GameBoard board = new GameBoard(9, 9);
+            board.allocateCells(70, 0, 0, new ArrayList<>(), new SplittableRandom(seed));
+
+            // Act
+            RevealResult result = board.revealCell(4, 4);
+
+            // Assert
+            assertFalse(result.isMineHit(), "The first click must never hit a mine.");
+            assertConsistent(board, 70);
+            if (board.countAdjacentMines(4, 4) > 0) {
+                besideMines++;
+            }
+        }
+        assertTrue(besideMines > 0, "Without the opening, neighbours of the first click should keep their mines.");
+    }
+
+    /**
+     * Normal Test: without the opening guarantee only the clicked cell is kept free.
+     */
+    @Test
+    public void testRevealCell_FirstClickWithoutOpening_OnlyCellSafe() {
+        // Arrange: find a seed whose layout has a mine under the click
+        GameBoard board;
+        long seed = 0;
+        do {
+            board = new GameBoard(9, 9);
+            board.allocateCells(40, 0, 0, new ArrayList<>(), new SplittableRandom(seed++));
+        } while (board.getCell(0, 0).getType() != Cell.CellType.MINE);
+        board.setFirstClickOpening(false);
+
+        // Act
+        RevealResult result = board.revealCell(0, 0);
+
+        // Assert
+        assertFalse(result.isMineHit(), "The first click must never hit a mine.");
+        assertConsistent(board, 40);
+    }
+}
@@ -0,0 +1,111 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.Cell;
+import model.GameBoard;
+import model.NumberCell;
+import model.Question;
+import model.QuestionCell;
+
+public class GameBoardPackedCellTest {
+
+    // Fixture: a fresh EASY-sized board for each test
+    private GameBoard board;
+    private List<Question> questions;
+
+    @BeforeEach
+    public void setUp() {
+        questions = new ArrayList<>();
+        questions.add(new Question(1, "Q1", 1, "a", "b", "c", "d", "A"));
+        questions.add(new Question(2, "Q2", 2, "a", "b", "c", "d", "B"));
+
+        board = new GameBoard(9, 9);
+        board.allocateCells(10, 6, 2, questions);
+    }
+
+    /**
+     * Allocation still produces the exact requested counts on the packed board.
+     */
+    @Test
+    public void testAllocateCells_ExactCounts() {
+        int mines = 0, questionCells = 0, surprises = 0;
+        for (int i = 0; i < 9; i++) {
+            for (int j = 0; j < 9; j++) {
+                switch (board.getCell(i, j).getType()) {
+                    case MINE: mines++; break;
+                    case QUESTION: questionCells++; break;
+                    case SURPRISE: surprises++; break;
+                    default: break;
+                }
+            }
+        }
+
+        assertEquals(10, mines, "Expected exactly 10 mines.");
+        assertEquals(6, questionCells, "Expected exactly 6 question cells.");
+        assertEquals(2, surprises, "Expected exactly 2 surprise cells.");
+    }
+
+    /**
+     * Cell views read and write the board state directly, so two views of the
+     * same position always agree.
+     */
+    @Test
+    public void testGetCell_ViewsShareBoardState() {
+        // Arrange
+        Cell before = board.getCell(0, 0);
+
+        // Act
+        board.flagCell(0, 0);
+
+        // Assert
+        assertTrue(before.isFlagged(), "Existing view should see the flag placed through the board.");
+        before.setFlagScoreContributed(true);
+        assertTrue(board.getCell(0, 0).hasFlagScoreContributed(),
+                "New view should see the scoring flag set through another view.");
+    }
+
+    /**
+     * Number cells expose the adjacent mine count stored in the packed bits.
+     */
+    @Test
+    public void testGetCell_NumberCellMatchesAdjacentMines() {
+        for (int i = 0; i < 9; i++) {
+            for (int j = 0; j < 9; j++) {
+                Cell cell = board.getCell(i, j);
+                if (cell instanceof NumberCell) {
+                    assertEquals(board.countAdjacentMines(i, j), ((NumberCell) cell).getAdjacentMines(),
+                            "NumberCell count should match the mines around it.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Question cells keep their question and opened flag across views.
+     */
+    @Test
+    public void testGetCell_QuestionCellStatePersists() {
+        for (int i = 0; i < 9; i++) {
+            for (int j = 0; j < 9; j++) {
+                if (board.getCell(i, j) instanceof QuestionCell) {
+                    QuestionCell cell = (QuestionCell) board.getCell(i, j);
+                    assertNotNull(cell.getQuestion(), "Question cell should carry a question.");
+
+                    cell.markQuestionOpened();
+
+                    assertTrue(((QuestionCell) board.getCell(i, j)).isQuestionOpened(),
+                            "Opened flag should persist on the board.");
+                    return;
+                }
+            }
+        }
+        fail("Expected at least one question cell on the board.");
+    }
+}
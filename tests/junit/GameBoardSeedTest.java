@@ -0,0 +1,83 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import model.BoardSpec;
+import model.Cell;
+import model.Game;
+import model.GameBoard;
+import model.GeneratedBoards;
+
+public class GameBoardSeedTest {
+
+    /**
+     * Generates a HARD-sized board from the given seed.
+     */
+    private GameBoard generate(long seed) {
+        BoardSpec spec = Game.Difficulty.HARD.getBoardSpec();
+        GameBoard board = new GameBoard(spec.getRows(), spec.getCols());
+        board.allocateCells(spec, new ArrayList<>(), new SplittableRandom(seed));
+        return board;
+    }
+
+    /**
+     * Encodes the layout of a board (type and adjacent count of every cell) as a string.
+     */
+    private String layout(GameBoard board) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < board.getRows(); i++) {
+            for (int j = 0; j < board.getCols(); j++) {
+                Cell cell = board.getCell(i, j);
+                sb.append(cell.getType().ordinal()).append(board.countAdjacentMines(i, j));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Normal Test: the same seed always regenerates the same board.
+     */
+    @Test
+    public void testAllocateCells_SameSeed_SameLayout() {
+        assertEquals(layout(generate(123456789L)), layout(generate(123456789L)),
+                "Boards generated from the same seed should be identical.");
+    }
+
+    /**
+     * Normal Test: different seeds give different boards.
+     */
+    @Test
+    public void testAllocateCells_DifferentSeeds_DifferentLayouts() {
+        assertNotEquals(layout(generate(1L)), layout(generate(2L)),
+                "Boards generated from different seeds should differ.");
+    }
+
+    /**
+     * Normal Test: boards generated in parallel match boards generated one at a time
+     * from the same streams.
+     */
+    @Test
+    public void testGenerateBoards_Parallel_MatchesSequential() {
+        // Arrange: a board large enough to be generated in parallel
+        BoardSpec spec = BoardSpec.withDensity(200, 200, 0.15, 20, 10);
+        SplittableRandom root = new SplittableRandom(99L);
+        SplittableRandom[] streams = { root.split(), root.split(), root.split() };
+
+        // Act
+        GameBoard[] parallel = GeneratedBoards.generateBoards(spec, ForkJoinPool.commonPool(), streams);
+
+        // Assert
+        root = new SplittableRandom(99L);
+        for (int i = 0; i < parallel.length; i++) {
+            GameBoard sequential = new GameBoard(spec.getRows(), spec.getCols());
+            sequential.allocateCells(spec, new ArrayList<>(), root.split());
+            assertEquals(layout(sequential), layout(parallel[i]), "Board " + i + " differs.");
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.BoardStats;
+import model.Cell;
+import model.GameBoard;
+
+public class GameBoardStatsTest {
+
+    // Fixture: a MEDIUM-sized board for each test
+    private GameBoard board;
+
+    @BeforeEach
+    public void setUp() {
+        board = new GameBoard(13, 13);
+        board.allocateCells(26, 7, 3, new ArrayList<>());
+    }
+
+    /**
+     * Recomputes the counters by scanning every cell and compares them to the live ones.
+     */
+    private void assertStatsMatchBoard() {
+        int hiddenSafe = 0, flags = 0, unflaggedMines = 0, revealedMines = 0;
+        int[] revealed = new int[Cell.CellType.values().length];
+        for (int i = 0; i < board.getRows(); i++) {
+            for (int j = 0; j < board.getCols(); j++) {
+                Cell cell = board.getCell(i, j);
+                boolean mine = cell.getType() == Cell.CellType.MINE;
+                if (cell.isFlagged()) flags++;
+                if (cell.isRevealed()) {
+                    revealed[cell.getType().ordinal()]++;
+                    if (mine) revealedMines++;
+                } else if (!mine) {
+                    hiddenSafe++;
+                } else if (cell.isHidden()) {
+                    unflaggedMines++;
+                }
+            }
+        }
+
+        BoardStats stats = board.getStats();
+        assertEquals(hiddenSafe, stats.getHiddenSafeCells(), "Hidden safe cells out of sync.");
+        assertEquals(flags, stats.getFlagsPlaced(), "Flags placed out of sync.");
+        assertEquals(unflaggedMines, stats.getUnflaggedMines(), "Unflagged mines out of sync.");
+        assertEquals(board.getTotalMines() - flags - revealedMines, board.getMinesLeft(),
+                "Mines left out of sync.");
+        for (Cell.CellType type : Cell.CellType.values()) {
+            assertEquals(revealed[type.ordinal()], stats.getRevealedCount(type),
+                    "Revealed " + type + " count out of sync.");
+        }
+        assertEquals(hiddenSafe == 0, board.isGameWon(), "Win detection out of sync.");
+    }
+
+    /**
+     * Counters stay exact through random reveals, flags, cascades and view writes.
+     */
+    @Test
+    public void testStats_RandomMoves_MatchFullScan() {
+        Random random = new Random(42);
+        assertStatsMatchBoard();
+
+        for (int move = 0; move < 300; move++) {
+            int row = random.nextInt(13);
+            int col = random.nextInt(13);
+            switch (random.nextInt(3)) {
+                case 0:
+                    board.revealCell(row, col);
+                    break;
+                case 1:
+                    board.flagCell(row, col);
+                    break;
+                default:
+                    board.getCell(row, col).toggleFlag();
+                    break;
+            }
+            assertStatsMatchBoard();
+        }
+    }
+
+    /**
+     * Revealing every cell at game over is reflected in the counters.
+     */
+    @Test
+    public void testStats_RevealAllCells_NoHiddenCellsLeft() {
+        // Arrange
+        board.flagCell(0, 0);
+
+        // Act
+        board.revealAllCells();
+
+        // Assert
+        assertStatsMatchBoard();
+        assertTrue(board.isGameWon(), "All safe cells are revealed after revealAllCells.");
+        assertEquals(0, board.getStats().getFlagsPlaced(), "No flags remain after revealAllCells.");
+    }
+}
@@ -0,0 +1,130 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import model.Cell;
+import model.GameBoard;
+import model.RevealResult;
+
+public class GameBoardZeroRegionTest {
+
+    /**
+     * Reference cascade: a plain flood fill over the cell views, run before the reveal.
+     */
+    private Set<Integer> expectedReveal(GameBoard board, int row, int col) {
+        Set<Integer> revealed = new HashSet<>();
+        Cell start = board.getCell(row, col);
+        if (start.isRevealed()) {
+            return revealed;
+        }
+        int cols = board.getCols();
+        revealed.add(row * cols + col);
+        if (!cascades(start)) {
+            return revealed;
+        }
+        Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[] { row, col });
+        while (!stack.isEmpty()) {
+            int[] cell = stack.pop();
+            for (int i = cell[0] - 1; i <= cell[0] + 1; i++) {
+                for (int j = cell[1] - 1; j <= cell[1] + 1; j++) {
+                    if (i < 0 || j < 0 || i >= board.getRows() || j >= cols) continue;
+                    Cell neighbour = board.getCell(i, j);
+                    if (!neighbour.isHidden() || !revealed.add(i * cols + j)) {
+                        continue;
+                    }
+                    if (neighbour.getType() == Cell.CellType.MINE) {
+                        revealed.remove(i * cols + j);
+                    } else if (cascades(neighbour)) {
+                        stack.push(new int[] { i, j });
+                    }
+                }
+            }
+        }
+        return revealed;
+    }
+
+    private boolean cascades(Cell cell) {
+        Cell.CellType type = cell.getType();
+        return type == Cell.CellType.EMPTY || type == Cell.CellType.QUESTION || type == Cell.CellType.SURPRISE;
+    }
+
+    /**
+     * Normal Test: indexed openings reveal exactly what a flood fill would, including
+     * regions split by flags and regions relabelled after mine edits.
+     */
+    @Test
+    public void testRevealCell_IndexedOpenings_MatchFloodFill() {
+        Random random = new Random(11);
+        for (long seed = 0; seed < 10; seed++) {
+            GameBoard board = new GameBoard(30, 30);
+            board.allocateCells(90, 6, 3, new ArrayList<>(), new SplittableRandom(seed));
+            board.revealCell(15, 15); // The first click may move mines, so it is not compared
+
+            for (int move = 0; move < 200; move++) {
+                int row = random.nextInt(30);
+                int col = random.nextInt(30);
+                int action = random.nextInt(10);
+                if (action < 3) {
+                    board.flagCell(row, col);
+                } else if (action == 3 && !board.getCell(row, col).isRevealed()) {
+                    board.addMine(row, col);
+                } else {
+                    Set<Integer> expected = board.getCell(row, col).isFlagged()
+                            ? null : expectedReveal(board, row, col);
+                    RevealResult result = board.revealCell(row, col);
+                    if (expected == null) {
+                        continue; // Flagged cells are unflagged first, which the reference does not model
+                    }
+                    Set<Integer> actual = new HashSet<>();
+                    for (int k = 0; k < result.size(); k++) {
+                        actual.add(result.getIndex(k));
+                    }
+                    assertEquals(expected, actual, "Seed " + seed + ", move " + move + " at " + row + "," + col);
+                }
+            }
+        }
+    }
+
+    /**
+     * Boundary Test: once flags split a region and the rest of it was revealed, removing
+     * the flags does not let one pocket's opening reveal the other pocket.
+     */
+    @Test
+    public void testRevealCell_UnflaggedPockets_OpenOnlyTheClickedPocket() {
+        // Arrange: a mine-free 3x9 board is one region; flags wall off both top corners
+        GameBoard board = new GameBoard(3, 9);
+        board.allocateCells(0, 0, 0, new ArrayList<>());
+        int[][] walls = { { 0, 1 }, { 1, 0 }, { 1, 1 }, { 0, 7 }, { 1, 7 }, { 1, 8 } };
+        for (int[] wall : walls) {
+            board.flagCell(wall[0], wall[1]);
+        }
+        board.revealCell(2, 4);
+        for (int[] wall : walls) {
+            board.flagCell(wall[0], wall[1]);
+        }
+        Set<Integer> expected = expectedReveal(board, 0, 0);
+
+        // Act
+        RevealResult result = board.revealCell(0, 0);
+
+        // Assert
+        Set<Integer> actual = new HashSet<>();
+        for (int k = 0; k < result.size(); k++) {
+            actual.add(result.getIndex(k));
+        }
+        assertEquals(Set.of(0, 1, 9, 10), expected, "The reference fill opens the left pocket only.");
+        assertEquals(expected, actual);
+        assertTrue(board.getCell(0, 8).isHidden(), "The right pocket should stay hidden.");
+    }
+}
@@ -0,0 +1,142 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import controller.GameEngine;
+import controller.MoveOutcome;
+import controller.QuestionLogic;
+import controller.ScoringService;
+import model.Cell;
+import model.Game;
+import model.GameBoard;
+
+public class GameEngineTest {
+
+    private Game game;
+    private GameEngine engine;
+
+    @BeforeEach
+    public void setUp() {
+        QuestionLogic questionLogic = new QuestionLogic();
+        try {
+            questionLogic.loadQuestionsFromCSV("resources/Questions.csv");
+        } catch (Exception e) {
+            // Boards still initialize without questions
+        }
+        game = new Game("Player1", "Player2", Game.Difficulty.EASY, Game.Difficulty.EASY.getBoardSpec(),
+                questionLogic, 42L);
+        engine = new GameEngine(game, new ScoringService(null, new Random(42L)));
+    }
+
+    /**
+     * Finds a hidden cell of the given type on a board, or null.
+     */
+    private int[] findHidden(GameBoard board, Cell.CellType type) {
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                Cell cell = board.getCell(r, c);
+                if (cell.isHidden() && cell.getType() == type) {
+                    return new int[] { r, c };
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Normal Test: turn order is enforced, a reveal scores and passes the turn, and a
+     * flag keeps it, all without any user interface.
+     */
+    @Test
+    public void testRevealAndFlag_ApplyTurnOrderAndScoring() {
+        // Arrange
+        int middle = game.getPlayer1Board().getRows() / 2;
+
+        // Act
+        MoveOutcome wrongTurn = engine.reveal(2, middle, middle);
+        MoveOutcome reveal = engine.reveal(1, middle, middle);
+        int[] hidden = findHidden(game.getPlayer2Board(), Cell.CellType.NUMBER);
+        MoveOutcome flag = engine.flag(2, hidden[0], hidden[1]);
+        MoveOutcome unflag = engine.flag(2, hidden[0], hidden[1]);
+
+        // Assert
+        assertEquals(MoveOutcome.Type.NOT_YOUR_TURN, wrongTurn.getType());
+        assertFalse(wrongTurn.isPlayed());
+        assertTrue(reveal.isPlayed());
+        assertEquals(1, reveal.getScoreChange());
+        assertEquals(0, reveal.getLivesChange());
+        assertFalse(reveal.getChanges().isEmpty());
+        assertEquals(MoveOutcome.Type.FLAGGED, flag.getType());
+        assertEquals(MoveOutcome.Type.UNFLAGGED, unflag.getType());
+        assertEquals(2, game.getCurrentPlayer());
+        assertEquals(1, game.getCombinedScore());
+        engine.reveal(2, middle, middle);
+        assertEquals(MoveOutcome.Type.CANNOT_FLAG_REVEALED, engine.flag(1, middle, middle).getType());
+    }
+
+    /**
+     * Boundary Test: hitting mines until the shared lives run out ends the game with a
+     * loss, and every later command is ignored.
+     */
+    @Test
+    public void testMineHits_EndGameWhenLivesRunOut() {
+        // Arrange: play each board's first (always safe) click
+        int middle = game.getPlayer1Board().getRows() / 2;
+        engine.reveal(1, middle, middle);
+        engine.reveal(2, middle, middle);
+        int lives = game.getSharedLives();
+
+        // Act
+        MoveOutcome last = null;
+        for (int move = 0; move < lives; move++) {
+            int player = game.getCurrentPlayer();
+            int[] mine = findHidden(game.getBoard(player), Cell.CellType.MINE);
+            last = engine.reveal(player, mine[0], mine[1]);
+            assertEquals(MoveOutcome.Type.MINE_HIT, last.getType());
+            assertEquals(-1, last.getLivesChange());
+        }
+
+        // Assert
+        assertTrue(last.isGameOver());
+        assertFalse(last.isWon());
+        assertEquals(0, game.getSharedLives());
+        assertTrue(game.isGameOver());
+        assertEquals(MoveOutcome.Type.IGNORED, engine.reveal(game.getCurrentPlayer(), 0, 0).getType());
+    }
+
+    /**
+     * Boundary Test: a move that hits a mine on a board with no hidden safe cells left
+     * wins the game instead of passing the turn, as long as lives remain.
+     */
+    @Test
+    public void testMineHit_OnClearedBoard_WinsGame() {
+        // Arrange: open every safe cell of player 1's board behind the engine's back
+        int middle = game.getPlayer1Board().getRows() / 2;
+        engine.reveal(1, middle, middle);
+        engine.reveal(2, middle, middle);
+        GameBoard board = game.getPlayer1Board();
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                if (board.getCell(r, c).isHidden() && board.getCell(r, c).getType() != Cell.CellType.MINE) {
+                    board.revealCell(r, c);
+                }
+            }
+        }
+        int[] mine = findHidden(board, Cell.CellType.MINE);
+
+        // Act
+        MoveOutcome outcome = engine.reveal(1, mine[0], mine[1]);
+
+        // Assert
+        assertEquals(MoveOutcome.Type.MINE_HIT, outcome.getType());
+        assertTrue(outcome.isGameOver());
+        assertTrue(outcome.isWon());
+        assertTrue(game.isGameWon());
+        assertTrue(game.getSharedLives() > 0);
+    }
+}
@@ -0,0 +1,74 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import controller.GameSimulator;
+import controller.QuestionLogic;
+import controller.SimulationResult;
+import model.Game;
+
+public class GameSimulatorTest {
+
+    private QuestionLogic loadQuestions() {
+        QuestionLogic questionLogic = new QuestionLogic();
+        try {
+            questionLogic.loadQuestionsFromCSV("resources/Questions.csv");
+        } catch (Exception e) {
+            // Boards still initialize without questions
+        }
+        return questionLogic;
+    }
+
+    /**
+     * Normal Test: a seed gives the same aggregated result however many threads play,
+     * and every game is recorded once in each distribution.
+     */
+    @Test
+    public void testSimulate_SameResultOnAnyPoolSize() {
+        // Arrange
+        QuestionLogic questionLogic = loadQuestions();
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+
+        try {
+            // Act
+            SimulationResult first = new GameSimulator(single, questionLogic)
+                    .simulate(Game.Difficulty.EASY, 300, GameSimulator.MovePolicy.RANDOM, 0.5, 7L);
+            SimulationResult second = new GameSimulator(several, questionLogic)
+                    .simulate(Game.Difficulty.EASY, 300, GameSimulator.MovePolicy.RANDOM, 0.5, 7L);
+
+            // Assert
+            assertEquals(300, first.getGames());
+            assertEquals(300, first.getScores().getCount());
+            assertEquals(300, first.getLengths().getCount());
+            assertEquals(0, first.getMovesCapped());
+            assertEquals(first.getWins(), second.getWins());
+            assertEquals(first.getScores().getMean(), second.getScores().getMean());
+            assertEquals(first.getLengths().getPercentile(90), second.getLengths().getPercentile(90));
+            assertTrue(first.getLives().getMin() >= 0);
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    /**
+     * Boundary Test: question accuracy outside 0..1 and negative game counts are rejected.
+     */
+    @Test
+    public void testSimulate_InvalidArguments_Throw() {
+        // Arrange
+        GameSimulator simulator = new GameSimulator(ForkJoinPool.commonPool(), loadQuestions());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                simulator.simulate(Game.Difficulty.EASY, 10, GameSimulator.MovePolicy.RANDOM, 1.5, 1L));
+        assertThrows(IllegalArgumentException.class, () ->
+                simulator.simulate(Game.Difficulty.EASY, -1, GameSimulator.MovePolicy.RANDOM, 0.5, 1L));
+        assertEquals(0, simulator.simulate(Game.Difficulty.EASY, 0, GameSimulator.MovePolicy.SOLVER, 0.5, 1L).getGames());
+    }
+}
@@ -0,0 +1,69 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import model.Cell;
+import model.GameBoard;
+import model.NeighbourCounter;
+import model.NumberCell;
+
+public class NeighbourCounterTest {
+
+    /**
+     * Normal Test: the word-parallel count matches the per-cell reference, including
+     * widths that are not a multiple of 64 and rows that span several words.
+     */
+    @Test
+    public void testCount_MatchesScalar() {
+        Random random = new Random(3);
+        int[][] sizes = { { 1, 1 }, { 3, 63 }, { 5, 64 }, { 7, 65 }, { 40, 200 } };
+        for (int[] size : sizes) {
+            int rows = size[0], cols = size[1];
+            long[] plane = NeighbourCounter.newPlane(rows, cols);
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < cols; j++) {
+                    if (random.nextInt(3) == 0) {
+                        NeighbourCounter.set(plane, cols, i, j);
+                    }
+                }
+            }
+
+            byte[] swar = new byte[rows * cols];
+            byte[] scalar = new byte[rows * cols];
+            NeighbourCounter.count(plane, rows, cols, swar);
+            NeighbourCounter.countScalar(plane, rows, cols, scalar);
+
+            assertArrayEquals(scalar, swar, "Counts differ on a " + rows + "x" + cols + " plane.");
+        }
+    }
+
+    /**
+     * Normal Test: a wide board recounts its numbers through the bit-plane path unchanged.
+     */
+    @Test
+    public void testRecountAdjacentMines_WideBoard_KeepsCounts() {
+        // Arrange
+        GameBoard board = new GameBoard(30, 130);
+        board.allocateCells(600, 0, 0, new ArrayList<>());
+
+        // Act
+        board.recountAdjacentMines();
+
+        // Assert
+        for (int i = 0; i < 30; i++) {
+            for (int j = 0; j < 130; j++) {
+                Cell cell = board.getCell(i, j);
+                if (cell.getType() == Cell.CellType.NUMBER) {
+                    assertEquals(board.countAdjacentMines(i, j), ((NumberCell) cell).getAdjacentMines());
+                } else if (cell.getType() == Cell.CellType.EMPTY) {
+                    assertEquals(0, board.countAdjacentMines(i, j));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import controller.HistoryManager;
+import model.BoardSpec;
+import model.Cell;
+import model.Game;
+import model.GameBoard;
+import model.GameHistory;
+import model.GeneratedBoards;
+import model.GenerationStats;
+import model.NoGuessGenerator;
+import model.NoGuessLayout;
+
+public class NoGuessGeneratorTest {
+
+    /**
+     * Normal Test: a certified board starts with a revealed opening, and the same seed
+     * gives the same board whether one thread or several searched for it.
+     */
+    @Test
+    public void testGenerate_SameSeed_SameBoardOnAnyPool() {
+        // Arrange
+        BoardSpec spec = Game.Difficulty.MEDIUM.getBoardSpec();
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+
+        try {
+            // Act
+            NoGuessGenerator.Result first = new NoGuessGenerator(single, 10_000).generate(spec, 99);
+            NoGuessGenerator.Result second = new NoGuessGenerator(several, 10_000).generate(spec, 99);
+
+            // Assert
+            assertTrue(first.isCertified());
+            assertEquals(first.getStartRow(), second.getStartRow());
+            assertEquals(first.getStartCol(), second.getStartCol());
+            GameBoard a = first.getBoard();
+            GameBoard b = second.getBoard();
+            Cell start = a.getCell(first.getStartRow(), first.getStartCol());
+            assertTrue(start.isRevealed());
+            assertNotEquals(Cell.CellType.MINE, start.getType());
+            for (int row = 0; row < a.getRows(); row++) {
+                for (int col = 0; col < a.getCols(); col++) {
+                    assertEquals(a.getCell(row, col).getType(), b.getCell(row, col).getType());
+                    assertEquals(a.getCell(row, col).isRevealed(), b.getCell(row, col).isRevealed());
+                }
+            }
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    /**
+     * Boundary Test: with no time budget the generator falls back to an ordinary board,
+     * and the statistics record both generations.
+     */
+    @Test
+    public void testGenerate_NoTimeBudget_FallsBackAndRecordsStats() {
+        // Arrange
+        BoardSpec spec = Game.Difficulty.EASY.getBoardSpec();
+        NoGuessGenerator timedOut = new NoGuessGenerator(ForkJoinPool.commonPool(), 0);
+
+        // Act
+        NoGuessGenerator.Result fallback = timedOut.generate(spec, 5);
+        timedOut.generate(spec, 6);
+        GenerationStats stats = timedOut.getStats(spec);
+
+        // Assert
+        assertFalse(fallback.isCertified());
+        assertEquals(-1, fallback.getStartRow());
+        assertEquals(spec.getMineCount(), fallback.getBoard().getTotalMines());
+        assertEquals(2, stats.getGenerations());
+        assertEquals(0, stats.getCertifiedGenerations());
+        assertTrue(stats.getTimePercentileMillis(50) <= stats.getTimePercentileMillis(99));
+    }
+
+    /**
+     * Asserts that two boards have the same cell types and the same revealed cells.
+     */
+    private void assertSameBoard(GameBoard expected, GameBoard actual) {
+        for (int row = 0; row < expected.getRows(); row++) {
+            for (int col = 0; col < expected.getCols(); col++) {
+                assertEquals(expected.getCell(row, col).getType(), actual.getCell(row, col).getType());
+                assertEquals(expected.getCell(row, col).isRevealed(), actual.getCell(row, col).isRevealed());
+            }
+        }
+    }
+
+    /**
+     * Normal Test: a no-guess game saved to history regenerates the exact same boards,
+     * including a fallback board, without running the timed search again.
+     */
+    @Test
+    public void testRegenerate_NoGuessGameFromHistory_SameBoards() throws IOException {
+        // Arrange: player 1's board is certified, player 2's is a timed-out fallback
+        BoardSpec spec = Game.Difficulty.EASY.getBoardSpec();
+        NoGuessGenerator generator = new NoGuessGenerator(ForkJoinPool.commonPool(), 10_000);
+        NoGuessGenerator.Result certified = generator.generate(spec, 11);
+        NoGuessGenerator.Result fallback = new NoGuessGenerator(ForkJoinPool.commonPool(), 0).generate(spec, 12);
+        NoGuessLayout layout = new NoGuessLayout(certified.getCandidateSeed(), certified.isCertified(),
+                fallback.getCandidateSeed(), fallback.isCertified());
+        File file = Files.createTempFile("history", ".csv").toFile();
+        file.deleteOnExit();
+        HistoryManager historyManager = new HistoryManager(file);
+
+        // Act
+        historyManager.saveGameHistoryToCSV(List.of(new GameHistory(Game.Difficulty.EASY, LocalDate.now(), 60,
+                "A", "B", 10, 3, spec, 42L, layout)));
+        GameHistory loaded = historyManager.loadGameHistoryFromCSV().get(0);
+        GeneratedBoards boards = loaded.regenerateBoards();
+
+        // Assert
+        assertTrue(certified.isCertified());
+        assertFalse(fallback.isCertified());
+        assertEquals(layout, loaded.getNoGuessLayout());
+        assertTrue(boards.isNoGuess());
+        assertEquals(42L, boards.getSeed());
+        assertSameBoard(certified.getBoard(), boards.getPlayer1Board());
+        assertSameBoard(fallback.getBoard(), boards.getPlayer2Board());
+    }
+}
@@ -0,0 +1,139 @@
+package junit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import model.BoardSpec;
+import model.Cell;
+import model.GameBoard;
+import model.NeighbourTable;
+import model.NumberCell;
+import model.Topology;
+
+public class TopologyTest {
+
+    /**
+     * Checks that every neighbour relation in the table is symmetric, distinct and in range.
+     */
+    private void assertSymmetric(NeighbourTable table) {
+        int size = table.getRows() * table.getCols();
+        for (int index = 0; index < size; index++) {
+            Set<Integer> seen = new HashSet<>();
+            for (int delta : table.deltas(index)) {
+                int neighbour = index + delta;
+                assertTrue(neighbour >= 0 && neighbour < size, "Neighbour out of range.");
+                assertNotEquals(index, neighbour, "A cell cannot neighbour itself.");
+                assertTrue(seen.add(neighbour), "Duplicate neighbour of " + index + ".");
+                boolean back = false;
+                for (int backDelta : table.deltas(neighbour)) {
+                    back |= neighbour + backDelta == index;
+                }
+                assertTrue(back, "Neighbour relation " + index + " -> " + neighbour + " is not symmetric.");
+            }
+        }
+    }
+
+    /**
+     * Normal Test: each shipped topology has the expected degrees and symmetric tables.
+     */
+    @Test
+    public void testTables_DegreesAndSymmetry() {
+        NeighbourTable grid = Topology.GRID.getTable(5, 7);
+        assertEquals(3, grid.degree(0), "Grid corner");
+        assertEquals(5, grid.degree(3), "Grid edge");
+        assertEquals(8, grid.degree(7 + 3), "Grid interior");
+
+        NeighbourTable torus = Topology.TORUS.getTable(5, 7);
+        for (int index = 0; index < 35; index++) {
+            assertEquals(8, torus.degree(index), "Every torus cell has eight neighbours.");
+        }
+
+        NeighbourTable hex = Topology.HEX.getTable(5, 7);
+        assertEquals(6, hex.degree(7 + 3), "Hex interior, odd row");
+        assertEquals(6, hex.degree(14 + 3), "Hex interior, even row");
+
+        assertSymmetric(grid);
+        assertSymmetric(torus);
+        assertSymmetric(hex);
+        assertSame(grid, Topology.GRID.getTable(5, 7), "Tables are shared per board size.");
+    }
+
+    /**
+     * Boundary Test: only a few recently used sizes stay cached, and a board keeps its table.
+     */
+    @Test
+    public void testGetTable_ManySizes_EvictsLeastRecentlyUsed() {
+        // Arrange
+        NeighbourTable first = Topology.TORUS.getTable(3, 3);
+        GameBoard board = new GameBoard(3, 3, Topology.TORUS);
+
+        // Act
+        for (int size = 4; size < 40; size++) {
+            Topology.TORUS.getTable(size, size);
+        }
+
+        // Assert
+        assertNotSame(first, Topology.TORUS.getTable(3, 3), "Old sizes should be evicted.");
+        assertSame(first, board.getNeighbourTable(), "The board should keep the table it was built with.");
+    }
+
+    /**
+     * Normal Test: generated numbers match the topology's neighbourhoods.
+     */
+    @Test
+    public void testAllocateCells_NonGridTopologies_CountsMatch() {
+        for (Topology topology : new Topology[] { Topology.TORUS, Topology.HEX }) {
+            // Arrange
+            BoardSpec spec = new BoardSpec(12, 15, 25, 0, 0, topology);
+            GameBoard board = new GameBoard(12, 15, topology);
+
+            // Act
+            board.allocateCells(spec, new ArrayList<>());
+
+            // Assert
+            for (int i = 0; i < 12; i++) {
+                for (int j = 0; j < 15; j++) {
+                    Cell cell = board.getCell(i, j);
+                    if (cell.getType() == Cell.CellType.NUMBER) {
+                        assertEquals(board.countAdjacentMines(i, j), ((NumberCell) cell).getAdjacentMines(),
+                                topology + " count at " + i + "," + j);
+                    } else if (cell.getType() == Cell.CellType.EMPTY) {
+                        assertEquals(0, board.countAdjacentMines(i, j), topology + " empty cell at " + i + "," + j);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Boundary Test: a board spec must match the topology of the board it generates.
+     */
+    @Test
+    public void testAllocateCells_TopologyMismatch_Throws() {
+        GameBoard board = new GameBoard(9, 9, Topology.HEX);
+        BoardSpec spec = new BoardSpec(9, 9, 10, 0, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> board.allocateCells(spec, new ArrayList<>()));
+    }
+
+    /**
+     * Boundary Test: a torus narrower than 3 cells would list a cell twice or as its own
+     * neighbour, so it is rejected; the smallest torus still has eight distinct neighbours.
+     */
+    @Test
+    public void testTorus_TooSmall_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new GameBoard(1, 9, Topology.TORUS));
+        assertThrows(IllegalArgumentException.class, () -> new GameBoard(9, 2, Topology.TORUS));
+        assertThrows(IllegalArgumentException.class, () -> Topology.TORUS.getTable(2, 2));
+
+        NeighbourTable smallest = Topology.TORUS.getTable(3, 3);
+        assertEquals(8, smallest.degree(4), "A 3x3 torus cell touches every other cell.");
+        assertSymmetric(smallest);
+        assertEquals(1, new GameBoard(1, 9).getRows(), "A grid may still be a single row.");
+    }
+}